@@ -0,0 +1,206 @@
+/*
+ *  ResultBenchmark.java, 2026-10-17
+ *
+ *  Copyright 2022  Koory1st, Inc. All rights reserved.
+ */
+
+package io.github.koory1st.util.result;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Result combinators against the equivalent try/catch control flow.
+ * <p>
+ * Every benchmark builds its input per call, so both sides pay for creating the failure
+ * (an Err on one side, an exception on the other). Run with {@code ./gradlew jmh}, which attaches
+ * the GC profiler so the per-call allocation rate ({@code gc.alloc.rate.norm}) is reported as well.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ResultBenchmark {
+    private static final String NEGATIVE = "negative";
+    private static final int SIZE = 1024;
+    private static final int MASK = SIZE - 1;
+
+    @Param({"OK_HEAVY", "ERR_HEAVY"})
+    public Workload workload;
+
+    private int[] inputs;
+    private int index;
+
+    public enum Workload {
+        OK_HEAVY(0.05),
+        ERR_HEAVY(0.95);
+
+        private final double errRatio;
+
+        Workload(double errRatio) {
+            this.errRatio = errRatio;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        inputs = new int[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            int value = random.nextInt(1000) + 1;
+            inputs[i] = random.nextDouble() < workload.errRatio ? -value : value;
+        }
+    }
+
+    private int next() {
+        index = (index + 1) & MASK;
+        return inputs[index];
+    }
+
+    private static Result<Integer, String> validate(int input) {
+        if (input < 0) {
+            return Err.of(NEGATIVE);
+        }
+        return Ok.of(input);
+    }
+
+    private static Result<Integer, String> half(Integer value) {
+        if ((value & 1) == 1) {
+            return Err.of(NEGATIVE);
+        }
+        return Ok.of(value / 2);
+    }
+
+    private static int parse(int input) {
+        if (input < 0) {
+            throw new IllegalArgumentException(NEGATIVE);
+        }
+        return input;
+    }
+
+    private static int halfOrThrow(int value) {
+        if ((value & 1) == 1) {
+            throw new IllegalArgumentException(NEGATIVE);
+        }
+        return value / 2;
+    }
+
+    @Benchmark
+    public Result<Integer, String> map() {
+        return validate(next()).map(value -> value + 1);
+    }
+
+    @Benchmark
+    public Result<Integer, String> andThen() {
+        return validate(next()).andThen(ResultBenchmark::half);
+    }
+
+    @Benchmark
+    public Result<Integer, Integer> mapErr() {
+        return validate(next()).mapErr(String::length);
+    }
+
+    @Benchmark
+    public Result<Integer, String> orElse() {
+        return validate(next()).orElse(err -> Ok.of(err.length()));
+    }
+
+    @Benchmark
+    public Integer unwrapOr() {
+        return validate(next()).unwrapOr(0);
+    }
+
+    @Benchmark
+    public Result<Integer, String> flatten() {
+        int input = next();
+        Result<Result<Integer, String>, String> nested = input < 0 ? Err.of(NEGATIVE) : Ok.of(validate(input));
+        //noinspection unchecked,rawtypes
+        return (Result) nested.flatten();
+    }
+
+    @Benchmark
+    public String toStringResult() {
+        return validate(next()).toString();
+    }
+
+    @Benchmark
+    public Integer expect() {
+        try {
+            return validate(next()).expect("validate");
+        } catch (ResultPanicException e) {
+            return -1;
+        }
+    }
+
+    @Benchmark
+    public int exceptionMap() {
+        try {
+            return parse(next()) + 1;
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+
+    @Benchmark
+    public int exceptionAndThen() {
+        try {
+            return halfOrThrow(parse(next()));
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+
+    @Benchmark
+    public int exceptionOrElse() {
+        try {
+            return parse(next());
+        } catch (IllegalArgumentException e) {
+            return e.getMessage().length();
+        }
+    }
+
+    @Benchmark
+    public int exceptionUnwrapOr() {
+        try {
+            return parse(next());
+        } catch (IllegalArgumentException e) {
+            return 0;
+        }
+    }
+
+    @Benchmark
+    public String exceptionToString() {
+        try {
+            return String.valueOf(parse(next()));
+        } catch (IllegalArgumentException e) {
+            return e.toString();
+        }
+    }
+
+    @Benchmark
+    public int exceptionExpect() {
+        try {
+            try {
+                return parse(next());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalStateException("validate: " + e.getMessage(), e);
+            }
+        } catch (IllegalStateException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ *  ResultCombineBenchmark.java, 2026-10-17
+ *
+ *  Copyright 2022  Koory1st, Inc. All rights reserved.
+ */
+
+package io.github.koory1st.util.result;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Results#combine} and {@link Result#scope} of five Results against the nested {@link Result#andThen}
+ * they replace.
+ * The inputs are built once, so only the combining is measured; {@code gc.alloc.rate.norm} shows the
+ * intermediate lambdas and Results of the nested version.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ResultCombineBenchmark {
+    @Param({"-1", "4"})
+    public int errAt;
+
+    private Result<Integer, String>[] results;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        results = new Result[5];
+        for (int i = 0; i < results.length; i++) {
+            results[i] = i == errAt ? Err.of("error") : Ok.of(1000 + i);
+        }
+    }
+
+    @Benchmark
+    public Result<Long, String> combine() {
+        return Results.combine(results[0], results[1], results[2], results[3], results[4],
+                (a, b, c, d, e) -> (long) a + b + c + d + e);
+    }
+
+    @Benchmark
+    public Result<Long, String> nestedAndThen() {
+        Result<Integer, String> r2 = results[1];
+        Result<Integer, String> r3 = results[2];
+        Result<Integer, String> r4 = results[3];
+        Result<Integer, String> r5 = results[4];
+        return results[0].andThen(a -> r2.andThen(b -> r3.andThen(c -> r4.andThen(d -> r5.map(
+                e -> (long) a + b + c + d + e)))));
+    }
+
+    @Benchmark
+    public Result<Long, String> scope() {
+        return Result.scope(ctx -> {
+            long a = ctx.bind(results[0]);
+            long b = ctx.bind(results[1]);
+            long c = ctx.bind(results[2]);
+            long d = ctx.bind(results[3]);
+            long e = ctx.bind(results[4]);
+            return Ok.of(a + b + c + d + e);
+        });
+    }
+}
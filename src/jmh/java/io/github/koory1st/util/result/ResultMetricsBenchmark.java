@@ -0,0 +1,91 @@
+/*
+ *  ResultMetricsBenchmark.java, 2026-10-17
+ *
+ *  Copyright 2022  Koory1st, Inc. All rights reserved.
+ */
+
+package io.github.koory1st.util.result;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The cost of the {@link ResultMetrics} hooks in {@link Ok#of(Object)} and {@link Err#of(Object)}.
+ * <p>
+ * The jmh classpath has no provider, so the plain benchmarks run with the metrics disabled and compare with the
+ * {@code new}-only baseline. The {@code counted} ones fork with {@link CountingResultMetrics} installed through
+ * the {@value ResultMetrics#METRICS_PROPERTY} property.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ResultMetricsBenchmark {
+    private static final String COUNTED = "-D" + ResultMetrics.METRICS_PROPERTY
+            + "=io.github.koory1st.util.result.CountingResultMetrics";
+    private static final int SIZE = 1024;
+    private static final int MASK = SIZE - 1;
+
+    private int index;
+    private String[] values;
+
+    private static final class Plain {
+        private final Object value;
+
+        private Plain(Object value) {
+            this.value = value;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        values = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            values[i] = "value " + i;
+        }
+    }
+
+    private String next() {
+        index = (index + 1) & MASK;
+        return values[index];
+    }
+
+    @Benchmark
+    public Object baseline() {
+        return new Plain(next());
+    }
+
+    @Benchmark
+    public Result<String, String> okOf() {
+        return Ok.of(next());
+    }
+
+    @Benchmark
+    public Result<String, String> errOf() {
+        return Err.of(next());
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = COUNTED)
+    public Result<String, String> okOfCounted() {
+        return Ok.of(next());
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = COUNTED)
+    public Result<String, String> errOfCounted() {
+        return Err.of(next());
+    }
+}
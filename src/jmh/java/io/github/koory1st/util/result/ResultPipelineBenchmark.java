@@ -0,0 +1,95 @@
+/*
+ *  ResultPipelineBenchmark.java, 2026-10-17
+ *
+ *  Copyright 2022  Koory1st, Inc. All rights reserved.
+ */
+
+package io.github.koory1st.util.result;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * An 8-step chain of Result calls against the same steps in a {@link ResultPipeline}.
+ * The values are Strings kept as they are, so {@code gc.alloc.rate.norm} only counts the Results themselves.
+ * <p>
+ * In an application, Result.map and friends are called with many different functions, so the JIT can't inline them
+ * and escape analysis can't remove the intermediate Results. {@link #setUp} reproduces that by calling both the
+ * Result methods and the pipeline with a few other functions first.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ResultPipelineBenchmark {
+    private static final String INPUT = "record";
+    private static final Function<String, String> STEP = s -> s;
+    private static final Function<String, Result<String, String>> CHECK = Ok::of;
+
+    private ResultPipeline<String, String, String> pipeline;
+    private ResultPipeline.Sink<String, String> sink;
+
+    @Setup
+    public void setUp(Blackhole blackhole) {
+        pollute(blackhole);
+        pipeline = ResultPipeline.<String, String>start()
+                .map(STEP).map(STEP).andThen(CHECK).mapErr(STEP)
+                .map(STEP).map(STEP).mapErr(STEP).map(STEP);
+        sink = new ResultPipeline.Sink<>() {
+            @Override
+            public void ok(String value) {
+                blackhole.consume(value);
+            }
+
+            @Override
+            public void err(String err) {
+                blackhole.consume(err);
+            }
+        };
+    }
+
+    private static void pollute(Blackhole blackhole) {
+        Function<String, String> upper = String::toUpperCase;
+        Function<String, String> lower = String::toLowerCase;
+        Function<String, String> trim = String::trim;
+        Function<String, Result<String, String>> err = Err::of;
+        for (int i = 0; i < 100_000; i++) {
+            Result<String, String> start = Ok.of(INPUT);
+            blackhole.consume(start.map(upper).map(lower).map(trim).andThen(err).mapErr(upper).mapErr(lower).mapErr(trim));
+            blackhole.consume(ResultPipeline.<String, String>start().map(upper).map(lower).map(trim).andThen(err)
+                    .mapErr(upper).mapErr(lower).mapErr(trim).apply(INPUT));
+        }
+    }
+
+    @Benchmark
+    public Result<String, String> chained() {
+        Result<String, String> start = Ok.of(INPUT);
+        return start
+                .map(STEP).map(STEP).andThen(CHECK).mapErr(STEP)
+                .map(STEP).map(STEP).mapErr(STEP).map(STEP);
+    }
+
+    @Benchmark
+    public Result<String, String> pipeline() {
+        return pipeline.apply(INPUT);
+    }
+
+    @Benchmark
+    public void pipelineSink() {
+        pipeline.run(INPUT, sink);
+    }
+}
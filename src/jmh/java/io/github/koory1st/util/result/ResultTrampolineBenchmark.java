@@ -0,0 +1,91 @@
+/*
+ *  ResultTrampolineBenchmark.java, 2026-10-17
+ *
+ *  Copyright 2022  Koory1st, Inc. All rights reserved.
+ */
+
+package io.github.koory1st.util.result;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A non-tail-recursive tree validation through {@link Result#andThen} against the same validation through
+ * {@link ResultTrampoline}, on balanced trees shallow enough for the direct recursion.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ResultTrampolineBenchmark {
+    @Param({"4", "10"})
+    public int depth;
+
+    private Node root;
+
+    private static final class Node {
+        private final Node left;
+        private final Node right;
+        private final int value;
+
+        private Node(int value, Node left, Node right) {
+            this.value = value;
+            this.left = left;
+            this.right = right;
+        }
+    }
+
+    private static Node tree(int depth) {
+        return depth == 0 ? null : new Node(depth, tree(depth - 1), tree(depth - 1));
+    }
+
+    private static Result<Integer, String> direct(Node node) {
+        if (node == null) {
+            return Ok.of(0);
+        }
+        if (node.value < 0) {
+            return Err.of("negative");
+        }
+        return direct(node.left).andThen(left -> direct(node.right).map(right -> left + right + 1));
+    }
+
+    private static ResultTrampoline<Integer, String> trampolined(Node node) {
+        if (node == null) {
+            return ResultTrampoline.ok(0);
+        }
+        if (node.value < 0) {
+            return ResultTrampoline.err("negative");
+        }
+        return ResultTrampoline.defer(() -> trampolined(node.left))
+                .andThen(left -> ResultTrampoline.<Integer, String>defer(() -> trampolined(node.right))
+                        .map(right -> left + right + 1));
+    }
+
+    @Setup
+    public void setUp() {
+        root = tree(depth);
+    }
+
+    @Benchmark
+    public Result<Integer, String> direct() {
+        return direct(root);
+    }
+
+    @Benchmark
+    public Result<Integer, String> trampolined() {
+        return trampolined(root).run();
+    }
+}
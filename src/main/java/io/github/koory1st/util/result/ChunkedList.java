@@ -0,0 +1,103 @@
+/*
+ *  ChunkedList.java, 2026-10-17
+ *
+ *  Copyright 2022  Koory1st, Inc. All rights reserved.
+ */
+
+package io.github.koory1st.util.result;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * An append-only list storing its elements in chunks that double in size, 16, 32, 64 and so on.
+ * Appending never copies the elements already stored, and the memory wasted is at most the last chunk.
+ * The list is unmodifiable from outside the package: only {@link #append(Object)} adds elements.
+ *
+ * @param <E> element
+ */
+final class ChunkedList<E> extends AbstractList<E> implements RandomAccess {
+    private static final int FIRST_CHUNK_SHIFT = 4;
+    private static final int FIRST_CHUNK_SIZE = 1 << FIRST_CHUNK_SHIFT;
+    // chunk k holds FIRST_CHUNK_SIZE << k elements, so a fixed directory covers every int index
+    private final Object[][] chunks = new Object[Integer.SIZE - FIRST_CHUNK_SHIFT][];
+    private int size;
+
+    /**
+     * @param element element
+     */
+    void append(E element) {
+        int chunk = chunkOf(size);
+        if (chunks[chunk] == null) {
+            chunks[chunk] = new Object[FIRST_CHUNK_SIZE << chunk];
+        }
+        chunks[chunk][size - offsetOf(chunk)] = element;
+        size++;
+    }
+
+    /**
+     * @param other the list whose elements are appended, in order
+     */
+    void appendAll(ChunkedList<? extends E> other) {
+        // read once, so appending a list to itself ends
+        int count = other.size;
+        for (int i = 0; i < count; i++) {
+            append(other.get(i));
+        }
+    }
+
+    /**
+     * @return the elements appended so far, as an unmodifiable list that later appends don't change. Nothing is
+     * copied, since stored elements never move.
+     */
+    List<E> snapshot() {
+        return new Snapshot<>(this, size);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        int chunk = chunkOf(index);
+        return (E) chunks[chunk][index - offsetOf(chunk)];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private static int chunkOf(int index) {
+        return Integer.SIZE - 1 - Integer.numberOfLeadingZeros((index >>> FIRST_CHUNK_SHIFT) + 1);
+    }
+
+    private static int offsetOf(int chunk) {
+        return ((1 << chunk) - 1) << FIRST_CHUNK_SHIFT;
+    }
+
+    private static final class Snapshot<E> extends AbstractList<E> implements RandomAccess {
+        private final ChunkedList<E> list;
+        private final int size;
+
+        private Snapshot(ChunkedList<E> list, int size) {
+            this.list = list;
+            this.size = size;
+        }
+
+        @Override
+        public E get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            return list.get(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ *  CountingResultMetrics.java, 2026-10-17
+ *
+ *  Copyright 2022  Koory1st, Inc. All rights reserved.
+ */
+
+package io.github.koory1st.util.result;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link ResultMetrics} counting Oks, panics, and Errs by kind: the enum constant for enum Errs, the class for
+ * the others. The counters are {@link LongAdder}s, so concurrent updates don't contend, and {@link #snapshot()}
+ * exports them, e.g. to a metrics registry.
+ */
+public class CountingResultMetrics implements ResultMetrics {
+    private final ConcurrentMap<Object, LongAdder> errs = new ConcurrentHashMap<>();
+    private final LongAdder oks = new LongAdder();
+    private final LongAdder panics = new LongAdder();
+
+    @Override
+    public void onOk() {
+        oks.increment();
+    }
+
+    @Override
+    public void onErr(@NotNull Object err) {
+        Object kind = err instanceof Enum ? err : err.getClass();
+        LongAdder counter = errs.get(kind);
+        if (counter == null) {
+            counter = errs.computeIfAbsent(kind, k -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    @Override
+    public void onPanic(@NotNull ResultPanicException panic) {
+        panics.increment();
+    }
+
+    /**
+     * @return the counts so far. Counts updated while the snapshot is taken may or may not be included.
+     */
+    @NotNull
+    public Snapshot snapshot() {
+        Map<String, Long> errCounts = new HashMap<>();
+        for (Map.Entry<Object, LongAdder> entry : errs.entrySet()) {
+            errCounts.put(nameOf(entry.getKey()), entry.getValue().sum());
+        }
+        return new Snapshot(oks.sum(), panics.sum(), errCounts);
+    }
+
+    /**
+     * @param err the Err value
+     * @return the name of its kind, as in {@link Snapshot#errsByKind()}
+     */
+    static String errKind(Object err) {
+        return nameOf(err instanceof Enum ? err : err.getClass());
+    }
+
+    private static String nameOf(Object kind) {
+        if (kind instanceof Enum) {
+            Enum<?> constant = (Enum<?>) kind;
+            return constant.getDeclaringClass().getName() + "." + constant.name();
+        }
+        return ((Class<?>) kind).getName();
+    }
+
+    /**
+     * The counts of a {@link CountingResultMetrics} at some point in time.
+     */
+    public static final class Snapshot {
+        private final Map<String, Long> errs;
+        private final long errTotal;
+        private final long oks;
+        private final long panics;
+
+        private Snapshot(long oks, long panics, Map<String, Long> errs) {
+            this.oks = oks;
+            this.panics = panics;
+            this.errs = Collections.unmodifiableMap(errs);
+            long total = 0;
+            for (long count : errs.values()) {
+                total += count;
+            }
+            this.errTotal = total;
+        }
+
+        /**
+         * @return the number of Oks
+         */
+        public long oks() {
+            return oks;
+        }
+
+        /**
+         * @return the number of Errs
+         */
+        public long errs() {
+            return errTotal;
+        }
+
+        /**
+         * @return the number of Errs by kind: "enum.Class.CONSTANT" for enum Errs, the class name for the others
+         */
+        @NotNull
+        public Map<String, Long> errsByKind() {
+            return errs;
+        }
+
+        /**
+         * @return the number of panics
+         */
+        public long panics() {
+            return panics;
+        }
+
+        /**
+         * @return oks / (oks + errs), or 1 if there was no Result
+         */
+        public double okRatio() {
+            long results = oks + errTotal;
+            return results == 0 ? 1.0 : (double) oks / results;
+        }
+
+        @Override
+        @NotNull
+        public String toString() {
+            return String.format("Snapshot(oks=%d, errs=%s, panics=%d)", oks, errs, panics);
+        }
+    }
+}
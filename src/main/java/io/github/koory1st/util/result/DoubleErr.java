@@ -0,0 +1,46 @@
+/*
+ *  DoubleErr.java, 2026-10-17
+ *
+ *  Copyright 2022  Koory1st, Inc. All rights reserved.
+ */
+
+package io.github.koory1st.util.result;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The failure variant of {@link DoubleResult}.
+ *
+ * @param <E> failure (Err)
+ */
+public final class DoubleErr<E> extends DoubleResult<E> {
+    private final E err;
+
+    private DoubleErr(E err) {
+        this.err = err;
+    }
+
+    @NotNull
+    public static <E> DoubleErr<E> of(@NotNull E err) {
+        //noinspection ConstantConditions
+        if (err == null) {
+            throw ResultPanicException.panic("Can't set a null to an Err's Content.");
+        }
+        return new DoubleErr<>(err);
+    }
+
+    @Override
+    public boolean isOk() {
+        return false;
+    }
+
+    @Override
+    double okValue() {
+        return 0;
+    }
+
+    @Override
+    E errValue() {
+        return err;
+    }
+}
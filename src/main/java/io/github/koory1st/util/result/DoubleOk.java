@@ -0,0 +1,42 @@
+/*
+ *  DoubleOk.java, 2026-10-17
+ *
+ *  Copyright 2022  Koory1st, Inc. All rights reserved.
+ */
+
+package io.github.koory1st.util.result;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The success variant of {@link DoubleResult}.
+ *
+ * @param <E> failure (Err)
+ */
+public final class DoubleOk<E> extends DoubleResult<E> {
+    private final double ok;
+
+    private DoubleOk(double ok) {
+        this.ok = ok;
+    }
+
+    @NotNull
+    public static <E> DoubleOk<E> of(double ok) {
+        return new DoubleOk<>(ok);
+    }
+
+    @Override
+    public boolean isOk() {
+        return true;
+    }
+
+    @Override
+    double okValue() {
+        return ok;
+    }
+
+    @Override
+    E errValue() {
+        return null;
+    }
+}
@@ -0,0 +1,334 @@
+/*
+ *  DoubleResult.java, 2026-10-17
+ *
+ *  Copyright 2022  Koory1st, Inc. All rights reserved.
+ */
+
+package io.github.koory1st.util.result;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * DoubleResult is a double specialization of {@link Result}, it represents either success (DoubleOk) or failure (DoubleErr)
+ * without boxing the Ok value.
+ *
+ * @param <E> failure (Err)
+ */
+public abstract class DoubleResult<E> {
+    DoubleResult() {
+    }
+
+    /**
+     * Converts from Result&lt;Double, E&gt; to DoubleResult&lt;E&gt;.
+     *
+     * @param result result
+     * @param <E>    E
+     * @return DoubleResult&lt;E&gt;
+     * @throws ResultPanicException if the result is an empty Ok.
+     */
+    @NotNull
+    public static <E> DoubleResult<E> from(@NotNull Result<Double, E> result) {
+        if (result.isErr()) {
+            return DoubleErr.of(result.err());
+        }
+
+        Double value = result.unwrap();
+        if (value == null) {
+            throw ResultPanicException.panic(Result.CANT_CONVERT_A_EMPTY_OK);
+        }
+
+        return DoubleOk.of(value);
+    }
+
+    /**
+     * @return true if the result is Ok.
+     */
+    public abstract boolean isOk();
+
+    /**
+     * @return true if the result is Err.
+     */
+    public boolean isErr() {
+        return !isOk();
+    }
+
+    /**
+     * Calls `op` if the result is [`Ok`], otherwise returns the [`Err`] value of `self`.
+     *
+     * @param op op
+     * @return return
+     */
+    @NotNull
+    public DoubleResult<E> andThen(@NotNull DoubleFunction<DoubleResult<E>> op) {
+        if (this.isErr()) {
+            return this;
+        }
+
+        return op.apply(okValue());
+    }
+
+    /**
+     * @return the contained Err value, null if the result is Ok.
+     */
+    @Nullable
+    public E err() {
+        return errValue();
+    }
+
+    /**
+     * Maps an DoubleResult&lt;E&gt; to DoubleResult&lt;E&gt; by applying a function to a contained Ok value,
+     * leaving an Err value untouched.
+     *
+     * @param mapFunction mapFunction
+     * @return mapped DoubleResult&lt;E&gt;
+     */
+    @NotNull
+    public DoubleResult<E> map(@NotNull DoubleUnaryOperator mapFunction) {
+        if (this.isErr()) {
+            return this;
+        }
+
+        return DoubleOk.of(mapFunction.applyAsDouble(okValue()));
+    }
+
+    /**
+     * Maps an DoubleResult&lt;E&gt; to IntResult&lt;E&gt; by applying a function to a contained Ok value,
+     * leaving an Err value untouched.
+     *
+     * @param mapFunction mapFunction
+     * @return mapped IntResult&lt;E&gt;
+     */
+    @NotNull
+    public IntResult<E> mapToInt(@NotNull DoubleToIntFunction mapFunction) {
+        if (this.isErr()) {
+            return IntErr.of(errValue());
+        }
+
+        return IntOk.of(mapFunction.applyAsInt(okValue()));
+    }
+
+    /**
+     * Maps an DoubleResult&lt;E&gt; to LongResult&lt;E&gt; by applying a function to a contained Ok value,
+     * leaving an Err value untouched.
+     *
+     * @param mapFunction mapFunction
+     * @return mapped LongResult&lt;E&gt;
+     */
+    @NotNull
+    public LongResult<E> mapToLong(@NotNull DoubleToLongFunction mapFunction) {
+        if (this.isErr()) {
+            return LongErr.of(errValue());
+        }
+
+        return LongOk.of(mapFunction.applyAsLong(okValue()));
+    }
+
+    /**
+     * Maps an DoubleResult&lt;E&gt; to Result&lt;U, E&gt; by applying a function to a contained Ok value,
+     * leaving an Err value untouched.
+     *
+     * @param mapFunction mapFunction
+     * @param <U>         U
+     * @return mapped Result&lt;U, E&gt;
+     */
+    @NotNull
+    public <U> Result<U, E> mapToObj(@NotNull DoubleFunction<U> mapFunction) {
+        if (this.isErr()) {
+            return Err.of(errValue());
+        }
+
+        return Ok.of(mapFunction.apply(okValue()));
+    }
+
+    /**
+     * Maps an DoubleResult&lt;E&gt; to DoubleResult&lt;F&gt; by applying a function to a contained Err value,
+     * leaving an Ok value untouched.
+     *
+     * @param mapFunction mapFunction
+     * @param <F>         F
+     * @return DoubleResult&lt;F&gt;
+     */
+    @NotNull
+    public <F> DoubleResult<F> mapErr(@NotNull Function<E, F> mapFunction) {
+        if (this.isOk()) {
+            return this.cast();
+        }
+
+        return DoubleErr.of(mapFunction.apply(errValue()));
+    }
+
+    /**
+     * Calls `op` if the result is [`Err`], otherwise returns the [`Ok`] value of `self`.
+     *
+     * @param op  op
+     * @param <F> F
+     * @return result
+     */
+    @NotNull
+    public <F> DoubleResult<F> orElse(@NotNull Function<E, DoubleResult<F>> op) {
+        if (this.isOk()) {
+            return this.cast();
+        }
+
+        return op.apply(errValue());
+    }
+
+    /**
+     * Reinterprets an Ok under a new Err type parameter.
+     * An Ok never holds an E, so the cast is safe and nothing is allocated.
+     */
+    @SuppressWarnings("unchecked")
+    private <F> DoubleResult<F> cast() {
+        return (DoubleResult<F>) this;
+    }
+
+    /**
+     * @param msg passed message
+     * @return the contained Ok value
+     * @throws ResultPanicException if the value is an Err, with a message including the passed message, and the content of the Err.
+     */
+    public double expect(@NotNull String msg) throws ResultPanicException {
+        if (isOk()) {
+            return okValue();
+        }
+
+        E err = errValue();
+        throw ResultPanicException.panic(err, Result.EXPECT_FMT, msg, err);
+    }
+
+    /**
+     * @param msg passed message
+     * @return the contained Err value.
+     * @throws ResultPanicException if the value is an Ok, with a panic message including the passed message, and the content of the Ok.
+     */
+    @NotNull
+    public E expectErr(@NotNull String msg) throws ResultPanicException {
+        if (isErr()) {
+            return errValue();
+        }
+
+        double ok = okValue();
+        throw ResultPanicException.panic(ok, Result.EXPECT_FMT, msg, ok);
+    }
+
+    /**
+     * @return the contained Ok value.
+     * @throws ResultPanicException if the value is an Err, with a message provided by the Errs value.
+     */
+    public double unwrap() throws ResultPanicException {
+        if (isOk()) {
+            return okValue();
+        }
+
+        E err = errValue();
+        throw ResultPanicException.panic(err, Result.UNWRAP_PANIC_STR, err);
+    }
+
+    /**
+     * @return the contained [`Err`] value
+     * @throws ResultPanicException if the value is an [`Ok`], with a custom panic message provided by the [`Ok`]'s value.
+     */
+    @NotNull
+    public E unwrapErr() throws ResultPanicException {
+        if (isErr()) {
+            return errValue();
+        }
+
+        double ok = okValue();
+        throw ResultPanicException.panic(ok, Result.UNWRAP_ERR_PANIC_STR, ok);
+    }
+
+    /**
+     * @param defaultValue default
+     * @return the contained [`Ok`] value or a provided default.
+     */
+    public double unwrapOr(double defaultValue) {
+        if (isErr()) {
+            return defaultValue;
+        }
+        return okValue();
+    }
+
+    /**
+     * @param op a closure
+     * @return the contained [`Ok`] value or computes it from a closure.
+     */
+    public double unwrapOrElse(@NotNull ToDoubleFunction<E> op) {
+        if (isOk()) {
+            return okValue();
+        }
+        return op.applyAsDouble(errValue());
+    }
+
+    /**
+     * Converts from DoubleResult&lt;E&gt; to Result&lt;Double, E&gt;, boxing the Ok value.
+     *
+     * @return Result&lt;Double, E&gt;
+     */
+    @NotNull
+    public Result<Double, E> toResult() {
+        if (isErr()) {
+            return Err.of(errValue());
+        }
+        return Ok.of(okValue());
+    }
+
+    @Override
+    public boolean equals(Object obj2Compare) {
+        if (!(obj2Compare instanceof DoubleResult)) {
+            return false;
+        }
+
+        DoubleResult<?> that = (DoubleResult<?>) obj2Compare;
+        if (this.isOk() != that.isOk()) {
+            return false;
+        }
+
+        if (this.isOk()) {
+            return Double.compare(this.okValue(), that.okValue()) == 0;
+        }
+
+        return Objects.equals(this.errValue(), that.errValue());
+    }
+
+    @Override
+    public int hashCode() {
+        if (isOk()) {
+            return Double.hashCode(okValue());
+        }
+        return ~Objects.hashCode(errValue());
+    }
+
+    @Override
+    @NotNull
+    public String toString() {
+        if (this.isOk()) {
+            return String.format(Result.TO_STRING_FMT, Result.OK, okValue());
+        }
+
+        E err = errValue();
+        if (err instanceof String) {
+            return String.format(Result.TO_STRING_QUOTE_FMT, Result.ERR, err);
+        }
+        return String.format(Result.TO_STRING_FMT, Result.ERR, err);
+    }
+
+    /**
+     * @return the Ok content, 0 if the result is Err.
+     */
+    abstract double okValue();
+
+    /**
+     * @return the Err content, null if the result is Ok.
+     */
+    abstract E errValue();
+}
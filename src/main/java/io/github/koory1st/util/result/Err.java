@@ -8,18 +8,101 @@ package io.github.koory1st.util.result;
 
 import org.jetbrains.annotations.NotNull;
 
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+
+/**
+ * The failure variant of {@link Result}.
+ * <p>
+ * An Err is serializable if its value is.
+ *
+ * @param <T> success (Ok)
+ * @param <E> failure (Err)
+ */
+public final class Err<T, E> extends Result<T, E> implements Serializable {
+    private static final long serialVersionUID = 1L;
+    // one Err per constant of each enum passed to ofCached, indexed by ordinal
+    private static final ClassValue<Err<?, ?>[]> ENUM_ERRS = new ClassValue<Err<?, ?>[]>() {
+        @Override
+        protected Err<?, ?>[] computeValue(Class<?> type) {
+            Object[] constants = type.getEnumConstants();
+            Err<?, ?>[] errs = new Err<?, ?>[constants.length];
+            for (int i = 0; i < constants.length; i++) {
+                errs[i] = new Err<>(constants[i]);
+            }
+            return errs;
+        }
+    };
+    private final E err;
 
-public class Err<T, E> extends Result<T, E> {
     private Err(E err) {
-        super(null, err, false);
+        this.err = err;
     }
 
     @NotNull
     public static <T, E> Err<T, E> of(@NotNull E err) {
         //noinspection ConstantConditions
         if (err == null) {
-            throw new ResultPanicException("Can't set a null to an Err's Content.");
+            throw ResultPanicException.panic("Can't set a null to an Err's Content.");
+        }
+        if (MetricsHook.METRICS != null) {
+            MetricsHook.METRICS.onErr(err);
+        }
+        if (JfrEvents.AVAILABLE) {
+            JfrEvents.errCreated(err);
+        }
+        Err<T, E> result = new Err<>(err);
+        if (ErrProvenance.samplingRatio > 0) {
+            ErrProvenance.sample(result);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the canonical Err of an enum constant, shared by every caller, instead of creating a new one.
+     *
+     * @param err err
+     * @param <T> T
+     * @param <E> E
+     * @return the Err of `err`
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    public static <T, E extends Enum<E>> Err<T, E> ofCached(@NotNull E err) {
+        //noinspection ConstantConditions
+        if (err == null) {
+            throw ResultPanicException.panic("Can't set a null to an Err's Content.");
+        }
+        if (MetricsHook.METRICS != null) {
+            MetricsHook.METRICS.onErr(err);
+        }
+        if (JfrEvents.AVAILABLE) {
+            JfrEvents.errCreated(err);
+        }
+        return (Err<T, E>) ENUM_ERRS.get(err.getDeclaringClass())[err.ordinal()];
+    }
+
+    @Override
+    public boolean isOk() {
+        return false;
+    }
+
+    @Override
+    T okValue() {
+        return null;
+    }
+
+    @Override
+    E errValue() {
+        return err;
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        if (err == null) {
+            throw new InvalidObjectException("Can't set a null to an Err's Content.");
         }
-        return new Err<>(err);
     }
 }
@@ -0,0 +1,30 @@
+/*
+ *  ErrCreatedEvent.java, 2026-10-17
+ *
+ *  Copyright 2022  Koory1st, Inc. All rights reserved.
+ */
+
+package io.github.koory1st.util.result;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event of an {@link Err} creation, with its kind and the stack trace of the call site.
+ */
+@Name("io.github.koory1st.util.result.ErrCreated")
+@Label("Err Created")
+@Category("Result")
+@Description("An Err value has been created")
+@StackTrace
+@Enabled(false)
+final class ErrCreatedEvent extends Event {
+    @Label("Err Kind")
+    @Description("The enum constant of an enum Err, the class of the others")
+    String errKind;
+}
@@ -0,0 +1,203 @@
+/*
+ *  ErrProvenance.java, 2026-10-17
+ *
+ *  Copyright 2022  Koory1st, Inc. All rights reserved.
+ */
+
+package io.github.koory1st.util.result;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * ErrProvenance records where a sample of the Errs were created, to find the {@link Err#of} call site of an Err
+ * reaching the top of a request.
+ * <p>
+ * It is off by default. With a sampling ratio above 0, that share of the Errs created by {@link Err#of} walk their
+ * stack, up to `maxDepth` frames above {@code Err.of}, which is much cheaper than filling a whole stack trace.
+ * The frames are kept beside the Err, in a table that doesn't keep the Err alive, so Errs stay single-field objects.
+ * The initial settings are read from the {@value #SAMPLING_RATIO_PROPERTY} and {@value #MAX_DEPTH_PROPERTY}
+ * system properties; an invalid one is logged and replaced by its default, off and 8 frames.
+ */
+public final class ErrProvenance {
+    public static final String MAX_DEPTH_PROPERTY = "io.github.koory1st.util.result.provenance.maxDepth";
+    public static final String SAMPLING_RATIO_PROPERTY = "io.github.koory1st.util.result.provenance.samplingRatio";
+    private static final int DEFAULT_MAX_DEPTH = 8;
+    private static final ReferenceQueue<Object> COLLECTED = new ReferenceQueue<>();
+    private static final ConcurrentMap<IdentityKey, StackTraceElement[]> SITES = new ConcurrentHashMap<>();
+    private static final StackWalker WALKER = StackWalker.getInstance();
+    private static volatile int maxDepth = parseMaxDepth(System.getProperty(MAX_DEPTH_PROPERTY));
+    // read by Err.of on every call, so it stays a plain volatile double
+    static volatile double samplingRatio = parseSamplingRatio(System.getProperty(SAMPLING_RATIO_PROPERTY));
+
+    private ErrProvenance() {
+    }
+
+    /**
+     * @param ratio the value of the system property, null if unset
+     * @return the ratio, or 0 if it isn't a number from 0 to 1
+     */
+    static double parseSamplingRatio(String ratio) {
+        if (ratio == null) {
+            return 0;
+        }
+        try {
+            double parsed = Double.parseDouble(ratio.trim());
+            if (parsed >= 0 && parsed <= 1) {
+                return parsed;
+            }
+        } catch (NumberFormatException ignored) {
+        }
+        logInvalid(SAMPLING_RATIO_PROPERTY, ratio);
+        return 0;
+    }
+
+    /**
+     * @param depth the value of the system property, null if unset
+     * @return the depth, or {@value #DEFAULT_MAX_DEPTH} if it isn't a positive int
+     */
+    static int parseMaxDepth(String depth) {
+        if (depth == null) {
+            return DEFAULT_MAX_DEPTH;
+        }
+        try {
+            int parsed = Integer.parseInt(depth.trim());
+            if (parsed >= 1) {
+                return parsed;
+            }
+        } catch (NumberFormatException ignored) {
+        }
+        logInvalid(MAX_DEPTH_PROPERTY, depth);
+        return DEFAULT_MAX_DEPTH;
+    }
+
+    private static void logInvalid(String property, String value) {
+        System.getLogger(ErrProvenance.class.getName())
+                .log(System.Logger.Level.WARNING, "Ignoring the invalid {0}: {1}", property, value);
+    }
+
+    /**
+     * @return the share of the Errs whose creation site is recorded, 0 when off.
+     */
+    public static double getSamplingRatio() {
+        return samplingRatio;
+    }
+
+    /**
+     * @param ratio the share of the Errs created from now on whose creation site is recorded, from 0 (off) to 1
+     */
+    public static void setSamplingRatio(double ratio) {
+        if (!(ratio >= 0 && ratio <= 1)) {
+            throw new IllegalArgumentException("The sampling ratio must be between 0 and 1.");
+        }
+        samplingRatio = ratio;
+    }
+
+    /**
+     * @return the maximum number of frames recorded per Err.
+     */
+    public static int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * @param depth the maximum number of frames recorded per Err from now on
+     */
+    public static void setMaxDepth(int depth) {
+        if (depth < 1) {
+            throw new IllegalArgumentException("The max depth must be positive.");
+        }
+        maxDepth = depth;
+    }
+
+    /**
+     * @param result result
+     * @return the frames where `result` was created, innermost first, or an empty list if it isn't a sampled Err.
+     */
+    @NotNull
+    public static List<StackTraceElement> of(@NotNull Result<?, ?> result) {
+        StackTraceElement[] site = SITES.get(new IdentityKey(result, null));
+        return site == null ? Collections.emptyList() : Collections.unmodifiableList(Arrays.asList(site));
+    }
+
+    /**
+     * Called by {@link Err#of} when the sampling ratio is above 0.
+     *
+     * @param err the Err just created
+     */
+    static void sample(Err<?, ?> err) {
+        double ratio = samplingRatio;
+        if (ratio < 1 && ThreadLocalRandom.current().nextDouble() >= ratio) {
+            return;
+        }
+
+        expungeCollected();
+        int depth = maxDepth;
+        List<StackTraceElement> site = WALKER.walk(frames -> frames
+                .dropWhile(frame -> isInternal(frame.getClassName()))
+                .limit(depth)
+                .map(StackWalker.StackFrame::toStackTraceElement)
+                .collect(Collectors.toList()));
+        SITES.put(new IdentityKey(err, COLLECTED), site.toArray(new StackTraceElement[0]));
+    }
+
+    /**
+     * @return the number of recorded creation sites whose Err hasn't been collected yet, or not noticed as such.
+     */
+    static int size() {
+        expungeCollected();
+        return SITES.size();
+    }
+
+    private static boolean isInternal(String className) {
+        return className.equals(ErrProvenance.class.getName()) || className.equals(Err.class.getName());
+    }
+
+    private static void expungeCollected() {
+        Reference<?> collected;
+        while ((collected = COLLECTED.poll()) != null) {
+            //noinspection SuspiciousMethodCalls
+            SITES.remove(collected);
+        }
+    }
+
+    /**
+     * A weak reference compared by the identity of its referent, unlike the value-based {@link Result#equals}.
+     */
+    private static final class IdentityKey extends WeakReference<Object> {
+        private final int hash;
+
+        private IdentityKey(Object referent, ReferenceQueue<Object> queue) {
+            super(referent, queue);
+            this.hash = System.identityHashCode(referent);
+        }
+
+        @Override
+        public boolean equals(Object obj2Compare) {
+            if (this == obj2Compare) {
+                return true;
+            }
+            if (!(obj2Compare instanceof IdentityKey)) {
+                return false;
+            }
+
+            Object referent = get();
+            return referent != null && referent == ((IdentityKey) obj2Compare).get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
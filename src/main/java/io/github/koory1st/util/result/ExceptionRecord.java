@@ -0,0 +1,73 @@
+/*
+ *  ExceptionRecord.java, 2026-10-17
+ *
+ *  Copyright 2022  Koory1st, Inc. All rights reserved.
+ */
+
+package io.github.koory1st.util.result;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+
+/**
+ * ExceptionRecord keeps the type and the message of an exception, but not the exception itself, so its stack trace
+ * and causes can be garbage collected while the Err is kept. Use {@code ExceptionRecord::of} as the mapper of
+ * {@link Result#catching(ThrowingSupplier, java.util.function.Function)}.
+ */
+public final class ExceptionRecord {
+    private final String message;
+    private final Class<? extends Throwable> type;
+
+    private ExceptionRecord(Class<? extends Throwable> type, String message) {
+        this.type = type;
+        this.message = message;
+    }
+
+    /**
+     * @param throwable throwable
+     * @return the record of `throwable`
+     */
+    @NotNull
+    public static ExceptionRecord of(@NotNull Throwable throwable) {
+        return new ExceptionRecord(throwable.getClass(), throwable.getMessage());
+    }
+
+    /**
+     * @return the class of the exception
+     */
+    @NotNull
+    public Class<? extends Throwable> type() {
+        return type;
+    }
+
+    /**
+     * @return the message of the exception
+     */
+    @Nullable
+    public String message() {
+        return message;
+    }
+
+    @Override
+    public boolean equals(Object obj2Compare) {
+        if (!(obj2Compare instanceof ExceptionRecord)) {
+            return false;
+        }
+
+        ExceptionRecord that = (ExceptionRecord) obj2Compare;
+        return type == that.type && Objects.equals(message, that.message);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * type.hashCode() + Objects.hashCode(message);
+    }
+
+    @Override
+    @NotNull
+    public String toString() {
+        return message == null ? type.getName() : String.format(Result.EXPECT_FMT, type.getName(), message);
+    }
+}
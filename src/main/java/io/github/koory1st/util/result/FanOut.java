@@ -0,0 +1,161 @@
+/*
+ *  FanOut.java, 2026-10-17
+ *
+ *  Copyright 2022  Koory1st, Inc. All rights reserved.
+ */
+
+package io.github.koory1st.util.result;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs Result-returning tasks concurrently until one of them decides the outcome.
+ * Backs {@link Results#allOk} and {@link Results#firstOk}.
+ *
+ * @param <T> T
+ * @param <E> E
+ */
+final class FanOut<T, E> {
+    static final int NOT_DECIDED = -1;
+    static final long NO_TIMEOUT = -1;
+    static final int TIMED_OUT = -2;
+    // written by the tasks, and copied into results once their Future has been taken
+    private final Result<T, E>[] completed;
+    private final Result<T, E>[] results;
+    private final List<Callable<Result<T, E>>> tasks;
+
+    @SuppressWarnings("unchecked")
+    FanOut(List<Callable<Result<T, E>>> tasks) {
+        this.tasks = tasks;
+        this.results = (Result<T, E>[]) new Result<?, ?>[tasks.size()];
+        this.completed = (Result<T, E>[]) new Result<?, ?>[tasks.size()];
+    }
+
+    /**
+     * Runs the tasks, at most `maxConcurrency` of them at a time. Once a task decides the outcome or the timeout
+     * elapses, the tasks still running are interrupted and the ones not started yet are never run. The interrupted
+     * tasks are waited for before returning, without a timeout until they end, otherwise until it elapses.
+     *
+     * @param stopOnOk       true if the first Ok decides the outcome, false if the first Err does
+     * @param timeoutNanos   the timeout, or {@link #NO_TIMEOUT}
+     * @param maxConcurrency the maximum number of tasks running at the same time
+     * @return the index of the deciding task, {@link #NOT_DECIDED} if all tasks completed without deciding,
+     * or {@link #TIMED_OUT}.
+     */
+    int run(boolean stopOnOk, long timeoutNanos, int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("The max concurrency must be positive.");
+        }
+
+        long deadline = System.nanoTime() + timeoutNanos;
+        ExecutorService executor = FanOutExecutors.newExecutor(Math.min(tasks.size(), maxConcurrency));
+        CompletionService<Integer> completionService = new ExecutorCompletionService<>(executor);
+        int size = tasks.size();
+        int next = 0;
+        try {
+            while (next < size && next < maxConcurrency) {
+                submit(completionService, next++);
+            }
+
+            for (int done = 0; done < size; done++) {
+                Future<Integer> future;
+                if (timeoutNanos == NO_TIMEOUT) {
+                    future = completionService.take();
+                } else {
+                    future = completionService.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (future == null) {
+                        return TIMED_OUT;
+                    }
+                }
+
+                int index = future.get();
+                results[index] = completed[index];
+                if (results[index].isOk() == stopOnOk) {
+                    return index;
+                }
+
+                if (next < size) {
+                    submit(completionService, next++);
+                }
+            }
+            return NOT_DECIDED;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new CompletionException(cause);
+        } finally {
+            executor.shutdownNow();
+            awaitTermination(executor, timeoutNanos == NO_TIMEOUT ? Long.MAX_VALUE : deadline - System.nanoTime());
+        }
+    }
+
+    private static void awaitTermination(ExecutorService executor, long timeoutNanos) {
+        try {
+            executor.awaitTermination(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            // the caller gave up waiting, the tasks have been interrupted already
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * @param index index
+     * @return the Result of the task at `index`, null if it didn't complete.
+     */
+    Result<T, E> result(int index) {
+        return results[index];
+    }
+
+    /**
+     * @return the Ok values of all tasks, in task order.
+     */
+    List<T> oks() {
+        List<T> oks = new ArrayList<>(results.length);
+        for (Result<T, E> result : results) {
+            oks.add(result.unwrap());
+        }
+        return oks;
+    }
+
+    /**
+     * @param missing the Err value used for the tasks that didn't complete
+     * @return the Err values of all tasks, in task order.
+     */
+    List<E> errs(E missing) {
+        List<E> errs = new ArrayList<>(results.length);
+        for (Result<T, E> result : results) {
+            errs.add(result == null ? missing : result.err());
+        }
+        return errs;
+    }
+
+    private void submit(CompletionService<Integer> completionService, int index) {
+        Callable<Result<T, E>> task = tasks.get(index);
+        completionService.submit(() -> {
+            Result<T, E> result = task.call();
+            //noinspection ConstantConditions
+            if (result == null) {
+                throw ResultPanicException.panic("A fan-out task can't return a null Result.");
+            }
+            completed[index] = result;
+            return index;
+        });
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ *  FanOutExecutors.java, 2026-10-17
+ *
+ *  Copyright 2022  Koory1st, Inc. All rights reserved.
+ */
+
+package io.github.koory1st.util.result;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creates the executor used by {@link Results#allOk} and {@link Results#firstOk}.
+ * This version runs the tasks on at most {@value #MAX_PLATFORM_THREADS} daemon platform threads, queueing the
+ * others, so a large fan-out doesn't start a thread per task; on Java 21+ the multi-release jar replaces it with a
+ * version using virtual threads.
+ */
+final class FanOutExecutors {
+    static final int MAX_PLATFORM_THREADS = 64;
+    private static final String THREAD_NAME = "result-fan-out";
+
+    private FanOutExecutors() {
+    }
+
+    /**
+     * @param parallelism the number of tasks that may run at the same time
+     * @return the executor, to shut down once the fan-out is decided
+     */
+    static ExecutorService newExecutor(int parallelism) {
+        int threads = Math.max(1, Math.min(parallelism, MAX_PLATFORM_THREADS));
+        return new ThreadPoolExecutor(threads, threads, 0, TimeUnit.NANOSECONDS, new LinkedBlockingQueue<>(), task -> {
+            Thread thread = new Thread(task, THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ *  IntErr.java, 2026-10-17
+ *
+ *  Copyright 2022  Koory1st, Inc. All rights reserved.
+ */
+
+package io.github.koory1st.util.result;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The failure variant of {@link IntResult}.
+ *
+ * @param <E> failure (Err)
+ */
+public final class IntErr<E> extends IntResult<E> {
+    private final E err;
+
+    private IntErr(E err) {
+        this.err = err;
+    }
+
+    @NotNull
+    public static <E> IntErr<E> of(@NotNull E err) {
+        //noinspection ConstantConditions
+        if (err == null) {
+            throw ResultPanicException.panic("Can't set a null to an Err's Content.");
+        }
+        return new IntErr<>(err);
+    }
+
+    @Override
+    public boolean isOk() {
+        return false;
+    }
+
+    @Override
+    int okValue() {
+        return 0;
+    }
+
+    @Override
+    E errValue() {
+        return err;
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ *  IntOk.java, 2026-10-17
+ *
+ *  Copyright 2022  Koory1st, Inc. All rights reserved.
+ */
+
+package io.github.koory1st.util.result;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The success variant of {@link IntResult}.
+ *
+ * @param <E> failure (Err)
+ */
+public final class IntOk<E> extends IntResult<E> {
+    private final int ok;
+
+    private IntOk(int ok) {
+        this.ok = ok;
+    }
+
+    @NotNull
+    public static <E> IntOk<E> of(int ok) {
+        return new IntOk<>(ok);
+    }
+
+    @Override
+    public boolean isOk() {
+        return true;
+    }
+
+    @Override
+    int okValue() {
+        return ok;
+    }
+
+    @Override
+    E errValue() {
+        return null;
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ *  JfrEvents.java, 2026-10-17
+ *
+ *  Copyright 2022  Koory1st, Inc. All rights reserved.
+ */
+
+package io.github.koory1st.util.result;
+
+/**
+ * Emits the JFR events of the Results. The event classes are only loaded through this class, and only if the
+ * runtime has the jdk.jfr module, so a runtime image without it still works.
+ * The events record the stack trace of their call site, so they are disabled unless a recording enables them, and the
+ * default recordings don't walk a stack for each Err. While disabled, emitting one costs a check that the JIT reduces to
+ * a constant.
+ */
+final class JfrEvents {
+    static final boolean AVAILABLE = ModuleLayer.boot().findModule("jdk.jfr").isPresent();
+
+    private JfrEvents() {
+    }
+
+    /**
+     * @param err the Err value
+     */
+    static void errCreated(Object err) {
+        ErrCreatedEvent event = new ErrCreatedEvent();
+        if (event.shouldCommit()) {
+            event.errKind = CountingResultMetrics.errKind(err);
+            event.commit();
+        }
+    }
+
+    /**
+     * @param panic panic
+     */
+    static void panic(ResultPanicException panic) {
+        ResultPanicEvent event = new ResultPanicEvent();
+        if (event.shouldCommit()) {
+            event.message = panic.getMessage();
+            event.commit();
+        }
+    }
+}
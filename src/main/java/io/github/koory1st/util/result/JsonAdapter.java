@@ -0,0 +1,37 @@
+/*
+ *  JsonAdapter.java, 2026-10-17
+ *
+ *  Copyright 2022  Koory1st, Inc. All rights reserved.
+ */
+
+package io.github.koory1st.util.result;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+
+/**
+ * Writes and reads the Ok or Err values of a {@link ResultJson}. See {@link JsonAdapters} for the built-in ones.
+ *
+ * @param <V> value
+ */
+public interface JsonAdapter<V> {
+    /**
+     * Writes `value` as a single JSON value.
+     *
+     * @param value value
+     * @param out   out
+     * @throws IOException if the underlying Appendable fails
+     */
+    void write(@NotNull V value, @NotNull JsonWriter out) throws IOException;
+
+    /**
+     * Reads a single JSON value.
+     *
+     * @param in in
+     * @return the value
+     * @throws IOException if the input is malformed or can't be read
+     */
+    @NotNull
+    V read(@NotNull JsonReader in) throws IOException;
+}
@@ -0,0 +1,128 @@
+/*
+ *  JsonAdapters.java, 2026-10-17
+ *
+ *  Copyright 2022  Koory1st, Inc. All rights reserved.
+ */
+
+package io.github.koory1st.util.result;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The built-in {@link JsonAdapter}s.
+ */
+public final class JsonAdapters {
+    /**
+     * A JSON boolean.
+     */
+    public static final JsonAdapter<Boolean> BOOLEAN = new JsonAdapter<Boolean>() {
+        @Override
+        public void write(@NotNull Boolean value, @NotNull JsonWriter out) throws IOException {
+            out.value((boolean) value);
+        }
+
+        @Override
+        @NotNull
+        public Boolean read(@NotNull JsonReader in) throws IOException {
+            return in.nextBoolean();
+        }
+    };
+    /**
+     * A JSON number without fraction nor exponent.
+     */
+    public static final JsonAdapter<Integer> INTEGER = new JsonAdapter<Integer>() {
+        @Override
+        public void write(@NotNull Integer value, @NotNull JsonWriter out) throws IOException {
+            out.value((long) value);
+        }
+
+        @Override
+        @NotNull
+        public Integer read(@NotNull JsonReader in) throws IOException {
+            return in.nextInt();
+        }
+    };
+    /**
+     * A JSON number without fraction nor exponent.
+     */
+    public static final JsonAdapter<Long> LONG = new JsonAdapter<Long>() {
+        @Override
+        public void write(@NotNull Long value, @NotNull JsonWriter out) throws IOException {
+            out.value((long) value);
+        }
+
+        @Override
+        @NotNull
+        public Long read(@NotNull JsonReader in) throws IOException {
+            return in.nextLong();
+        }
+    };
+    /**
+     * A JSON number. NaN and infinities can't be written.
+     */
+    public static final JsonAdapter<Double> DOUBLE = new JsonAdapter<Double>() {
+        @Override
+        public void write(@NotNull Double value, @NotNull JsonWriter out) throws IOException {
+            out.value((double) value);
+        }
+
+        @Override
+        @NotNull
+        public Double read(@NotNull JsonReader in) throws IOException {
+            return in.nextDouble();
+        }
+    };
+    /**
+     * A JSON string.
+     */
+    public static final JsonAdapter<String> STRING = new JsonAdapter<String>() {
+        @Override
+        public void write(@NotNull String value, @NotNull JsonWriter out) throws IOException {
+            out.value(value);
+        }
+
+        @Override
+        @NotNull
+        public String read(@NotNull JsonReader in) throws IOException {
+            return in.nextString();
+        }
+    };
+
+    private JsonAdapters() {
+    }
+
+    /**
+     * @param element the adapter of the elements
+     * @param <V>     V
+     * @return an adapter of JSON arrays, e.g. for the Err of {@link Validated#toResult()}
+     */
+    @NotNull
+    public static <V> JsonAdapter<List<V>> listOf(@NotNull JsonAdapter<V> element) {
+        return new JsonAdapter<List<V>>() {
+            @Override
+            public void write(@NotNull List<V> value, @NotNull JsonWriter out) throws IOException {
+                out.beginArray();
+                for (V v : value) {
+                    element.write(v, out);
+                }
+                out.endArray();
+            }
+
+            @Override
+            @NotNull
+            public List<V> read(@NotNull JsonReader in) throws IOException {
+                List<V> list = new ArrayList<>();
+                in.beginArray();
+                while (in.hasNext()) {
+                    list.add(element.read(in));
+                }
+                in.endArray();
+                return list;
+            }
+        };
+    }
+}
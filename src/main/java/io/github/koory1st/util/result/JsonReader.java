@@ -0,0 +1,469 @@
+/*
+ *  JsonReader.java, 2026-10-17
+ *
+ *  Copyright 2022  Koory1st, Inc. All rights reserved.
+ */
+
+package io.github.koory1st.util.result;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * A minimal streaming JSON reader, pulling one token at a time from a {@link Reader} or a {@link CharSequence}.
+ * A Reader is read through a small buffer, so a huge document is never held in memory. Used by {@link ResultJson}
+ * and the {@link JsonAdapter}s.
+ * <p>
+ * Malformed input is reported as an {@link IOException} giving the offset of the offending character.
+ */
+public final class JsonReader {
+    private static final int EMPTY_DOCUMENT = 0;
+    private static final int NONEMPTY_DOCUMENT = 1;
+    private static final int EMPTY_ARRAY = 2;
+    private static final int NONEMPTY_ARRAY = 3;
+    private static final int EMPTY_OBJECT = 4;
+    private static final int NONEMPTY_OBJECT = 5;
+    private static final int DANGLING_NAME = 6;
+    private static final int NO_CHAR = -2;
+    private static final int END = -1;
+    private final char[] buffer;
+    private final Reader reader;
+    private final CharSequence text;
+    private int limit;
+    private long offset;
+    private Token peeked;
+    private int pos;
+    private int pushedBack = NO_CHAR;
+    private int depth = 1;
+    private int[] scopes = new int[16];
+    private final StringBuilder scratch = new StringBuilder();
+
+    /**
+     * @param reader reader
+     */
+    public JsonReader(@NotNull Reader reader) {
+        this.reader = reader;
+        this.text = null;
+        this.buffer = new char[1024];
+    }
+
+    /**
+     * @param text text
+     */
+    public JsonReader(@NotNull CharSequence text) {
+        this.reader = null;
+        this.text = text;
+        this.buffer = null;
+    }
+
+    /**
+     * @return the kind of the next token, without consuming it.
+     * @throws IOException if the input is malformed or can't be read
+     */
+    @NotNull
+    public Token peek() throws IOException {
+        if (peeked != null) {
+            return peeked;
+        }
+
+        int c;
+        switch (scopes[depth - 1]) {
+            case EMPTY_DOCUMENT:
+                scopes[depth - 1] = NONEMPTY_DOCUMENT;
+                peeked = valueToken(nextNonWhitespace());
+                break;
+            case NONEMPTY_DOCUMENT:
+                c = nextNonWhitespace();
+                if (c != END) {
+                    throw syntaxError("Expected the end of the document");
+                }
+                peeked = Token.END_DOCUMENT;
+                break;
+            case EMPTY_ARRAY:
+            case NONEMPTY_ARRAY:
+                c = nextNonWhitespace();
+                if (c == ']') {
+                    peeked = Token.END_ARRAY;
+                    break;
+                }
+                if (scopes[depth - 1] == NONEMPTY_ARRAY) {
+                    if (c != ',') {
+                        throw syntaxError("Expected ',' or ']'");
+                    }
+                    c = nextNonWhitespace();
+                }
+                scopes[depth - 1] = NONEMPTY_ARRAY;
+                peeked = valueToken(c);
+                break;
+            case EMPTY_OBJECT:
+            case NONEMPTY_OBJECT:
+                c = nextNonWhitespace();
+                if (c == '}') {
+                    peeked = Token.END_OBJECT;
+                    break;
+                }
+                if (scopes[depth - 1] == NONEMPTY_OBJECT) {
+                    if (c != ',') {
+                        throw syntaxError("Expected ',' or '}'");
+                    }
+                    c = nextNonWhitespace();
+                }
+                if (c != '"') {
+                    throw syntaxError("Expected a name");
+                }
+                scopes[depth - 1] = DANGLING_NAME;
+                peeked = Token.NAME;
+                break;
+            default:
+                if (nextNonWhitespace() != ':') {
+                    throw syntaxError("Expected ':'");
+                }
+                scopes[depth - 1] = NONEMPTY_OBJECT;
+                peeked = valueToken(nextNonWhitespace());
+                break;
+        }
+        return peeked;
+    }
+
+    /**
+     * @return true if the current array or object has another element.
+     * @throws IOException if the input is malformed or can't be read
+     */
+    public boolean hasNext() throws IOException {
+        Token token = peek();
+        return token != Token.END_ARRAY && token != Token.END_OBJECT && token != Token.END_DOCUMENT;
+    }
+
+    /**
+     * @throws IOException if the next token isn't the beginning of an object
+     */
+    public void beginObject() throws IOException {
+        expect(Token.BEGIN_OBJECT);
+        push(EMPTY_OBJECT);
+    }
+
+    /**
+     * @throws IOException if the next token isn't the end of an object
+     */
+    public void endObject() throws IOException {
+        expect(Token.END_OBJECT);
+        depth--;
+    }
+
+    /**
+     * @throws IOException if the next token isn't the beginning of an array
+     */
+    public void beginArray() throws IOException {
+        expect(Token.BEGIN_ARRAY);
+        push(EMPTY_ARRAY);
+    }
+
+    /**
+     * @throws IOException if the next token isn't the end of an array
+     */
+    public void endArray() throws IOException {
+        expect(Token.END_ARRAY);
+        depth--;
+    }
+
+    /**
+     * @return the name of the next member of the current object
+     * @throws IOException if the next token isn't a name
+     */
+    @NotNull
+    public String nextName() throws IOException {
+        expect(Token.NAME);
+        return readString();
+    }
+
+    /**
+     * @return the next string
+     * @throws IOException if the next token isn't a string
+     */
+    @NotNull
+    public String nextString() throws IOException {
+        expect(Token.STRING);
+        return readString();
+    }
+
+    /**
+     * @return the next number, as a long
+     * @throws IOException if the next token isn't a number or doesn't fit a long
+     */
+    public long nextLong() throws IOException {
+        expect(Token.NUMBER);
+        String number = readNumber();
+        try {
+            return Long.parseLong(number);
+        } catch (NumberFormatException e) {
+            throw syntaxError("Expected a long but was " + number);
+        }
+    }
+
+    /**
+     * @return the next number, as an int
+     * @throws IOException if the next token isn't a number or doesn't fit an int
+     */
+    public int nextInt() throws IOException {
+        expect(Token.NUMBER);
+        String number = readNumber();
+        try {
+            return Integer.parseInt(number);
+        } catch (NumberFormatException e) {
+            throw syntaxError("Expected an int but was " + number);
+        }
+    }
+
+    /**
+     * @return the next number, as a double
+     * @throws IOException if the next token isn't a number
+     */
+    public double nextDouble() throws IOException {
+        expect(Token.NUMBER);
+        String number = readNumber();
+        try {
+            return Double.parseDouble(number);
+        } catch (NumberFormatException e) {
+            throw syntaxError("Expected a number but was " + number);
+        }
+    }
+
+    /**
+     * @return the next boolean
+     * @throws IOException if the next token isn't a boolean
+     */
+    public boolean nextBoolean() throws IOException {
+        expect(Token.BOOLEAN);
+        int first = read();
+        readLiteral(first == 't' ? "rue" : "alse");
+        return first == 't';
+    }
+
+    /**
+     * @throws IOException if the next token isn't null
+     */
+    public void nextNull() throws IOException {
+        expect(Token.NULL);
+        read();
+        readLiteral("ull");
+    }
+
+    /**
+     * Skips the next value, with all its nested values.
+     *
+     * @throws IOException if the input is malformed or can't be read
+     */
+    public void skipValue() throws IOException {
+        switch (peek()) {
+            case BEGIN_OBJECT:
+                beginObject();
+                while (hasNext()) {
+                    nextName();
+                    skipValue();
+                }
+                endObject();
+                break;
+            case BEGIN_ARRAY:
+                beginArray();
+                while (hasNext()) {
+                    skipValue();
+                }
+                endArray();
+                break;
+            case STRING:
+                nextString();
+                break;
+            case NUMBER:
+                nextDouble();
+                break;
+            case BOOLEAN:
+                nextBoolean();
+                break;
+            case NULL:
+                nextNull();
+                break;
+            default:
+                throw syntaxError("Expected a value but was " + peek());
+        }
+    }
+
+    private void expect(Token token) throws IOException {
+        Token next = peek();
+        if (next != token) {
+            throw syntaxError("Expected " + token + " but was " + next);
+        }
+        peeked = null;
+    }
+
+    private void push(int scope) {
+        if (depth == scopes.length) {
+            scopes = Arrays.copyOf(scopes, depth * 2);
+        }
+        scopes[depth++] = scope;
+    }
+
+    /**
+     * @param c the first character of a value; it is consumed for objects, arrays and strings, and pushed back for
+     *          the other values, which are read as a whole later
+     */
+    private Token valueToken(int c) throws IOException {
+        switch (c) {
+            case '{':
+                return Token.BEGIN_OBJECT;
+            case '[':
+                return Token.BEGIN_ARRAY;
+            case '"':
+                return Token.STRING;
+            case 't':
+            case 'f':
+                pushBack(c);
+                return Token.BOOLEAN;
+            case 'n':
+                pushBack(c);
+                return Token.NULL;
+            default:
+                if (c == '-' || c >= '0' && c <= '9') {
+                    pushBack(c);
+                    return Token.NUMBER;
+                }
+                throw syntaxError(c == END ? "Unexpected end of the document" : "Expected a value");
+        }
+    }
+
+    private String readString() throws IOException {
+        scratch.setLength(0);
+        while (true) {
+            int c = read();
+            if (c == '"') {
+                return scratch.toString();
+            }
+            if (c == END) {
+                throw syntaxError("Unterminated string");
+            }
+            if (c < 0x20) {
+                throw syntaxError("Unescaped control character in a string");
+            }
+            if (c != '\\') {
+                scratch.append((char) c);
+                continue;
+            }
+
+            int escaped = read();
+            switch (escaped) {
+                case '"':
+                case '\\':
+                case '/':
+                    scratch.append((char) escaped);
+                    break;
+                case 'b':
+                    scratch.append('\b');
+                    break;
+                case 'f':
+                    scratch.append('\f');
+                    break;
+                case 'n':
+                    scratch.append('\n');
+                    break;
+                case 'r':
+                    scratch.append('\r');
+                    break;
+                case 't':
+                    scratch.append('\t');
+                    break;
+                case 'u':
+                    int code = 0;
+                    for (int i = 0; i < 4; i++) {
+                        int digit = Character.digit(read(), 16);
+                        if (digit < 0) {
+                            throw syntaxError("Malformed unicode escape");
+                        }
+                        code = code << 4 | digit;
+                    }
+                    scratch.append((char) code);
+                    break;
+                default:
+                    throw syntaxError("Malformed escape");
+            }
+        }
+    }
+
+    private String readNumber() throws IOException {
+        scratch.setLength(0);
+        while (true) {
+            int c = read();
+            if (c >= '0' && c <= '9' || c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E') {
+                scratch.append((char) c);
+            } else {
+                pushBack(c);
+                return scratch.toString();
+            }
+        }
+    }
+
+    private void readLiteral(String rest) throws IOException {
+        for (int i = 0; i < rest.length(); i++) {
+            if (read() != rest.charAt(i)) {
+                throw syntaxError("Malformed literal");
+            }
+        }
+    }
+
+    private int nextNonWhitespace() throws IOException {
+        while (true) {
+            int c = read();
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+                return c;
+            }
+        }
+    }
+
+    private void pushBack(int c) {
+        pushedBack = c;
+        offset--;
+    }
+
+    private int read() throws IOException {
+        offset++;
+        if (pushedBack != NO_CHAR) {
+            int c = pushedBack;
+            pushedBack = NO_CHAR;
+            return c;
+        }
+
+        if (text != null) {
+            return pos < text.length() ? text.charAt(pos++) : END;
+        }
+        if (pos == limit) {
+            limit = reader.read(buffer, 0, buffer.length);
+            pos = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return END;
+            }
+        }
+        return buffer[pos++];
+    }
+
+    private IOException syntaxError(String message) {
+        return new IOException(message + " at character " + offset + ".");
+    }
+
+    /**
+     * The kinds of JSON tokens.
+     */
+    public enum Token {
+        BEGIN_OBJECT,
+        END_OBJECT,
+        BEGIN_ARRAY,
+        END_ARRAY,
+        NAME,
+        STRING,
+        NUMBER,
+        BOOLEAN,
+        NULL,
+        END_DOCUMENT
+    }
+}
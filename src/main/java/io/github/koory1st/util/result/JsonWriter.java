@@ -0,0 +1,239 @@
+/*
+ *  JsonWriter.java, 2026-10-17
+ *
+ *  Copyright 2022  Koory1st, Inc. All rights reserved.
+ */
+
+package io.github.koory1st.util.result;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * A minimal streaming JSON writer, appending straight to an {@link Appendable} such as a {@link java.io.Writer}
+ * or a {@link StringBuilder}. It inserts the commas and colons, escapes the strings, and checks that names and
+ * values alternate inside objects. It doesn't flush nor close the Appendable. Used by {@link ResultJson} and the
+ * {@link JsonAdapter}s.
+ */
+public final class JsonWriter {
+    private static final int ARRAY = 0;
+    private static final int OBJECT = 1;
+    private static final int OBJECT_AFTER_NAME = 2;
+    private static final String[] ESCAPES = new String[128];
+
+    static {
+        for (int c = 0; c < 0x20; c++) {
+            ESCAPES[c] = String.format("\\u%04x", c);
+        }
+        ESCAPES['"'] = "\\\"";
+        ESCAPES['\\'] = "\\\\";
+        ESCAPES['\b'] = "\\b";
+        ESCAPES['\f'] = "\\f";
+        ESCAPES['\n'] = "\\n";
+        ESCAPES['\r'] = "\\r";
+        ESCAPES['\t'] = "\\t";
+    }
+
+    private final Appendable out;
+    // whether the scope at each depth already has an element, to know where to put commas
+    private boolean[] nonEmpty = new boolean[16];
+    private int[] scopes = new int[16];
+    private int depth;
+
+    /**
+     * @param out out
+     */
+    public JsonWriter(@NotNull Appendable out) {
+        this.out = out;
+    }
+
+    /**
+     * @return this writer
+     * @throws IOException if the Appendable fails
+     */
+    @NotNull
+    public JsonWriter beginObject() throws IOException {
+        beforeValue();
+        out.append('{');
+        push(OBJECT);
+        return this;
+    }
+
+    /**
+     * @return this writer
+     * @throws IOException if the Appendable fails
+     */
+    @NotNull
+    public JsonWriter endObject() throws IOException {
+        if (depth == 0 || scopes[depth - 1] != OBJECT) {
+            throw new IllegalStateException("There is no object to end here.");
+        }
+        depth--;
+        out.append('}');
+        return this;
+    }
+
+    /**
+     * @return this writer
+     * @throws IOException if the Appendable fails
+     */
+    @NotNull
+    public JsonWriter beginArray() throws IOException {
+        beforeValue();
+        out.append('[');
+        push(ARRAY);
+        return this;
+    }
+
+    /**
+     * @return this writer
+     * @throws IOException if the Appendable fails
+     */
+    @NotNull
+    public JsonWriter endArray() throws IOException {
+        if (depth == 0 || scopes[depth - 1] != ARRAY) {
+            throw new IllegalStateException("There is no array to end here.");
+        }
+        depth--;
+        out.append(']');
+        return this;
+    }
+
+    /**
+     * @param name the name of the next member of the current object
+     * @return this writer
+     * @throws IOException if the Appendable fails
+     */
+    @NotNull
+    public JsonWriter name(@NotNull String name) throws IOException {
+        if (depth == 0 || scopes[depth - 1] != OBJECT) {
+            throw new IllegalStateException("A name can only be written in an object, before its value.");
+        }
+        if (nonEmpty[depth - 1]) {
+            out.append(',');
+        }
+        nonEmpty[depth - 1] = true;
+        string(name);
+        out.append(':');
+        scopes[depth - 1] = OBJECT_AFTER_NAME;
+        return this;
+    }
+
+    /**
+     * @param value value
+     * @return this writer
+     * @throws IOException if the Appendable fails
+     */
+    @NotNull
+    public JsonWriter value(@NotNull String value) throws IOException {
+        beforeValue();
+        string(value);
+        return this;
+    }
+
+    /**
+     * @param value value
+     * @return this writer
+     * @throws IOException if the Appendable fails
+     */
+    @NotNull
+    public JsonWriter value(long value) throws IOException {
+        beforeValue();
+        out.append(Long.toString(value));
+        return this;
+    }
+
+    /**
+     * @param value a finite number
+     * @return this writer
+     * @throws IOException if the Appendable fails
+     */
+    @NotNull
+    public JsonWriter value(double value) throws IOException {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            throw new IllegalArgumentException("JSON can't represent NaN or infinite numbers.");
+        }
+        beforeValue();
+        out.append(Double.toString(value));
+        return this;
+    }
+
+    /**
+     * @param value value
+     * @return this writer
+     * @throws IOException if the Appendable fails
+     */
+    @NotNull
+    public JsonWriter value(boolean value) throws IOException {
+        beforeValue();
+        out.append(value ? "true" : "false");
+        return this;
+    }
+
+    /**
+     * @return this writer
+     * @throws IOException if the Appendable fails
+     */
+    @NotNull
+    public JsonWriter nullValue() throws IOException {
+        beforeValue();
+        out.append("null");
+        return this;
+    }
+
+    private void beforeValue() throws IOException {
+        if (depth == 0) {
+            return;
+        }
+
+        int scope = scopes[depth - 1];
+        if (scope == OBJECT) {
+            throw new IllegalStateException("A value in an object needs a name first.");
+        }
+        if (scope == OBJECT_AFTER_NAME) {
+            scopes[depth - 1] = OBJECT;
+            return;
+        }
+        if (nonEmpty[depth - 1]) {
+            out.append(',');
+        }
+        nonEmpty[depth - 1] = true;
+    }
+
+    private void push(int scope) {
+        if (depth == scopes.length) {
+            scopes = Arrays.copyOf(scopes, depth * 2);
+            nonEmpty = Arrays.copyOf(nonEmpty, depth * 2);
+        }
+        scopes[depth] = scope;
+        nonEmpty[depth] = false;
+        depth++;
+    }
+
+    private void string(String value) throws IOException {
+        out.append('"');
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            String escape;
+            if (c < ESCAPES.length) {
+                escape = ESCAPES[c];
+            } else if (c == '\u2028' || c == '\u2029') {
+                // valid in JSON, but line terminators in JavaScript
+                escape = c == '\u2028' ? "\\u2028" : "\\u2029";
+            } else {
+                continue;
+            }
+            if (escape == null) {
+                continue;
+            }
+            out.append(value, start, i);
+            out.append(escape);
+            start = i + 1;
+        }
+        out.append(value, start, value.length());
+        out.append('"');
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ *  LazyResult.java, 2026-10-17
+ *
+ *  Copyright 2022  Koory1st, Inc. All rights reserved.
+ */
+
+package io.github.koory1st.util.result;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * LazyResult is a Result&lt;T, E&gt; computed on first use.
+ * <p>
+ * The supplier runs at most once, even if several threads call {@link #get()} at the same time, and is released
+ * afterwards. If it throws, nothing is memoized and the next {@link #get()} runs it again.
+ * {@link #map}, {@link #andThen}, {@link #mapErr} and {@link #orElse} return new LazyResults, so a chain only runs
+ * when its end is forced.
+ *
+ * @param <T> success (Ok)
+ * @param <E> failure (Err)
+ */
+public final class LazyResult<T, E> implements Supplier<Result<T, E>> {
+    private Supplier<Result<T, E>> supplier;
+    private volatile Result<T, E> value;
+
+    private LazyResult(Supplier<Result<T, E>> supplier) {
+        this.supplier = supplier;
+    }
+
+    /**
+     * @param supplier supplier
+     * @param <T>      T
+     * @param <E>      E
+     * @return a LazyResult computed by `supplier`
+     */
+    @NotNull
+    public static <T, E> LazyResult<T, E> of(@NotNull Supplier<Result<T, E>> supplier) {
+        return new LazyResult<>(supplier);
+    }
+
+    /**
+     * Computes the Result if it hasn't been yet.
+     *
+     * @return the Result
+     * @throws ResultPanicException if the supplier returns null.
+     */
+    @Override
+    @NotNull
+    public Result<T, E> get() {
+        Result<T, E> result = value;
+        if (result != null) {
+            return result;
+        }
+
+        synchronized (this) {
+            result = value;
+            if (result == null) {
+                result = supplier.get();
+                //noinspection ConstantConditions
+                if (result == null) {
+                    throw ResultPanicException.panic("A LazyResult's supplier can't return null.");
+                }
+                value = result;
+                supplier = null;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return true if the Result has been computed.
+     */
+    public boolean isEvaluated() {
+        return value != null;
+    }
+
+    /**
+     * Lazy version of {@link Result#map(Function)}.
+     *
+     * @param mapFunction mapFunction
+     * @param <U>         U
+     * @return LazyResult&lt;U, E&gt;
+     */
+    @NotNull
+    public <U> LazyResult<U, E> map(@NotNull Function<T, U> mapFunction) {
+        return new LazyResult<>(() -> get().map(mapFunction));
+    }
+
+    /**
+     * Lazy version of {@link Result#andThen(Function)}.
+     *
+     * @param op  op
+     * @param <U> U
+     * @return LazyResult&lt;U, E&gt;
+     */
+    @NotNull
+    public <U> LazyResult<U, E> andThen(@NotNull Function<T, Result<U, E>> op) {
+        return new LazyResult<>(() -> get().andThen(op));
+    }
+
+    /**
+     * Lazy version of {@link Result#mapErr(Function)}.
+     *
+     * @param mapFunction mapFunction
+     * @param <F>         F
+     * @return LazyResult&lt;T, F&gt;
+     */
+    @NotNull
+    public <F> LazyResult<T, F> mapErr(@NotNull Function<E, F> mapFunction) {
+        return new LazyResult<>(() -> get().mapErr(mapFunction));
+    }
+
+    /**
+     * Lazy version of {@link Result#orElse(Function)}.
+     *
+     * @param op  op
+     * @param <F> F
+     * @return LazyResult&lt;T, F&gt;
+     */
+    @NotNull
+    public <F> LazyResult<T, F> orElse(@NotNull Function<E, Result<T, F>> op) {
+        return new LazyResult<>(() -> get().orElse(op));
+    }
+
+    @Override
+    @NotNull
+    public String toString() {
+        Result<T, E> result = value;
+        if (result == null) {
+            return "LazyResult(?)";
+        }
+        return String.format(Result.TO_STRING_FMT, "LazyResult", result);
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ *  LongOk.java, 2026-10-17
+ *
+ *  Copyright 2022  Koory1st, Inc. All rights reserved.
+ */
+
+package io.github.koory1st.util.result;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The success variant of {@link LongResult}.
+ *
+ * @param <E> failure (Err)
+ */
+public final class LongOk<E> extends LongResult<E> {
+    private final long ok;
+
+    private LongOk(long ok) {
+        this.ok = ok;
+    }
+
+    @NotNull
+    public static <E> LongOk<E> of(long ok) {
+        return new LongOk<>(ok);
+    }
+
+    @Override
+    public boolean isOk() {
+        return true;
+    }
+
+    @Override
+    long okValue() {
+        return ok;
+    }
+
+    @Override
+    E errValue() {
+        return null;
+    }
+}
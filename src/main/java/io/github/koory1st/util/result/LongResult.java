@@ -0,0 +1,334 @@
+/*
+ *  LongResult.java, 2026-10-17
+ *
+ *  Copyright 2022  Koory1st, Inc. All rights reserved.
+ */
+
+package io.github.koory1st.util.result;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ToLongFunction;
+
+/**
+ * LongResult is a long specialization of {@link Result}, it represents either success (LongOk) or failure (LongErr)
+ * without boxing the Ok value.
+ *
+ * @param <E> failure (Err)
+ */
+public abstract class LongResult<E> {
+    LongResult() {
+    }
+
+    /**
+     * Converts from Result&lt;Long, E&gt; to LongResult&lt;E&gt;.
+     *
+     * @param result result
+     * @param <E>    E
+     * @return LongResult&lt;E&gt;
+     * @throws ResultPanicException if the result is an empty Ok.
+     */
+    @NotNull
+    public static <E> LongResult<E> from(@NotNull Result<Long, E> result) {
+        if (result.isErr()) {
+            return LongErr.of(result.err());
+        }
+
+        Long value = result.unwrap();
+        if (value == null) {
+            throw ResultPanicException.panic(Result.CANT_CONVERT_A_EMPTY_OK);
+        }
+
+        return LongOk.of(value);
+    }
+
+    /**
+     * @return true if the result is Ok.
+     */
+    public abstract boolean isOk();
+
+    /**
+     * @return true if the result is Err.
+     */
+    public boolean isErr() {
+        return !isOk();
+    }
+
+    /**
+     * Calls `op` if the result is [`Ok`], otherwise returns the [`Err`] value of `self`.
+     *
+     * @param op op
+     * @return return
+     */
+    @NotNull
+    public LongResult<E> andThen(@NotNull LongFunction<LongResult<E>> op) {
+        if (this.isErr()) {
+            return this;
+        }
+
+        return op.apply(okValue());
+    }
+
+    /**
+     * @return the contained Err value, null if the result is Ok.
+     */
+    @Nullable
+    public E err() {
+        return errValue();
+    }
+
+    /**
+     * Maps an LongResult&lt;E&gt; to LongResult&lt;E&gt; by applying a function to a contained Ok value,
+     * leaving an Err value untouched.
+     *
+     * @param mapFunction mapFunction
+     * @return mapped LongResult&lt;E&gt;
+     */
+    @NotNull
+    public LongResult<E> map(@NotNull LongUnaryOperator mapFunction) {
+        if (this.isErr()) {
+            return this;
+        }
+
+        return LongOk.of(mapFunction.applyAsLong(okValue()));
+    }
+
+    /**
+     * Maps an LongResult&lt;E&gt; to IntResult&lt;E&gt; by applying a function to a contained Ok value,
+     * leaving an Err value untouched.
+     *
+     * @param mapFunction mapFunction
+     * @return mapped IntResult&lt;E&gt;
+     */
+    @NotNull
+    public IntResult<E> mapToInt(@NotNull LongToIntFunction mapFunction) {
+        if (this.isErr()) {
+            return IntErr.of(errValue());
+        }
+
+        return IntOk.of(mapFunction.applyAsInt(okValue()));
+    }
+
+    /**
+     * Maps an LongResult&lt;E&gt; to DoubleResult&lt;E&gt; by applying a function to a contained Ok value,
+     * leaving an Err value untouched.
+     *
+     * @param mapFunction mapFunction
+     * @return mapped DoubleResult&lt;E&gt;
+     */
+    @NotNull
+    public DoubleResult<E> mapToDouble(@NotNull LongToDoubleFunction mapFunction) {
+        if (this.isErr()) {
+            return DoubleErr.of(errValue());
+        }
+
+        return DoubleOk.of(mapFunction.applyAsDouble(okValue()));
+    }
+
+    /**
+     * Maps an LongResult&lt;E&gt; to Result&lt;U, E&gt; by applying a function to a contained Ok value,
+     * leaving an Err value untouched.
+     *
+     * @param mapFunction mapFunction
+     * @param <U>         U
+     * @return mapped Result&lt;U, E&gt;
+     */
+    @NotNull
+    public <U> Result<U, E> mapToObj(@NotNull LongFunction<U> mapFunction) {
+        if (this.isErr()) {
+            return Err.of(errValue());
+        }
+
+        return Ok.of(mapFunction.apply(okValue()));
+    }
+
+    /**
+     * Maps an LongResult&lt;E&gt; to LongResult&lt;F&gt; by applying a function to a contained Err value,
+     * leaving an Ok value untouched.
+     *
+     * @param mapFunction mapFunction
+     * @param <F>         F
+     * @return LongResult&lt;F&gt;
+     */
+    @NotNull
+    public <F> LongResult<F> mapErr(@NotNull Function<E, F> mapFunction) {
+        if (this.isOk()) {
+            return this.cast();
+        }
+
+        return LongErr.of(mapFunction.apply(errValue()));
+    }
+
+    /**
+     * Calls `op` if the result is [`Err`], otherwise returns the [`Ok`] value of `self`.
+     *
+     * @param op  op
+     * @param <F> F
+     * @return result
+     */
+    @NotNull
+    public <F> LongResult<F> orElse(@NotNull Function<E, LongResult<F>> op) {
+        if (this.isOk()) {
+            return this.cast();
+        }
+
+        return op.apply(errValue());
+    }
+
+    /**
+     * Reinterprets an Ok under a new Err type parameter.
+     * An Ok never holds an E, so the cast is safe and nothing is allocated.
+     */
+    @SuppressWarnings("unchecked")
+    private <F> LongResult<F> cast() {
+        return (LongResult<F>) this;
+    }
+
+    /**
+     * @param msg passed message
+     * @return the contained Ok value
+     * @throws ResultPanicException if the value is an Err, with a message including the passed message, and the content of the Err.
+     */
+    public long expect(@NotNull String msg) throws ResultPanicException {
+        if (isOk()) {
+            return okValue();
+        }
+
+        E err = errValue();
+        throw ResultPanicException.panic(err, Result.EXPECT_FMT, msg, err);
+    }
+
+    /**
+     * @param msg passed message
+     * @return the contained Err value.
+     * @throws ResultPanicException if the value is an Ok, with a panic message including the passed message, and the content of the Ok.
+     */
+    @NotNull
+    public E expectErr(@NotNull String msg) throws ResultPanicException {
+        if (isErr()) {
+            return errValue();
+        }
+
+        long ok = okValue();
+        throw ResultPanicException.panic(ok, Result.EXPECT_FMT, msg, ok);
+    }
+
+    /**
+     * @return the contained Ok value.
+     * @throws ResultPanicException if the value is an Err, with a message provided by the Errs value.
+     */
+    public long unwrap() throws ResultPanicException {
+        if (isOk()) {
+            return okValue();
+        }
+
+        E err = errValue();
+        throw ResultPanicException.panic(err, Result.UNWRAP_PANIC_STR, err);
+    }
+
+    /**
+     * @return the contained [`Err`] value
+     * @throws ResultPanicException if the value is an [`Ok`], with a custom panic message provided by the [`Ok`]'s value.
+     */
+    @NotNull
+    public E unwrapErr() throws ResultPanicException {
+        if (isErr()) {
+            return errValue();
+        }
+
+        long ok = okValue();
+        throw ResultPanicException.panic(ok, Result.UNWRAP_ERR_PANIC_STR, ok);
+    }
+
+    /**
+     * @param defaultValue default
+     * @return the contained [`Ok`] value or a provided default.
+     */
+    public long unwrapOr(long defaultValue) {
+        if (isErr()) {
+            return defaultValue;
+        }
+        return okValue();
+    }
+
+    /**
+     * @param op a closure
+     * @return the contained [`Ok`] value or computes it from a closure.
+     */
+    public long unwrapOrElse(@NotNull ToLongFunction<E> op) {
+        if (isOk()) {
+            return okValue();
+        }
+        return op.applyAsLong(errValue());
+    }
+
+    /**
+     * Converts from LongResult&lt;E&gt; to Result&lt;Long, E&gt;, boxing the Ok value.
+     *
+     * @return Result&lt;Long, E&gt;
+     */
+    @NotNull
+    public Result<Long, E> toResult() {
+        if (isErr()) {
+            return Err.of(errValue());
+        }
+        return Ok.of(okValue());
+    }
+
+    @Override
+    public boolean equals(Object obj2Compare) {
+        if (!(obj2Compare instanceof LongResult)) {
+            return false;
+        }
+
+        LongResult<?> that = (LongResult<?>) obj2Compare;
+        if (this.isOk() != that.isOk()) {
+            return false;
+        }
+
+        if (this.isOk()) {
+            return this.okValue() == that.okValue();
+        }
+
+        return Objects.equals(this.errValue(), that.errValue());
+    }
+
+    @Override
+    public int hashCode() {
+        if (isOk()) {
+            return Long.hashCode(okValue());
+        }
+        return ~Objects.hashCode(errValue());
+    }
+
+    @Override
+    @NotNull
+    public String toString() {
+        if (this.isOk()) {
+            return String.format(Result.TO_STRING_FMT, Result.OK, okValue());
+        }
+
+        E err = errValue();
+        if (err instanceof String) {
+            return String.format(Result.TO_STRING_QUOTE_FMT, Result.ERR, err);
+        }
+        return String.format(Result.TO_STRING_FMT, Result.ERR, err);
+    }
+
+    /**
+     * @return the Ok content, 0 if the result is Err.
+     */
+    abstract long okValue();
+
+    /**
+     * @return the Err content, null if the result is Ok.
+     */
+    abstract E errValue();
+}
@@ -0,0 +1,43 @@
+/*
+ *  MetricsHook.java, 2026-10-17
+ *
+ *  Copyright 2022  Koory1st, Inc. All rights reserved.
+ */
+
+package io.github.koory1st.util.result;
+
+import java.util.Iterator;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * Holds the installed {@link ResultMetrics}. The field is static final so that `METRICS != null` is a constant
+ * once this class is initialized. A provider that can't be loaded is logged and leaves the metrics disabled, rather
+ * than failing the initialization of this class and with it every Ok and Err.
+ */
+final class MetricsHook {
+    static final ResultMetrics METRICS = load(System.getProperty(ResultMetrics.METRICS_PROPERTY));
+
+    private MetricsHook() {
+    }
+
+    /**
+     * @param className the class named by the system property, null to look for a service provider
+     * @return the provider, or null if there is none or it can't be loaded
+     */
+    static ResultMetrics load(String className) {
+        try {
+            if (className != null) {
+                return (ResultMetrics) Class.forName(className).getDeclaredConstructor().newInstance();
+            }
+
+            Iterator<ResultMetrics> providers = ServiceLoader.load(ResultMetrics.class).iterator();
+            return providers.hasNext() ? providers.next() : null;
+        } catch (ReflectiveOperationException | RuntimeException | ServiceConfigurationError | LinkageError e) {
+            System.getLogger(MetricsHook.class.getName()).log(System.Logger.Level.ERROR,
+                    "Can't load the ResultMetrics " + (className == null ? "provider" : className)
+                            + ", the metrics are disabled.", e);
+            return null;
+        }
+    }
+}
@@ -8,16 +8,89 @@ package io.github.koory1st.util.result;
 
 import org.jetbrains.annotations.NotNull;
 
-public class Ok<T, E> extends Result<T, E> {
+import java.io.Serializable;
+
+/**
+ * The success variant of {@link Result}.
+ * <p>
+ * The empty Ok, the Boolean Oks and the Oks of the Integers from -128 to 127 are canonical instances shared by
+ * every caller, like {@link Integer#valueOf(int)}.
+ * Don't rely on their identity, compare Results with {@link #equals(Object)}.
+ * <p>
+ * An Ok is serializable if its value is, and deserializing one gives back the canonical instances.
+ *
+ * @param <T> success (Ok)
+ * @param <E> failure (Err)
+ */
+public final class Ok<T, E> extends Result<T, E> implements Serializable {
+    private static final long serialVersionUID = 1L;
+    static final int INT_CACHE_LOW = -128;
+    static final int INT_CACHE_HIGH = 127;
+    private static final Ok<?, ?> EMPTY = new Ok<>(null);
+    private static final Ok<?, ?> TRUE = new Ok<>(Boolean.TRUE);
+    private static final Ok<?, ?> FALSE = new Ok<>(Boolean.FALSE);
+    private static final Ok<?, ?>[] INTS = new Ok<?, ?>[INT_CACHE_HIGH - INT_CACHE_LOW + 1];
+
+    static {
+        for (int i = 0; i < INTS.length; i++) {
+            INTS[i] = new Ok<>(i + INT_CACHE_LOW);
+        }
+    }
+
+    private final T ok;
+
     private Ok(T ok) {
-        super(ok, null, true);
+        this.ok = ok;
     }
 
+    @NotNull
+    @SuppressWarnings("unchecked")
     public static <T, E> Ok<T, E> of(@NotNull T ok) {
+        if (MetricsHook.METRICS != null) {
+            MetricsHook.METRICS.onOk();
+        }
+        if (ok instanceof Boolean) {
+            return (Ok<T, E>) ((Boolean) ok ? TRUE : FALSE);
+        }
+        if (ok instanceof Integer) {
+            int value = (Integer) ok;
+            if (value >= INT_CACHE_LOW && value <= INT_CACHE_HIGH) {
+                return (Ok<T, E>) INTS[value - INT_CACHE_LOW];
+            }
+        }
         return new Ok<>(ok);
     }
 
+    /**
+     * @param <T> T
+     * @param <E> E
+     * @return the empty Ok
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
     public static <T, E> Ok<T, E> of() {
-        return new Ok<>(null);
+        if (MetricsHook.METRICS != null) {
+            MetricsHook.METRICS.onOk();
+        }
+        return (Ok<T, E>) EMPTY;
+    }
+
+    @Override
+    public boolean isOk() {
+        return true;
+    }
+
+    @Override
+    T okValue() {
+        return ok;
+    }
+
+    @Override
+    E errValue() {
+        return null;
+    }
+
+    private Object readResolve() {
+        return ok == null ? of() : of(ok);
     }
 }
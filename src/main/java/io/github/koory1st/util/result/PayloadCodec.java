@@ -0,0 +1,43 @@
+/*
+ *  PayloadCodec.java, 2026-10-17
+ *
+ *  Copyright 2022  Koory1st, Inc. All rights reserved.
+ */
+
+package io.github.koory1st.util.result;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Writes and reads the Ok or Err values of a {@link ResultCodec}. See {@link PayloadCodecs} for the built-in ones.
+ *
+ * @param <V> value
+ */
+public interface PayloadCodec<V> {
+    /**
+     * @param value value
+     * @return the number of bytes {@link #encode} writes for `value`
+     */
+    int encodedSize(@NotNull V value);
+
+    /**
+     * Writes `value` at the position of `buffer`, advancing it.
+     *
+     * @param value  value
+     * @param buffer buffer
+     * @throws java.nio.BufferOverflowException if `buffer` doesn't have {@link #encodedSize} bytes remaining
+     */
+    void encode(@NotNull V value, @NotNull ByteBuffer buffer);
+
+    /**
+     * Reads a value at the position of `buffer`, advancing it.
+     *
+     * @param buffer buffer
+     * @return the value
+     * @throws java.nio.BufferUnderflowException if `buffer` ends before the value
+     */
+    @NotNull
+    V decode(@NotNull ByteBuffer buffer);
+}
@@ -0,0 +1,173 @@
+/*
+ *  PayloadCodecs.java, 2026-10-17
+ *
+ *  Copyright 2022  Koory1st, Inc. All rights reserved.
+ */
+
+package io.github.koory1st.util.result;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The built-in {@link PayloadCodec}s. Numbers are written in the byte order of the buffer.
+ */
+public final class PayloadCodecs {
+    /**
+     * 1 byte, 0 or 1.
+     */
+    public static final PayloadCodec<Boolean> BOOLEAN = new FixedSizeCodec<Boolean>(Byte.BYTES) {
+        @Override
+        public void encode(@NotNull Boolean value, @NotNull ByteBuffer buffer) {
+            buffer.put(value ? (byte) 1 : (byte) 0);
+        }
+
+        @Override
+        @NotNull
+        public Boolean decode(@NotNull ByteBuffer buffer) {
+            return buffer.get() != 0;
+        }
+    };
+    /**
+     * 4 bytes.
+     */
+    public static final PayloadCodec<Integer> INTEGER = new FixedSizeCodec<Integer>(Integer.BYTES) {
+        @Override
+        public void encode(@NotNull Integer value, @NotNull ByteBuffer buffer) {
+            buffer.putInt(value);
+        }
+
+        @Override
+        @NotNull
+        public Integer decode(@NotNull ByteBuffer buffer) {
+            return buffer.getInt();
+        }
+    };
+    /**
+     * 8 bytes.
+     */
+    public static final PayloadCodec<Long> LONG = new FixedSizeCodec<Long>(Long.BYTES) {
+        @Override
+        public void encode(@NotNull Long value, @NotNull ByteBuffer buffer) {
+            buffer.putLong(value);
+        }
+
+        @Override
+        @NotNull
+        public Long decode(@NotNull ByteBuffer buffer) {
+            return buffer.getLong();
+        }
+    };
+    /**
+     * 8 bytes.
+     */
+    public static final PayloadCodec<Double> DOUBLE = new FixedSizeCodec<Double>(Double.BYTES) {
+        @Override
+        public void encode(@NotNull Double value, @NotNull ByteBuffer buffer) {
+            buffer.putDouble(value);
+        }
+
+        @Override
+        @NotNull
+        public Double decode(@NotNull ByteBuffer buffer) {
+            return buffer.getDouble();
+        }
+    };
+    /**
+     * A 4-byte length followed by the UTF-8 bytes, encoded straight into the buffer.
+     * Unpaired surrogates are written as '?', like {@link String#getBytes(java.nio.charset.Charset)} does.
+     */
+    public static final PayloadCodec<String> STRING = new StringCodec();
+
+    private PayloadCodecs() {
+    }
+
+    private abstract static class FixedSizeCodec<V> implements PayloadCodec<V> {
+        private final int size;
+
+        private FixedSizeCodec(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public int encodedSize(@NotNull V value) {
+            return size;
+        }
+    }
+
+    private static final class StringCodec implements PayloadCodec<String> {
+        @Override
+        public int encodedSize(@NotNull String value) {
+            int size = 0;
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c < 0x80) {
+                    size += 1;
+                } else if (c < 0x800) {
+                    size += 2;
+                } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                        && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    size += 4;
+                    i++;
+                } else if (Character.isSurrogate(c)) {
+                    size += 1;
+                } else {
+                    size += 3;
+                }
+            }
+            return Integer.BYTES + size;
+        }
+
+        @Override
+        public void encode(@NotNull String value, @NotNull ByteBuffer buffer) {
+            int lengthPosition = buffer.position();
+            buffer.putInt(0);
+            int start = buffer.position();
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c < 0x80) {
+                    buffer.put((byte) c);
+                } else if (c < 0x800) {
+                    buffer.put((byte) (0xC0 | c >> 6));
+                    buffer.put((byte) (0x80 | c & 0x3F));
+                } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                        && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                    buffer.put((byte) (0xF0 | codePoint >> 18));
+                    buffer.put((byte) (0x80 | codePoint >> 12 & 0x3F));
+                    buffer.put((byte) (0x80 | codePoint >> 6 & 0x3F));
+                    buffer.put((byte) (0x80 | codePoint & 0x3F));
+                } else if (Character.isSurrogate(c)) {
+                    buffer.put((byte) '?');
+                } else {
+                    buffer.put((byte) (0xE0 | c >> 12));
+                    buffer.put((byte) (0x80 | c >> 6 & 0x3F));
+                    buffer.put((byte) (0x80 | c & 0x3F));
+                }
+            }
+            buffer.putInt(lengthPosition, buffer.position() - start);
+        }
+
+        @Override
+        @NotNull
+        public String decode(@NotNull ByteBuffer buffer) {
+            int length = buffer.getInt();
+            if (length < 0 || length > buffer.remaining()) {
+                throw new IllegalArgumentException("Can't decode a String of " + length + " bytes.");
+            }
+
+            String value;
+            if (buffer.hasArray()) {
+                value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+            } else {
+                ByteBuffer bytes = buffer.duplicate();
+                bytes.limit(bytes.position() + length);
+                value = StandardCharsets.UTF_8.decode(bytes).toString();
+            }
+            buffer.position(buffer.position() + length);
+            return value;
+        }
+    }
+}
@@ -11,16 +11,25 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * Result is a type that represents either success (Ok) or failure (Err).
+ * <p>
+ * Ok and Err are its only, final, subclasses, each holding just its own content. On Java 17+ the multi-release jar
+ * declares Result as sealed, so a pattern-matching {@code switch} over {@code Ok} and {@code Err} is exhaustive.
  *
  * @param <T> success (Ok)
  * @param <E> failure (Err)
  */
 public abstract class Result<T, E> {
     public static final String CANT_APPLY_FUNCTION_A_EMPTY_OK = "Can't applying a function to a Empty Ok.";
+    public static final String CANT_CONVERT_A_EMPTY_OK = "Can't convert a Empty Ok to a primitive Ok.";
     public static final String EMPTY_STRING = "";
     public static final String ERR = "Err";
     public static final String EXPECT_FMT = "%s: %s";
@@ -29,14 +38,163 @@ public abstract class Result<T, E> {
     public static final String TO_STRING_QUOTE_FMT = "%s(\"%s\")";
     public static final String UNWRAP_ERR_PANIC_STR = "called `Result.unwrapErr()` on an `Ok` value: %s";
     public static final String UNWRAP_PANIC_STR = "called `Result.unwrap()` on an `Err` value: %s";
-    private final E err;
-    private final T ok;
-    private final boolean okFlg;
+    Result() {
+    }
+
+    /**
+     * Calls `supplier` and returns its value as an Ok, or the exception it throws as an Err.
+     * Errors such as {@link OutOfMemoryError} are not caught. If the exception is an {@link InterruptedException},
+     * the interrupt flag is set again.
+     *
+     * @param supplier supplier
+     * @param <T>      T
+     * @return Ok of the value, which is the empty Ok if it is null, or Err of the exception
+     */
+    @NotNull
+    public static <T> Result<T, Exception> catching(@NotNull ThrowingSupplier<? extends T> supplier) {
+        return catching(supplier, Function.identity());
+    }
+
+    /**
+     * Calls `supplier` and returns its value as an Ok, or the exception it throws mapped by `mapper` as an Err.
+     * With a mapper like {@code ExceptionRecord::of}, the exception isn't referenced afterwards, so its stack trace
+     * doesn't stay in memory as long as the Err.
+     *
+     * @param supplier supplier
+     * @param mapper   mapper
+     * @param <T>      T
+     * @param <E>      E
+     * @return Ok of the value, which is the empty Ok if it is null, or Err of the mapped exception
+     */
+    @NotNull
+    public static <T, E> Result<T, E> catching(@NotNull ThrowingSupplier<? extends T> supplier,
+                                               @NotNull Function<? super Exception, ? extends E> mapper) {
+        T value;
+        try {
+            value = supplier.get();
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            return Err.of(mapper.apply(e));
+        }
+        return value == null ? Ok.of() : Ok.of(value);
+    }
+
+    /**
+     * Calls `supplier` and returns its value as an Ok, or the exception it throws as an Err if it is one of `types`.
+     * Other exceptions are rethrown as they are, even checked ones. Errors are never caught, as by the other overloads.
+     *
+     * @param supplier supplier
+     * @param types    the exception types turned into an Err
+     * @param <T>      T
+     * @param <X>      X
+     * @return Ok of the value, which is the empty Ok if it is null, or Err of the exception
+     */
+    @NotNull
+    @SafeVarargs
+    public static <T, X extends Exception> Result<T, X> catching(@NotNull ThrowingSupplier<? extends T> supplier,
+                                                                 @NotNull Class<? extends X>... types) {
+        T value;
+        try {
+            value = supplier.get();
+        } catch (Exception e) {
+            for (Class<? extends X> type : types) {
+                if (type.isInstance(e)) {
+                    if (e instanceof InterruptedException) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return Err.of(type.cast(e));
+                }
+            }
+            throw Result.<RuntimeException>sneakyThrow(e);
+        }
+        return value == null ? Ok.of() : Ok.of(value);
+    }
+
+    /**
+     * Runs `runnable` and returns the empty Ok, or the exception it throws as an Err.
+     * See {@link #catching(ThrowingSupplier)}.
+     *
+     * @param runnable runnable
+     * @return the empty Ok, or Err of the exception
+     */
+    @NotNull
+    public static Result<Void, Exception> catchingRunnable(@NotNull ThrowingRunnable runnable) {
+        return catching(() -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    /**
+     * Lifts a throwing function into one returning a Result, to use it in {@link #andThen(Function)} chains.
+     * See {@link #catching(ThrowingSupplier)}.
+     *
+     * @param function function
+     * @param <A>      A
+     * @param <B>      B
+     * @return a function returning Ok of the value, or Err of the exception
+     */
+    @NotNull
+    public static <A, B> Function<A, Result<B, Exception>> lift(@NotNull ThrowingFunction<? super A, ? extends B> function) {
+        return a -> catching(() -> function.apply(a));
+    }
+
+    /**
+     * Lifts a throwing function into one returning a Result, mapping the exceptions with `mapper`.
+     * See {@link #catching(ThrowingSupplier, Function)}.
+     *
+     * @param function function
+     * @param mapper   mapper
+     * @param <A>      A
+     * @param <B>      B
+     * @param <E>      E
+     * @return a function returning Ok of the value, or Err of the mapped exception
+     */
+    @NotNull
+    public static <A, B, E> Function<A, Result<B, E>> lift(@NotNull ThrowingFunction<? super A, ? extends B> function,
+                                                           @NotNull Function<? super Exception, ? extends E> mapper) {
+        return a -> catching(() -> function.apply(a), mapper);
+    }
 
-    protected Result(T ok, E err, boolean okFlg) {
-        this.ok = ok;
-        this.err = err;
-        this.okFlg = okFlg;
+    /**
+     * Runs `body` with a {@link ResultScope}, whose {@link ResultScope#bind(Result)} unwraps an Ok or ends the scope
+     * with an Err, like Rust's `?` operator:
+     * <pre>{@code
+     * Result<Order, String> order = Result.scope(ctx -> {
+     *     User user = ctx.bind(findUser(id));
+     *     Cart cart = ctx.bind(findCart(user));
+     *     return Ok.of(new Order(user, cart));
+     * });
+     * }</pre>
+     *
+     * @param body body
+     * @param <T>  T
+     * @param <E>  E
+     * @return the Result of `body`, or the first Err bound in it
+     */
+    @NotNull
+    public static <T, E> Result<T, E> scope(@NotNull Function<? super ResultScope<E>, ? extends Result<T, E>> body) {
+        return ResultScope.run(body);
+    }
+
+    /**
+     * Defers a step of a deep recursion, to be run in constant stack space. See {@link ResultTrampoline}.
+     *
+     * @param step step
+     * @param <T>  T
+     * @param <E>  E
+     * @return a computation of what `step` computes
+     */
+    @NotNull
+    public static <T, E> ResultTrampoline<T, E> defer(@NotNull Supplier<? extends ResultTrampoline<T, E>> step) {
+        return ResultTrampoline.defer(step);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <X extends Throwable> X sneakyThrow(Throwable throwable) throws X {
+        throw (X) throwable;
     }
 
     /**
@@ -50,15 +208,13 @@ public abstract class Result<T, E> {
             return res;
         }
 
-        return Err.of(this.err);
+        return this.cast();
     }
 
     /**
      * @return true if the result is Ok.
      */
-    public boolean isOk() {
-        return okFlg;
-    }
+    public abstract boolean isOk();
 
     /**
      * Calls `op` if the result is [`Ok`], otherwise returns the [`Err`] value of `self`.
@@ -70,21 +226,22 @@ public abstract class Result<T, E> {
     @NotNull
     public <U> Result<U, E> andThen(@NotNull Function<T, Result<U, E>> op) {
         if (this.isErr()) {
-            return Err.of(this.err);
+            return this.cast();
         }
 
-        if (this.ok().isEmpty()) {
-            throw new ResultPanicException(CANT_APPLY_FUNCTION_A_EMPTY_OK);
+        T ok = okValue();
+        if (ok == null) {
+            throw ResultPanicException.panic(CANT_APPLY_FUNCTION_A_EMPTY_OK);
         }
 
-        return op.apply(this.ok().get());
+        return op.apply(ok);
     }
 
     /**
      * @return true if the result is Err.
      */
     public boolean isErr() {
-        return !okFlg;
+        return !isOk();
     }
 
     /**
@@ -94,7 +251,7 @@ public abstract class Result<T, E> {
      */
     @NotNull
     public Optional<T> ok() {
-        return Optional.ofNullable(ok);
+        return Optional.ofNullable(okValue());
     }
 
     /**
@@ -102,12 +259,13 @@ public abstract class Result<T, E> {
      * @return true if the result is an Ok value containing the given value.
      */
     public boolean contains(@NotNull T value) {
-        if (!okFlg) {
+        if (isErr()) {
             return false;
         }
 
+        T ok = okValue();
         // if ok is empty, return false
-        if (ok().isEmpty()) {
+        if (ok == null) {
             return false;
         }
 
@@ -119,7 +277,7 @@ public abstract class Result<T, E> {
      * @return true if the result is an Err value containing the given value.
      */
     public boolean containsErr(@NotNull String value) {
-        if (okFlg) {
+        if (isOk()) {
             return false;
         }
 
@@ -128,7 +286,7 @@ public abstract class Result<T, E> {
             return false;
         }
 
-        return Objects.equals(value, err);
+        return Objects.equals(value, errValue());
     }
 
     @Override
@@ -144,10 +302,19 @@ public abstract class Result<T, E> {
         }
 
         if (this.isOk()) {
-            return this.ok().equals(obj2CompareResult.ok());
+            return Objects.equals(okValue(), obj2CompareResult.okValue());
         }
 
-        return this.err().equals(obj2CompareResult.err());
+        return Objects.equals(errValue(), obj2CompareResult.errValue());
+    }
+
+    @Override
+    public int hashCode() {
+        if (isOk()) {
+            return Objects.hashCode(okValue());
+        }
+        // keeps Ok(x) and Err(x) apart
+        return ~errValue().hashCode();
     }
 
     /**
@@ -157,12 +324,13 @@ public abstract class Result<T, E> {
      */
     @NotNull
     public E err() {
-        return err;
+        return errValue();
     }
 
     @Override
     @NotNull
     public String toString() {
+        T ok = okValue();
         if (this.isOk()) {
             if (ok instanceof String) {
                 return String.format(TO_STRING_QUOTE_FMT, OK, ok);
@@ -170,6 +338,7 @@ public abstract class Result<T, E> {
             return String.format(TO_STRING_FMT, OK, ok);
         }
 
+        E err = errValue();
         if (err instanceof String) {
             return String.format(TO_STRING_QUOTE_FMT, ERR, err);
         }
@@ -183,13 +352,12 @@ public abstract class Result<T, E> {
      */
     @Nullable
     public T expect(@NotNull String msg) throws ResultPanicException {
-        if (okFlg) {
-            return ok;
+        if (isOk()) {
+            return okValue();
         }
 
-        String errString = err().toString();
-
-        throw new ResultPanicException(String.format(EXPECT_FMT, msg, errString));
+        E err = errValue();
+        throw ResultPanicException.panic(err, EXPECT_FMT, msg, err);
     }
 
     /**
@@ -199,13 +367,12 @@ public abstract class Result<T, E> {
      */
     @NotNull
     public E expectErr(@NotNull String msg) throws ResultPanicException {
-        if (!okFlg) {
-            return err;
+        if (isErr()) {
+            return errValue();
         }
 
-        String errString = ok().isEmpty() ? EMPTY_STRING : ok().get().toString();
-
-        throw new ResultPanicException(String.format(EXPECT_FMT, msg, errString));
+        T ok = okValue();
+        throw ResultPanicException.panic(ok, EXPECT_FMT, msg, ok == null ? EMPTY_STRING : ok);
     }
 
     /**
@@ -215,11 +382,12 @@ public abstract class Result<T, E> {
      */
     @NotNull
     public Result<T, E> flatten() {
-        if (!okFlg) {
-            return Err.of(err);
+        if (isErr()) {
+            return this;
         }
 
-        if (ok().isEmpty()) {
+        T ok = okValue();
+        if (ok == null) {
             return this;
         }
 
@@ -230,6 +398,37 @@ public abstract class Result<T, E> {
         return this;
     }
 
+    /**
+     * Applies `okFunction` to the contained Ok value (if Ok), or `errFunction` to the contained Err value (if Err).
+     * An empty Ok passes null to `okFunction`.
+     *
+     * @param okFunction  okFunction
+     * @param errFunction errFunction
+     * @param <U>         U
+     * @return folded U
+     */
+    public <U> U fold(@NotNull Function<? super T, ? extends U> okFunction, @NotNull Function<? super E, ? extends U> errFunction) {
+        if (isOk()) {
+            return okFunction.apply(okValue());
+        }
+        return errFunction.apply(errValue());
+    }
+
+    /**
+     * Calls `okConsumer` with the contained Ok value (if Ok), or `errConsumer` with the contained Err value (if Err).
+     * An empty Ok passes null to `okConsumer`.
+     *
+     * @param okConsumer  okConsumer
+     * @param errConsumer errConsumer
+     */
+    public void match(@NotNull Consumer<? super T> okConsumer, @NotNull Consumer<? super E> errConsumer) {
+        if (isOk()) {
+            okConsumer.accept(okValue());
+        } else {
+            errConsumer.accept(errValue());
+        }
+    }
+
     /**
      * Maps a Result&lt;T, E&gt; to Result&lt;U, E&gt;
      * by applying a function to a contained Ok value, leaving an Err value untouched.
@@ -242,14 +441,15 @@ public abstract class Result<T, E> {
     @NotNull
     public <U> Result<U, E> map(Function<T, U> mapFunction) {
         if (this.isErr()) {
-            return Err.of(this.err);
+            return this.cast();
         }
 
-        if (this.ok().isEmpty()) {
-            throw new ResultPanicException(CANT_APPLY_FUNCTION_A_EMPTY_OK);
+        T ok = okValue();
+        if (ok == null) {
+            throw ResultPanicException.panic(CANT_APPLY_FUNCTION_A_EMPTY_OK);
         }
 
-        return Ok.of(mapFunction.apply(this.ok));
+        return Ok.of(mapFunction.apply(ok));
     }
 
     /**
@@ -262,10 +462,10 @@ public abstract class Result<T, E> {
     @NotNull
     public <F> Result<T, F> mapErr(@NotNull Function<E, F> mapFunction) {
         if (this.isOk()) {
-            return Ok.of(this.ok);
+            return this.cast();
         }
 
-        return Err.of(mapFunction.apply(err));
+        return Err.of(mapFunction.apply(errValue()));
     }
 
     /**
@@ -282,8 +482,31 @@ public abstract class Result<T, E> {
             return defaultValue;
         }
 
-        if (this.ok().isEmpty()) {
-            throw new ResultPanicException(CANT_APPLY_FUNCTION_A_EMPTY_OK);
+        T ok = okValue();
+        if (ok == null) {
+            throw ResultPanicException.panic(CANT_APPLY_FUNCTION_A_EMPTY_OK);
+        }
+
+        return mapFunction.apply(ok);
+    }
+
+    /**
+     * Lazy version of {@link #mapOr(Object, Function)}: `defaultSupplier` is only called if the result is [`Err`].
+     *
+     * @param defaultSupplier defaultSupplier
+     * @param mapFunction     mapFunction
+     * @param <U>             U
+     * @return mapped U
+     */
+    @NotNull
+    public <U> U mapOrGet(@NotNull Supplier<U> defaultSupplier, @NotNull Function<T, U> mapFunction) {
+        if (this.isErr()) {
+            return defaultSupplier.get();
+        }
+
+        T ok = okValue();
+        if (ok == null) {
+            throw ResultPanicException.panic(CANT_APPLY_FUNCTION_A_EMPTY_OK);
         }
 
         return mapFunction.apply(ok);
@@ -300,16 +523,80 @@ public abstract class Result<T, E> {
     @NotNull
     public <U> U mapOrElse(@NotNull Function<E, U> defaultFunction, @NotNull Function<T, U> mapFunction) {
         if (this.isErr()) {
-            return defaultFunction.apply(err);
+            return defaultFunction.apply(errValue());
         }
 
-        if (this.ok().isEmpty()) {
-            throw new ResultPanicException(CANT_APPLY_FUNCTION_A_EMPTY_OK);
+        T ok = okValue();
+        if (ok == null) {
+            throw ResultPanicException.panic(CANT_APPLY_FUNCTION_A_EMPTY_OK);
         }
 
         return mapFunction.apply(ok);
     }
 
+    /**
+     * Maps a Result&lt;T, E&gt; to IntResult&lt;E&gt; by applying a function to a contained Ok value,
+     * leaving an Err value untouched. The mapped value is kept as an int and is never boxed.
+     *
+     * @param mapFunction mapFunction
+     * @return mapped IntResult&lt;E&gt;
+     */
+    @NotNull
+    public IntResult<E> mapToInt(@NotNull ToIntFunction<T> mapFunction) {
+        if (this.isErr()) {
+            return IntErr.of(errValue());
+        }
+
+        T ok = okValue();
+        if (ok == null) {
+            throw ResultPanicException.panic(CANT_APPLY_FUNCTION_A_EMPTY_OK);
+        }
+
+        return IntOk.of(mapFunction.applyAsInt(ok));
+    }
+
+    /**
+     * Maps a Result&lt;T, E&gt; to LongResult&lt;E&gt; by applying a function to a contained Ok value,
+     * leaving an Err value untouched. The mapped value is kept as a long and is never boxed.
+     *
+     * @param mapFunction mapFunction
+     * @return mapped LongResult&lt;E&gt;
+     */
+    @NotNull
+    public LongResult<E> mapToLong(@NotNull ToLongFunction<T> mapFunction) {
+        if (this.isErr()) {
+            return LongErr.of(errValue());
+        }
+
+        T ok = okValue();
+        if (ok == null) {
+            throw ResultPanicException.panic(CANT_APPLY_FUNCTION_A_EMPTY_OK);
+        }
+
+        return LongOk.of(mapFunction.applyAsLong(ok));
+    }
+
+    /**
+     * Maps a Result&lt;T, E&gt; to DoubleResult&lt;E&gt; by applying a function to a contained Ok value,
+     * leaving an Err value untouched. The mapped value is kept as a double and is never boxed.
+     *
+     * @param mapFunction mapFunction
+     * @return mapped DoubleResult&lt;E&gt;
+     */
+    @NotNull
+    public DoubleResult<E> mapToDouble(@NotNull ToDoubleFunction<T> mapFunction) {
+        if (this.isErr()) {
+            return DoubleErr.of(errValue());
+        }
+
+        T ok = okValue();
+        if (ok == null) {
+            throw ResultPanicException.panic(CANT_APPLY_FUNCTION_A_EMPTY_OK);
+        }
+
+        return DoubleOk.of(mapFunction.applyAsDouble(ok));
+    }
+
     /**
      * @param res res
      * @param <F> F
@@ -318,12 +605,28 @@ public abstract class Result<T, E> {
     @NotNull
     public <F> Result<?, F> or(@NotNull Result<?, F> res) {
         if (this.isOk()) {
-            return Ok.of(this.ok);
+            return this.cast();
         }
 
         return res;
     }
 
+    /**
+     * Lazy version of {@link #or(Result)}: `res` is only called if the result is [`Err`].
+     *
+     * @param res res
+     * @param <F> F
+     * @return the Result supplied by `res` if the result is [`Err`], otherwise returns the [`Ok`] value of `self`.
+     */
+    @NotNull
+    public <F> Result<?, F> orLazy(@NotNull Supplier<Result<?, F>> res) {
+        if (this.isOk()) {
+            return this.cast();
+        }
+
+        return res.get();
+    }
+
     /**
      * Calls `op` if the result is [`Err`], otherwise returns the [`Ok`] value of `self`.
      *
@@ -334,10 +637,10 @@ public abstract class Result<T, E> {
     @NotNull
     public <F> Result<T, F> orElse(@NotNull Function<E, Result<T, F>> op) {
         if (this.isOk()) {
-            return Ok.of(ok);
+            return this.cast();
         }
 
-        return op.apply(err);
+        return op.apply(errValue());
     }
 
     /**
@@ -346,11 +649,12 @@ public abstract class Result<T, E> {
      */
     @Nullable
     public T unwrap() throws ResultPanicException {
-        if (okFlg) {
-            return ok;
+        if (isOk()) {
+            return okValue();
         }
 
-        throw new ResultPanicException(String.format(UNWRAP_PANIC_STR, err));
+        E err = errValue();
+        throw ResultPanicException.panic(err, UNWRAP_PANIC_STR, err);
     }
 
     /**
@@ -360,10 +664,11 @@ public abstract class Result<T, E> {
     @NotNull
     public E unwrapErr() throws ResultPanicException {
         if (isErr()) {
-            return err;
+            return errValue();
         }
 
-        throw new ResultPanicException(String.format(UNWRAP_ERR_PANIC_STR, ok));
+        T ok = okValue();
+        throw ResultPanicException.panic(ok, UNWRAP_ERR_PANIC_STR, ok);
     }
 
     /**
@@ -375,7 +680,21 @@ public abstract class Result<T, E> {
         if (isErr()) {
             return defaultValue;
         }
-        return ok;
+        return okValue();
+    }
+
+    /**
+     * Lazy version of {@link #unwrapOr(Object)}: `defaultSupplier` is only called if the result is [`Err`].
+     *
+     * @param defaultSupplier default
+     * @return the contained [`Ok`] value or the one supplied by `defaultSupplier`.
+     */
+    @Nullable
+    public T unwrapOrGet(@NotNull Supplier<T> defaultSupplier) {
+        if (isErr()) {
+            return defaultSupplier.get();
+        }
+        return okValue();
     }
 
     /**
@@ -385,8 +704,27 @@ public abstract class Result<T, E> {
     @Nullable
     public T unwrapOrElse(@NotNull Function<E, T> op) {
         if (isOk()) {
-            return ok;
+            return okValue();
         }
-        return op.apply(err);
+        return op.apply(errValue());
     }
+
+    /**
+     * Reinterprets the untouched variant under new type parameters.
+     * An Ok never holds an E and an Err never holds a T, so the cast is safe and nothing is allocated.
+     */
+    @SuppressWarnings("unchecked")
+    private <U, F> Result<U, F> cast() {
+        return (Result<U, F>) this;
+    }
+
+    /**
+     * @return the Ok content, null if the result is Err or an empty Ok.
+     */
+    abstract T okValue();
+
+    /**
+     * @return the Err content, null if the result is Ok.
+     */
+    abstract E errValue();
 }
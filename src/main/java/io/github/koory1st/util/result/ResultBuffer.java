@@ -0,0 +1,572 @@
+/*
+ *  ResultBuffer.java, 2026-10-17
+ *
+ *  Copyright 2022  Koory1st, Inc. All rights reserved.
+ */
+
+package io.github.koory1st.util.result;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * ResultBuffer holds a large number of Results in columns instead of as Result objects: a bitset of the Ok flags,
+ * a column of the Ok values, and a sparse column of the Errs, which only takes space for the Errs.
+ * <p>
+ * The int, long and double buffers keep their values unboxed, 4 or 8 bytes per Result against about 36 for a boxed
+ * Ok in a list, and can move them to a memory-mapped file once they pass a spill threshold. {@link #cursor()}
+ * walks the buffer without creating a Result per element, and {@link #countOk()}, {@link #firstErr()},
+ * {@link #partition()} and {@link #compact()} work on the columns directly. A ResultBuffer is meant to be filled by
+ * one thread and then read; close it to delete its spill file.
+ *
+ * <pre>{@code
+ * try (ResultBuffer<Integer, String> outcomes = ResultBuffer.<String>ints().spillThreshold(10_000_000).build()) {
+ *     for (Record record : records) {
+ *         outcomes.add(process(record));
+ *     }
+ *     log.info("{} failed, first at {}", outcomes.countErr(), outcomes.firstErr());
+ * }
+ * }</pre>
+ *
+ * @param <T> success (Ok)
+ * @param <E> failure (Err)
+ */
+public final class ResultBuffer<T, E> implements Closeable {
+    static final int OBJECTS = 0;
+    static final int INTS = 1;
+    static final int LONGS = 2;
+    static final int DOUBLES = 3;
+    private static final int[] NO_INDEXES = new int[0];
+    private static final Object[] NO_ERRS = new Object[0];
+    private int errCount;
+    // the indexes of the Errs, ascending, and their values
+    private int[] errIndexes = NO_INDEXES;
+    private Object[] errs = NO_ERRS;
+    private final int kind;
+    private long[] okBits;
+    // the same column as values in an int, long or double buffer, null in a buffer of references
+    private final ValueColumn.PrimitiveColumn<T> primitives;
+    private int size;
+    private final ValueColumn<T> values;
+
+    private ResultBuffer(Builder<T, E> builder) {
+        this.kind = builder.kind;
+        this.okBits = new long[wordsFor(builder.initialCapacity)];
+        this.values = builder.column();
+        this.primitives = values instanceof ValueColumn.PrimitiveColumn ? (ValueColumn.PrimitiveColumn<T>) values : null;
+    }
+
+    /**
+     * @param <T> T
+     * @param <E> E
+     * @return a builder of a ResultBuffer of references
+     */
+    @NotNull
+    public static <T, E> Builder<T, E> objects() {
+        return new Builder<>(OBJECTS);
+    }
+
+    /**
+     * @param <E> E
+     * @return a builder of a ResultBuffer of unboxed ints
+     */
+    @NotNull
+    public static <E> Builder<Integer, E> ints() {
+        return new Builder<>(INTS);
+    }
+
+    /**
+     * @param <E> E
+     * @return a builder of a ResultBuffer of unboxed longs
+     */
+    @NotNull
+    public static <E> Builder<Long, E> longs() {
+        return new Builder<>(LONGS);
+    }
+
+    /**
+     * @param <E> E
+     * @return a builder of a ResultBuffer of unboxed doubles
+     */
+    @NotNull
+    public static <E> Builder<Double, E> doubles() {
+        return new Builder<>(DOUBLES);
+    }
+
+    /**
+     * @param result result
+     */
+    public void add(@NotNull Result<? extends T, ? extends E> result) {
+        if (result.isErr()) {
+            addErr(result.errValue());
+        } else {
+            addOk(result.okValue());
+        }
+    }
+
+    /**
+     * @param value the Ok value, null for the empty Ok, which only a ResultBuffer of references can hold
+     */
+    public void addOk(@Nullable T value) {
+        if (value == null && kind != OBJECTS) {
+            throw new IllegalArgumentException("An int, long or double ResultBuffer can't hold an empty Ok.");
+        }
+        values.set(size, value);
+        appendOk();
+    }
+
+    /**
+     * @param value the Ok value of a ResultBuffer of ints
+     */
+    public void addInt(int value) {
+        checkKind(INTS, "ints");
+        primitives.setBits(size, value);
+        appendOk();
+    }
+
+    /**
+     * @param value the Ok value of a ResultBuffer of longs
+     */
+    public void addLong(long value) {
+        checkKind(LONGS, "longs");
+        primitives.setBits(size, value);
+        appendOk();
+    }
+
+    /**
+     * @param value the Ok value of a ResultBuffer of doubles
+     */
+    public void addDouble(double value) {
+        checkKind(DOUBLES, "doubles");
+        primitives.setBits(size, Double.doubleToRawLongBits(value));
+        appendOk();
+    }
+
+    /**
+     * @param err the Err value
+     * @throws NullPointerException if `err` is null
+     */
+    public void addErr(@NotNull E err) {
+        Objects.requireNonNull(err, "err");
+        values.clear(size);
+        if (errCount == errIndexes.length) {
+            int capacity = Math.max(8, errCount + (errCount >> 1));
+            errIndexes = Arrays.copyOf(errIndexes, capacity);
+            errs = Arrays.copyOf(errs, capacity);
+        }
+        errIndexes[errCount] = size;
+        errs[errCount] = err;
+        errCount++;
+        ensureBits(size);
+        size++;
+    }
+
+    /**
+     * @return the number of Results.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param index index
+     * @return true if the Result at `index` is an Ok.
+     */
+    public boolean isOk(int index) {
+        Objects.checkIndex(index, size);
+        return (okBits[index >>> 6] & 1L << index) != 0;
+    }
+
+    /**
+     * @param index index
+     * @return true if the Result at `index` is an Err.
+     */
+    public boolean isErr(int index) {
+        return !isOk(index);
+    }
+
+    /**
+     * @param index index
+     * @return a new Result equal to the one at `index`; prefer {@link #cursor()} to walk the buffer
+     */
+    @NotNull
+    public Result<T, E> get(int index) {
+        if (!isOk(index)) {
+            return Err.of(errAt(errPosition(index)));
+        }
+        T value = values.get(index);
+        return value == null ? Ok.of() : Ok.of(value);
+    }
+
+    /**
+     * @param index index
+     * @return the Ok value at `index`, null for the empty Ok
+     * @throws ResultPanicException if the Result at `index` is an Err
+     */
+    @Nullable
+    public T ok(int index) {
+        checkOk(index);
+        return values.get(index);
+    }
+
+    /**
+     * @param index index
+     * @return the Ok value at `index` of a ResultBuffer of ints, without boxing it
+     * @throws ResultPanicException if the Result at `index` is an Err
+     */
+    public int getInt(int index) {
+        checkKind(INTS, "ints");
+        checkOk(index);
+        return (int) primitives.getBits(index);
+    }
+
+    /**
+     * @param index index
+     * @return the Ok value at `index` of a ResultBuffer of longs, without boxing it
+     * @throws ResultPanicException if the Result at `index` is an Err
+     */
+    public long getLong(int index) {
+        checkKind(LONGS, "longs");
+        checkOk(index);
+        return primitives.getBits(index);
+    }
+
+    /**
+     * @param index index
+     * @return the Ok value at `index` of a ResultBuffer of doubles, without boxing it
+     * @throws ResultPanicException if the Result at `index` is an Err
+     */
+    public double getDouble(int index) {
+        checkKind(DOUBLES, "doubles");
+        checkOk(index);
+        return Double.longBitsToDouble(primitives.getBits(index));
+    }
+
+    /**
+     * @param index index
+     * @return the Err value at `index`
+     * @throws ResultPanicException if the Result at `index` is an Ok
+     */
+    @NotNull
+    public E err(int index) {
+        if (isOk(index)) {
+            throw ResultPanicException.panic(null, "Can't get the Err value of the Ok at %d.", index);
+        }
+        return errAt(errPosition(index));
+    }
+
+    /**
+     * @return the number of Oks.
+     */
+    public int countOk() {
+        return size - errCount;
+    }
+
+    /**
+     * @return the number of Errs.
+     */
+    public int countErr() {
+        return errCount;
+    }
+
+    /**
+     * @return the index of the first Err, -1 if there is none.
+     */
+    public int firstErr() {
+        return errCount == 0 ? -1 : errIndexes[0];
+    }
+
+    /**
+     * Moves the Oks before the Errs, keeping the order of each, like a stable sort by {@link Result#isErr()}.
+     *
+     * @return the number of Oks, which is the index of the first Err afterwards
+     */
+    public int partition() {
+        int oks = 0;
+        for (int word = 0; word < okBits.length; word++) {
+            long bits = okBits[word];
+            while (bits != 0) {
+                int index = word << 6 | Long.numberOfTrailingZeros(bits);
+                if (index != oks) {
+                    values.move(index, oks);
+                }
+                oks++;
+                bits &= bits - 1;
+            }
+        }
+
+        for (int i = 0; i < errCount; i++) {
+            errIndexes[i] = oks + i;
+            values.clear(oks + i);
+        }
+        Arrays.fill(okBits, 0);
+        Arrays.fill(okBits, 0, oks >>> 6, -1L);
+        if ((oks & 63) != 0) {
+            okBits[oks >>> 6] = (1L << oks) - 1;
+        }
+        return oks;
+    }
+
+    /**
+     * Removes the Errs, keeping the order of the Oks, and releases the space left unused.
+     *
+     * @return the number of Errs removed
+     */
+    public int compact() {
+        int removed = errCount;
+        size = partition();
+        errCount = 0;
+        errIndexes = NO_INDEXES;
+        errs = NO_ERRS;
+        okBits = Arrays.copyOf(okBits, wordsFor(size));
+        values.truncate(size);
+        return removed;
+    }
+
+    /**
+     * @return true if the Ok values have moved to a memory-mapped file.
+     */
+    public boolean isSpilled() {
+        return values.isSpilled();
+    }
+
+    /**
+     * @return a new cursor before the first Result
+     */
+    @NotNull
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * Empties the buffer and deletes its spill file, if any.
+     *
+     * @throws IOException if the spill file can't be closed
+     */
+    @Override
+    public void close() throws IOException {
+        size = 0;
+        errCount = 0;
+        errIndexes = NO_INDEXES;
+        errs = NO_ERRS;
+        okBits = new long[0];
+        values.close();
+    }
+
+    @Override
+    @NotNull
+    public String toString() {
+        return "ResultBuffer(size=" + size + ", errs=" + errCount + (isSpilled() ? ", spilled)" : ")");
+    }
+
+    private void appendOk() {
+        ensureBits(size);
+        okBits[size >>> 6] |= 1L << size;
+        size++;
+    }
+
+    private void ensureBits(int index) {
+        if (index >>> 6 >= okBits.length) {
+            okBits = Arrays.copyOf(okBits, Math.max((index >>> 6) + 1, okBits.length * 2));
+        }
+    }
+
+    private void checkKind(int expected, String name) {
+        if (kind != expected) {
+            throw new UnsupportedOperationException("This ResultBuffer doesn't hold " + name + ".");
+        }
+    }
+
+    private void checkOk(int index) {
+        if (!isOk(index)) {
+            E err = errAt(errPosition(index));
+            throw ResultPanicException.panic(err, "Can't get the Ok value of the Err at %d: %s", index, err);
+        }
+    }
+
+    private int errPosition(int index) {
+        return Arrays.binarySearch(errIndexes, 0, errCount, index);
+    }
+
+    @SuppressWarnings("unchecked")
+    private E errAt(int position) {
+        return (E) errs[position];
+    }
+
+    private static int wordsFor(int size) {
+        return (size + 63) >>> 6;
+    }
+
+    /**
+     * Walks a {@link ResultBuffer} in order without creating Results. The accessors read the Result the cursor is on.
+     */
+    public final class Cursor {
+        private int errPosition;
+        private int index = -1;
+        private boolean ok;
+
+        private Cursor() {
+        }
+
+        /**
+         * @return true if the cursor moved to the next Result, false if it was on the last one.
+         */
+        public boolean next() {
+            if (index + 1 >= size) {
+                return false;
+            }
+            index++;
+            ok = (okBits[index >>> 6] & 1L << index) != 0;
+            while (errPosition < errCount && errIndexes[errPosition] < index) {
+                errPosition++;
+            }
+            return true;
+        }
+
+        /**
+         * @return the index of the current Result.
+         */
+        public int index() {
+            return index;
+        }
+
+        /**
+         * @return true if the current Result is an Ok.
+         */
+        public boolean isOk() {
+            return ok;
+        }
+
+        /**
+         * @return true if the current Result is an Err.
+         */
+        public boolean isErr() {
+            return !ok;
+        }
+
+        /**
+         * @return the current Ok value, null for the empty Ok
+         */
+        @Nullable
+        public T ok() {
+            return ResultBuffer.this.ok(index);
+        }
+
+        /**
+         * @return the current Ok value of a ResultBuffer of ints, without boxing it
+         */
+        public int getInt() {
+            return ResultBuffer.this.getInt(index);
+        }
+
+        /**
+         * @return the current Ok value of a ResultBuffer of longs, without boxing it
+         */
+        public long getLong() {
+            return ResultBuffer.this.getLong(index);
+        }
+
+        /**
+         * @return the current Ok value of a ResultBuffer of doubles, without boxing it
+         */
+        public double getDouble() {
+            return ResultBuffer.this.getDouble(index);
+        }
+
+        /**
+         * @return the current Err value
+         */
+        @NotNull
+        public E err() {
+            if (ok) {
+                throw ResultPanicException.panic(null, "Can't get the Err value of the Ok at %d.", index);
+            }
+            return errAt(errPosition);
+        }
+    }
+
+    /**
+     * Builds a {@link ResultBuffer}.
+     *
+     * @param <T> success (Ok)
+     * @param <E> failure (Err)
+     */
+    public static final class Builder<T, E> {
+        private int initialCapacity;
+        private final int kind;
+        private Path spillDirectory;
+        private int spillThreshold = Integer.MAX_VALUE;
+
+        private Builder(int kind) {
+            this.kind = kind;
+        }
+
+        /**
+         * @param initialCapacity the number of Results the buffer holds before growing
+         * @return this builder
+         */
+        @NotNull
+        public Builder<T, E> initialCapacity(int initialCapacity) {
+            if (initialCapacity < 0) {
+                throw new IllegalArgumentException("The initial capacity can't be negative.");
+            }
+            this.initialCapacity = initialCapacity;
+            return this;
+        }
+
+        /**
+         * @param spillThreshold the number of Results after which the Ok values move to a memory-mapped file, checked
+         *                       every 65536 Results. Only the int, long and double buffers spill.
+         * @return this builder
+         */
+        @NotNull
+        public Builder<T, E> spillThreshold(int spillThreshold) {
+            if (kind == OBJECTS) {
+                throw new IllegalStateException("Only an int, long or double ResultBuffer can spill to a file.");
+            }
+            if (spillThreshold < 0) {
+                throw new IllegalArgumentException("The spill threshold can't be negative.");
+            }
+            this.spillThreshold = spillThreshold;
+            return this;
+        }
+
+        /**
+         * @param spillDirectory the directory of the spill file, the default temporary directory by default
+         * @return this builder
+         */
+        @NotNull
+        public Builder<T, E> spillDirectory(@NotNull Path spillDirectory) {
+            this.spillDirectory = spillDirectory;
+            return this;
+        }
+
+        /**
+         * @return the buffer
+         */
+        @NotNull
+        public ResultBuffer<T, E> build() {
+            return new ResultBuffer<>(this);
+        }
+
+        @SuppressWarnings("unchecked")
+        private ValueColumn<T> column() {
+            switch (kind) {
+                case INTS:
+                    return (ValueColumn<T>) ValueColumn.ints(spillThreshold, spillDirectory);
+                case LONGS:
+                    return (ValueColumn<T>) ValueColumn.longs(spillThreshold, spillDirectory);
+                case DOUBLES:
+                    return (ValueColumn<T>) ValueColumn.doubles(spillThreshold, spillDirectory);
+                default:
+                    return ValueColumn.objects(initialCapacity);
+            }
+        }
+    }
+}
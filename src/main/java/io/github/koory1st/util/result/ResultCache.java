@@ -0,0 +1,466 @@
+/*
+ *  ResultCache.java, 2026-10-17
+ *
+ *  Copyright 2022  Koory1st, Inc. All rights reserved.
+ */
+
+package io.github.koory1st.util.result;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * ResultCache memoizes a Result-returning function.
+ * <p>
+ * The cache holds at most `maximumSize` entries and evicts the least recently used one beyond that.
+ * Ok and Err entries expire after their own TTL, so Errs can be cached for a short time only (negative caching),
+ * or not at all with a TTL of zero. Concurrent misses for the same key share a single call of the loader.
+ * A loader that throws caches nothing, and the exception is rethrown to every caller waiting for that load.
+ * <p>
+ * A hit reads a {@link ConcurrentHashMap} without locking and records the access in a small per-thread-stripe
+ * buffer. The recency order is only updated from those buffers under a lock, when an entry is added or a buffer
+ * fills up. A full buffer overwrites its oldest accesses, so under heavy concurrent load the eviction order is an
+ * approximation of the least recently used one.
+ *
+ * <pre>{@code
+ * ResultCache<String, User, LookupError> users = ResultCache.builder(repository::find)
+ *         .maximumSize(10_000)
+ *         .okTtl(Duration.ofMinutes(10))
+ *         .errTtl(Duration.ofSeconds(5))
+ *         .build();
+ * }</pre>
+ *
+ * @param <K> key
+ * @param <T> success (Ok)
+ * @param <E> failure (Err)
+ */
+public final class ResultCache<K, T, E> implements Function<K, Result<T, E>> {
+    private static final long NO_TTL = -1;
+    private static final int READ_BUFFER_SIZE = 32;
+    private static final int READ_BUFFER_MASK = READ_BUFFER_SIZE - 1;
+    private static final int READ_BUFFER_STRIPES =
+            Integer.highestOneBit(Math.min(Runtime.getRuntime().availableProcessors(), 64) * 2 - 1);
+    private final ConcurrentMap<K, CachedResult<K, T, E>> entries = new ConcurrentHashMap<>();
+    private final long errTtlNanos;
+    private final LongAdder evictions = new LongAdder();
+    // guards order, and the draining of the read buffers into it
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final LongAdder hits = new LongAdder();
+    private final ConcurrentMap<K, CompletableFuture<Result<T, E>>> loading = new ConcurrentHashMap<>();
+    private final Function<? super K, ? extends Result<T, E>> loader;
+    private final int maximumSize;
+    private final LongAdder misses = new LongAdder();
+    private final long okTtlNanos;
+    // access-ordered, so the eldest entry is the least recently used one
+    private final LinkedHashMap<K, CachedResult<K, T, E>> order = new LinkedHashMap<>(16, 0.75f, true);
+    private final ReadBuffer<K, T, E>[] readBuffers;
+    private final LongSupplier ticker;
+
+    @SuppressWarnings("unchecked")
+    private ResultCache(Builder<K, T, E> builder) {
+        this.loader = builder.loader;
+        this.okTtlNanos = builder.okTtlNanos;
+        this.errTtlNanos = builder.errTtlNanos;
+        this.ticker = builder.ticker;
+        this.maximumSize = builder.maximumSize;
+        this.readBuffers = (ReadBuffer<K, T, E>[]) new ReadBuffer<?, ?, ?>[READ_BUFFER_STRIPES];
+        for (int i = 0; i < readBuffers.length; i++) {
+            readBuffers[i] = new ReadBuffer<>();
+        }
+    }
+
+    /**
+     * @param loader the function to memoize
+     * @param <K>    K
+     * @param <T>    T
+     * @param <E>    E
+     * @return a builder of a cache of `loader`, unbounded and without expiry by default
+     */
+    @NotNull
+    public static <K, T, E> Builder<K, T, E> builder(@NotNull Function<? super K, ? extends Result<T, E>> loader) {
+        return new Builder<>(loader);
+    }
+
+    /**
+     * Returns the cached Result of `key`, calling the loader if there is none or it has expired.
+     *
+     * @param key key
+     * @return the Result of `key`
+     * @throws ResultPanicException if the loader returns null.
+     */
+    @NotNull
+    public Result<T, E> get(@NotNull K key) {
+        Result<T, E> cached = getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        misses.increment();
+        CompletableFuture<Result<T, E>> load = new CompletableFuture<>();
+        CompletableFuture<Result<T, E>> running = loading.putIfAbsent(key, load);
+        if (running != null) {
+            return join(running);
+        }
+
+        try {
+            // a load for the same key may have completed between the lookup and putIfAbsent
+            Result<T, E> result = lookup(key);
+            if (result == null) {
+                result = loader.apply(key);
+                //noinspection ConstantConditions
+                if (result == null) {
+                    throw ResultPanicException.panic("A ResultCache's loader can't return null.");
+                }
+                put(key, result);
+            }
+            load.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, load);
+        }
+    }
+
+    @Override
+    @NotNull
+    public Result<T, E> apply(@NotNull K key) {
+        return get(key);
+    }
+
+    /**
+     * @param key key
+     * @return the cached Result of `key`, or null if there is none or it has expired.
+     */
+    public Result<T, E> getIfPresent(@NotNull K key) {
+        Result<T, E> result = lookup(key);
+        if (result != null) {
+            hits.increment();
+        }
+        return result;
+    }
+
+    /**
+     * Caches `result` as the Result of `key`, replacing the cached one.
+     *
+     * @param key    key
+     * @param result result
+     */
+    public void put(@NotNull K key, @NotNull Result<T, E> result) {
+        long ttlNanos = result.isOk() ? okTtlNanos : errTtlNanos;
+        if (ttlNanos == 0) {
+            invalidate(key);
+            return;
+        }
+
+        long expiresAt = ttlNanos == NO_TTL ? NO_TTL : ticker.getAsLong() + ttlNanos;
+        CachedResult<K, T, E> entry = new CachedResult<>(key, result, expiresAt);
+        evictionLock.lock();
+        try {
+            // replay the hits first, so the eviction below sees the latest order
+            drainReadBuffers();
+            order.put(key, entry);
+            entries.put(key, entry);
+            while (order.size() > maximumSize) {
+                Iterator<CachedResult<K, T, E>> eldest = order.values().iterator();
+                CachedResult<K, T, E> evicted = eldest.next();
+                eldest.remove();
+                entries.remove(evicted.key, evicted);
+                evictions.increment();
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Removes the cached Result of `key`. A load already running for `key` still caches its Result.
+     *
+     * @param key key
+     */
+    public void invalidate(@NotNull K key) {
+        evictionLock.lock();
+        try {
+            order.remove(key);
+            entries.remove(key);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Removes all the cached Results.
+     */
+    public void invalidateAll() {
+        evictionLock.lock();
+        try {
+            drainReadBuffers();
+            order.clear();
+            entries.clear();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of cached Results, including the expired ones not removed yet.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return a snapshot of the statistics
+     */
+    @NotNull
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    private Result<T, E> lookup(K key) {
+        CachedResult<K, T, E> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt != NO_TTL && ticker.getAsLong() - entry.expiresAt >= 0) {
+            if (entries.remove(key, entry)) {
+                evictionLock.lock();
+                try {
+                    order.remove(key, entry);
+                } finally {
+                    evictionLock.unlock();
+                }
+            }
+            return null;
+        }
+
+        ReadBuffer<K, T, E> buffer = readBuffers[stripe()];
+        if (buffer.record(entry) && evictionLock.tryLock()) {
+            // the buffer has filled up, apply it now rather than lose its accesses
+            try {
+                drainReadBuffers();
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+        return entry.result;
+    }
+
+    private void drainReadBuffers() {
+        for (ReadBuffer<K, T, E> buffer : readBuffers) {
+            buffer.drainTo(order);
+        }
+    }
+
+    private static int stripe() {
+        int hash = System.identityHashCode(Thread.currentThread());
+        return (hash ^ hash >>> 16) & (READ_BUFFER_STRIPES - 1);
+    }
+
+    private static <T, E> Result<T, E> join(CompletableFuture<Result<T, E>> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    private static final class CachedResult<K, T, E> {
+        private final long expiresAt;
+        private final K key;
+        private final Result<T, E> result;
+
+        private CachedResult(K key, Result<T, E> result, long expiresAt) {
+            this.key = key;
+            this.result = result;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * A ring of the last {@value #READ_BUFFER_SIZE} entries hit by the threads of one stripe, written without
+     * locking. A lap overwrites the accesses not drained yet.
+     */
+    private static final class ReadBuffer<K, T, E> {
+        private final AtomicReferenceArray<CachedResult<K, T, E>> slots =
+                new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+        private final AtomicLong writes = new AtomicLong();
+        // only read and written under the eviction lock
+        private long drained;
+
+        /**
+         * @param entry the entry hit
+         * @return true if the buffer has just filled up
+         */
+        private boolean record(CachedResult<K, T, E> entry) {
+            long index = writes.getAndIncrement();
+            slots.lazySet((int) index & READ_BUFFER_MASK, entry);
+            return (index & READ_BUFFER_MASK) == READ_BUFFER_MASK;
+        }
+
+        /**
+         * Moves the keys hit to the end of `order`, oldest access first. The keys removed since are skipped, as
+         * {@link LinkedHashMap#get} doesn't add them back.
+         *
+         * @param order order
+         */
+        private void drainTo(LinkedHashMap<K, CachedResult<K, T, E>> order) {
+            long end = writes.get();
+            for (long i = Math.max(drained, end - READ_BUFFER_SIZE); i < end; i++) {
+                CachedResult<K, T, E> entry = slots.getAndSet((int) i & READ_BUFFER_MASK, null);
+                if (entry != null) {
+                    order.get(entry.key);
+                }
+            }
+            drained = end;
+        }
+    }
+
+    /**
+     * Builds a {@link ResultCache}.
+     *
+     * @param <K> key
+     * @param <T> success (Ok)
+     * @param <E> failure (Err)
+     */
+    public static final class Builder<K, T, E> {
+        private long errTtlNanos = NO_TTL;
+        private final Function<? super K, ? extends Result<T, E>> loader;
+        private int maximumSize = Integer.MAX_VALUE;
+        private long okTtlNanos = NO_TTL;
+        private LongSupplier ticker = System::nanoTime;
+
+        private Builder(Function<? super K, ? extends Result<T, E>> loader) {
+            this.loader = loader;
+        }
+
+        /**
+         * @param maximumSize the maximum number of cached Results
+         * @return this builder
+         */
+        @NotNull
+        public Builder<K, T, E> maximumSize(int maximumSize) {
+            if (maximumSize < 1) {
+                throw new IllegalArgumentException("The maximum size must be positive.");
+            }
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * @param ttl how long an Ok stays cached
+         * @return this builder
+         */
+        @NotNull
+        public Builder<K, T, E> okTtl(@NotNull Duration ttl) {
+            this.okTtlNanos = toNanos(ttl);
+            return this;
+        }
+
+        /**
+         * @param ttl how long an Err stays cached, zero to not cache Errs at all
+         * @return this builder
+         */
+        @NotNull
+        public Builder<K, T, E> errTtl(@NotNull Duration ttl) {
+            this.errTtlNanos = toNanos(ttl);
+            return this;
+        }
+
+        /**
+         * @param ticker the time source in nanoseconds, {@link System#nanoTime()} by default
+         * @return this builder
+         */
+        @NotNull
+        public Builder<K, T, E> ticker(@NotNull LongSupplier ticker) {
+            this.ticker = ticker;
+            return this;
+        }
+
+        /**
+         * @return the cache
+         */
+        @NotNull
+        public ResultCache<K, T, E> build() {
+            return new ResultCache<>(this);
+        }
+
+        private static long toNanos(Duration ttl) {
+            if (ttl.isNegative()) {
+                throw new IllegalArgumentException("The TTL can't be negative.");
+            }
+            return ttl.toNanos();
+        }
+    }
+
+    /**
+     * A snapshot of the statistics of a {@link ResultCache}.
+     */
+    public static final class Stats {
+        private final long evictions;
+        private final long hits;
+        private final long misses;
+
+        private Stats(long hits, long misses, long evictions) {
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+        }
+
+        /**
+         * @return the number of lookups that found a cached Result
+         */
+        public long hits() {
+            return hits;
+        }
+
+        /**
+         * @return the number of lookups that didn't find a cached Result
+         */
+        public long misses() {
+            return misses;
+        }
+
+        /**
+         * @return the number of Results removed to respect the maximum size
+         */
+        public long evictions() {
+            return evictions;
+        }
+
+        /**
+         * @return hits / (hits + misses), or 1 if there was no lookup
+         */
+        public double hitRate() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 1.0 : (double) hits / lookups;
+        }
+
+        @Override
+        @NotNull
+        public String toString() {
+            return String.format("Stats(hits=%d, misses=%d, evictions=%d)", hits, misses, evictions);
+        }
+    }
+}
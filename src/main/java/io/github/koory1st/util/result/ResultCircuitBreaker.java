@@ -0,0 +1,284 @@
+/*
+ *  ResultCircuitBreaker.java, 2026-10-17
+ *
+ *  Copyright 2022  Koory1st, Inc. All rights reserved.
+ */
+
+package io.github.koory1st.util.result;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * ResultCircuitBreaker stops calling a Result-returning supplier after a run of failures.
+ * <p>
+ * A failure is an Err accepted by `failureIf`, or an exception thrown by the supplier. After `failureThreshold`
+ * consecutive failures the breaker opens: for `openDuration`, calls return the configured Err right away, without
+ * calling the supplier. Then a single trial call goes through (half-open): if it succeeds the breaker closes,
+ * otherwise it opens again. The other calls made during the trial fail fast too, and only the trial call moves the
+ * breaker out of half-open.
+ * <p>
+ * The state is swapped with compare-and-set, without locking. A closed breaker without failures doesn't
+ * allocate nor write anything on success.
+ *
+ * @param <E> failure (Err)
+ */
+public final class ResultCircuitBreaker<E> {
+    private static final Snapshot CLOSED = new Snapshot(State.CLOSED, 0, 0);
+    private final LongSupplier clock;
+    private final Predicate<? super E> failureIf;
+    private final int failureThreshold;
+    // built once, so failing fast neither allocates nor calls the Err hooks
+    private final Result<?, E> openErr;
+    private final long openNanos;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(CLOSED);
+
+    private ResultCircuitBreaker(Builder<E> builder) {
+        this.openErr = Err.of(builder.openErr);
+        this.failureIf = builder.failureIf;
+        this.failureThreshold = builder.failureThreshold;
+        this.openNanos = builder.openNanos;
+        this.clock = builder.clock;
+    }
+
+    /**
+     * @param openErr the Err returned while the breaker is open
+     * @param <E>     E
+     * @return a builder of a breaker opening for 10 seconds after 5 consecutive Errs
+     */
+    @NotNull
+    public static <E> Builder<E> builder(@NotNull E openErr) {
+        //noinspection ConstantConditions
+        if (openErr == null) {
+            throw ResultPanicException.panic("Can't set a null to an Err's Content.");
+        }
+        return new Builder<>(openErr);
+    }
+
+    /**
+     * Calls `supplier` if the breaker lets the call through.
+     *
+     * @param supplier supplier
+     * @param <T>      T
+     * @return the Result of `supplier`, or an Err of the configured value if the breaker is open
+     * @throws ResultPanicException if `supplier` returns null.
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    public <T> Result<T, E> call(@NotNull Supplier<? extends Result<T, E>> supplier) {
+        Snapshot acquired = tryAcquire();
+        if (acquired == null) {
+            return (Result<T, E>) openErr;
+        }
+
+        Result<T, E> result;
+        boolean failure;
+        try {
+            result = supplier.get();
+            //noinspection ConstantConditions
+            if (result == null) {
+                throw ResultPanicException.panic("A ResultCircuitBreaker's supplier can't return null.");
+            }
+            failure = result.isErr() && failureIf.test(result.err());
+        } catch (Throwable e) {
+            // including checked exceptions thrown sneakily, so a trial call never leaves the breaker half-open
+            onFailure(acquired);
+            throw e;
+        }
+
+        if (failure) {
+            onFailure(acquired);
+        } else {
+            onSuccess(acquired);
+        }
+        return result;
+    }
+
+    /**
+     * @param supplier supplier
+     * @param <T>      T
+     * @return a supplier calling `supplier` through {@link #call(Supplier)}
+     */
+    @NotNull
+    public <T> Supplier<Result<T, E>> wrap(@NotNull Supplier<? extends Result<T, E>> supplier) {
+        return () -> call(supplier);
+    }
+
+    /**
+     * @return the current state. An open breaker whose open duration has elapsed stays OPEN until the next call.
+     */
+    @NotNull
+    public State getState() {
+        return snapshot.get().state;
+    }
+
+    /**
+     * @return the snapshot the call was let through in, a new one for the trial call, or null if it fails fast
+     */
+    private Snapshot tryAcquire() {
+        while (true) {
+            Snapshot current = snapshot.get();
+            switch (current.state) {
+                case CLOSED:
+                    return current;
+                case HALF_OPEN:
+                    return null;
+                default:
+                    if (clock.getAsLong() - current.openedAt < openNanos) {
+                        return null;
+                    }
+                    // only the caller winning the swap makes the trial call
+                    Snapshot trial = new Snapshot(State.HALF_OPEN, 0, 0);
+                    if (snapshot.compareAndSet(current, trial)) {
+                        return trial;
+                    }
+            }
+        }
+    }
+
+    private void onSuccess(Snapshot acquired) {
+        if (acquired.state == State.HALF_OPEN) {
+            snapshot.compareAndSet(acquired, CLOSED);
+            return;
+        }
+
+        while (true) {
+            Snapshot current = snapshot.get();
+            // a call started before the breaker opened doesn't close it
+            if (current == CLOSED || current.state != State.CLOSED || snapshot.compareAndSet(current, CLOSED)) {
+                return;
+            }
+        }
+    }
+
+    private void onFailure(Snapshot acquired) {
+        if (acquired.state == State.HALF_OPEN) {
+            snapshot.compareAndSet(acquired, new Snapshot(State.OPEN, 0, clock.getAsLong()));
+            return;
+        }
+
+        while (true) {
+            Snapshot current = snapshot.get();
+            // nor does it reopen a breaker making its trial call
+            if (current.state != State.CLOSED) {
+                return;
+            }
+
+            Snapshot next;
+            if (current.failures + 1 >= failureThreshold) {
+                next = new Snapshot(State.OPEN, 0, clock.getAsLong());
+            } else {
+                next = new Snapshot(State.CLOSED, current.failures + 1, 0);
+            }
+            if (snapshot.compareAndSet(current, next)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * The states of a {@link ResultCircuitBreaker}.
+     */
+    public enum State {
+        /**
+         * Calls go through.
+         */
+        CLOSED,
+        /**
+         * Calls fail fast.
+         */
+        OPEN,
+        /**
+         * A trial call is running, the other calls fail fast.
+         */
+        HALF_OPEN
+    }
+
+    private static final class Snapshot {
+        private final int failures;
+        private final long openedAt;
+        private final State state;
+
+        private Snapshot(State state, int failures, long openedAt) {
+            this.state = state;
+            this.failures = failures;
+            this.openedAt = openedAt;
+        }
+    }
+
+    /**
+     * Builds a {@link ResultCircuitBreaker}.
+     *
+     * @param <E> failure (Err)
+     */
+    public static final class Builder<E> {
+        private LongSupplier clock = System::nanoTime;
+        private Predicate<? super E> failureIf = err -> true;
+        private int failureThreshold = 5;
+        private final E openErr;
+        private long openNanos = Duration.ofSeconds(10).toNanos();
+
+        private Builder(E openErr) {
+            this.openErr = openErr;
+        }
+
+        /**
+         * @param failureIf decides which Err values count as failures, all of them by default
+         * @return this builder
+         */
+        @NotNull
+        public Builder<E> failureIf(@NotNull Predicate<? super E> failureIf) {
+            this.failureIf = failureIf;
+            return this;
+        }
+
+        /**
+         * @param failureThreshold the number of consecutive failures opening the breaker
+         * @return this builder
+         */
+        @NotNull
+        public Builder<E> failureThreshold(int failureThreshold) {
+            if (failureThreshold < 1) {
+                throw new IllegalArgumentException("The failure threshold must be positive.");
+            }
+            this.failureThreshold = failureThreshold;
+            return this;
+        }
+
+        /**
+         * @param openDuration how long the breaker stays open before a trial call
+         * @return this builder
+         */
+        @NotNull
+        public Builder<E> openDuration(@NotNull Duration openDuration) {
+            if (openDuration.isNegative()) {
+                throw new IllegalArgumentException("The open duration can't be negative.");
+            }
+            this.openNanos = openDuration.toNanos();
+            return this;
+        }
+
+        /**
+         * @param clock the time source in nanoseconds, {@link System#nanoTime()} by default
+         * @return this builder
+         */
+        @NotNull
+        public Builder<E> clock(@NotNull LongSupplier clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        /**
+         * @return the breaker
+         */
+        @NotNull
+        public ResultCircuitBreaker<E> build() {
+            return new ResultCircuitBreaker<>(this);
+        }
+    }
+}
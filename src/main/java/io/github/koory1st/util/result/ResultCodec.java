@@ -0,0 +1,202 @@
+/*
+ *  ResultCodec.java, 2026-10-17
+ *
+ *  Copyright 2022  Koory1st, Inc. All rights reserved.
+ */
+
+package io.github.koory1st.util.result;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ResultCodec writes Results to and reads them from {@link ByteBuffer}s, heap or direct, as a tag byte followed by
+ * the Ok or Err value written by its {@link PayloadCodec}. The empty Ok is the tag alone.
+ * A list is written as a 4-byte count followed by the Results.
+ * <p>
+ * The values are written straight into the buffer, without an intermediate byte array.
+ * {@link #encode(Result, ByteBuffer)} and {@link #encodeAll(List, ByteBuffer)} write into a caller's buffer;
+ * {@link #encodeGrowing(Result, ByteBuffer)} reuses a buffer from call to call and only replaces it when it is too
+ * small. A ResultCodec is immutable and thread safe.
+ *
+ * <pre>{@code
+ * ResultCodec<Integer, String> codec = ResultCodec.of(PayloadCodecs.INTEGER, PayloadCodecs.STRING);
+ * codec.encode(result, buffer);
+ * }</pre>
+ *
+ * @param <T> success (Ok)
+ * @param <E> failure (Err)
+ */
+public final class ResultCodec<T, E> {
+    static final byte TAG_EMPTY_OK = 2;
+    static final byte TAG_ERR = 1;
+    static final byte TAG_OK = 0;
+    private final PayloadCodec<E> errCodec;
+    private final PayloadCodec<T> okCodec;
+
+    private ResultCodec(PayloadCodec<T> okCodec, PayloadCodec<E> errCodec) {
+        this.okCodec = okCodec;
+        this.errCodec = errCodec;
+    }
+
+    /**
+     * @param okCodec  the codec of the Ok values
+     * @param errCodec the codec of the Err values
+     * @param <T>      T
+     * @param <E>      E
+     * @return the codec
+     */
+    @NotNull
+    public static <T, E> ResultCodec<T, E> of(@NotNull PayloadCodec<T> okCodec, @NotNull PayloadCodec<E> errCodec) {
+        return new ResultCodec<>(okCodec, errCodec);
+    }
+
+    /**
+     * @param result result
+     * @return the number of bytes {@link #encode} writes for `result`
+     */
+    public int encodedSize(@NotNull Result<T, E> result) {
+        if (result.isErr()) {
+            return 1 + errCodec.encodedSize(result.err());
+        }
+        T ok = result.okValue();
+        return ok == null ? 1 : 1 + okCodec.encodedSize(ok);
+    }
+
+    /**
+     * Writes `result` at the position of `buffer`, advancing it. If `buffer` is too small, its position is left
+     * unchanged, though the bytes after it may have been overwritten.
+     *
+     * @param result result
+     * @param buffer buffer
+     * @throws BufferOverflowException if `buffer` is too small
+     */
+    public void encode(@NotNull Result<T, E> result, @NotNull ByteBuffer buffer) {
+        int start = buffer.position();
+        try {
+            write(result, buffer);
+        } catch (BufferOverflowException e) {
+            buffer.position(start);
+            throw e;
+        }
+    }
+
+    /**
+     * Writes `result` at the position of `buffer`, or in a buffer twice as large if `buffer` is too small.
+     * The new buffer is direct if `buffer` is, and holds a copy of what `buffer` held before its position.
+     *
+     * @param result result
+     * @param buffer buffer
+     * @return `buffer`, or the larger buffer that replaces it
+     */
+    @NotNull
+    public ByteBuffer encodeGrowing(@NotNull Result<T, E> result, @NotNull ByteBuffer buffer) {
+        while (true) {
+            try {
+                encode(result, buffer);
+                return buffer;
+            } catch (BufferOverflowException e) {
+                buffer = grow(buffer, encodedSize(result));
+            }
+        }
+    }
+
+    /**
+     * Reads a Result at the position of `buffer`, advancing it.
+     *
+     * @param buffer buffer
+     * @return the Result
+     * @throws IllegalArgumentException if the tag isn't the one of a Result
+     */
+    @NotNull
+    public Result<T, E> decode(@NotNull ByteBuffer buffer) {
+        byte tag = buffer.get();
+        switch (tag) {
+            case TAG_OK:
+                return Ok.of(okCodec.decode(buffer));
+            case TAG_ERR:
+                return Err.of(errCodec.decode(buffer));
+            case TAG_EMPTY_OK:
+                return Ok.of();
+            default:
+                throw new IllegalArgumentException("Can't decode a Result with the tag " + tag + ".");
+        }
+    }
+
+    /**
+     * Writes the count of `results`, then each of them, at the position of `buffer`. If `buffer` is too small, its
+     * position is left unchanged.
+     *
+     * @param results results
+     * @param buffer  buffer
+     * @throws BufferOverflowException if `buffer` is too small
+     */
+    public void encodeAll(@NotNull List<? extends Result<T, E>> results, @NotNull ByteBuffer buffer) {
+        int start = buffer.position();
+        try {
+            buffer.putInt(results.size());
+            for (Result<T, E> result : results) {
+                write(result, buffer);
+            }
+        } catch (BufferOverflowException e) {
+            buffer.position(start);
+            throw e;
+        }
+    }
+
+    /**
+     * Reads a list written by {@link #encodeAll}.
+     *
+     * @param buffer buffer
+     * @return the Results, in written order
+     */
+    @NotNull
+    public List<Result<T, E>> decodeAll(@NotNull ByteBuffer buffer) {
+        int size = buffer.getInt();
+        if (size < 0) {
+            throw new IllegalArgumentException("Can't decode a list of " + size + " Results.");
+        }
+
+        // every Result takes at least its tag byte, which bounds a corrupted count
+        List<Result<T, E>> results = new ArrayList<>(Math.min(size, buffer.remaining()));
+        for (int i = 0; i < size; i++) {
+            results.add(decode(buffer));
+        }
+        return results;
+    }
+
+    private void write(Result<T, E> result, ByteBuffer buffer) {
+        if (result.isErr()) {
+            buffer.put(TAG_ERR);
+            errCodec.encode(result.err(), buffer);
+            return;
+        }
+
+        T ok = result.okValue();
+        if (ok == null) {
+            buffer.put(TAG_EMPTY_OK);
+            return;
+        }
+        buffer.put(TAG_OK);
+        okCodec.encode(ok, buffer);
+    }
+
+    private static ByteBuffer grow(ByteBuffer buffer, int needed) {
+        long capacity = Math.max(2L * buffer.capacity(), (long) buffer.position() + needed);
+        if (capacity > Integer.MAX_VALUE) {
+            throw new BufferOverflowException();
+        }
+
+        ByteBuffer grown = buffer.isDirect() ? ByteBuffer.allocateDirect((int) capacity)
+                : ByteBuffer.allocate((int) capacity);
+        grown.order(buffer.order());
+        ByteBuffer written = buffer.duplicate();
+        written.flip();
+        grown.put(written);
+        return grown;
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ *  ResultFlow.java, 2026-10-17
+ *
+ *  Copyright 2022  Koory1st, Inc. All rights reserved.
+ */
+
+package io.github.koory1st.util.result;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * {@link Flow} operators for publishers of Results.
+ * <p>
+ * The operators don't buffer anything beyond what the downstream requested: downstream demand is passed
+ * upstream as is, and each upstream element that isn't emitted downstream is replaced by requesting one more.
+ * Every subscription to a returned publisher subscribes to the upstream once.
+ */
+public final class ResultFlow {
+    private ResultFlow() {
+    }
+
+    /**
+     * Maps the Ok values, leaving the Errs untouched. See {@link Result#map(Function)}.
+     *
+     * @param upstream    upstream
+     * @param mapFunction mapFunction
+     * @param <T>         T
+     * @param <U>         U
+     * @param <E>         E
+     * @return Publisher of Result&lt;U, E&gt;
+     */
+    @NotNull
+    public static <T, U, E> Flow.Publisher<Result<U, E>> mapOk(@NotNull Flow.Publisher<Result<T, E>> upstream,
+                                                              @NotNull Function<T, U> mapFunction) {
+        return subscriber -> upstream.subscribe(new Stage<Result<T, E>, Result<U, E>>(subscriber) {
+            @Override
+            void next(Result<T, E> item) {
+                downstream.onNext(item.map(mapFunction));
+            }
+        });
+    }
+
+    /**
+     * Emits the Ok values and hands the Err values to `errConsumer`, e.g. a dead-letter channel.
+     * A {@link java.util.concurrent.SubmissionPublisher#submit} reference forwards them to other subscribers.
+     * The empty Oks are dropped, since a publisher can't emit null.
+     *
+     * @param upstream    upstream
+     * @param errConsumer errConsumer
+     * @param <T>         T
+     * @param <E>         E
+     * @return Publisher of the Ok values
+     */
+    @NotNull
+    public static <T, E> Flow.Publisher<T> routeErrs(@NotNull Flow.Publisher<Result<T, E>> upstream,
+                                                     @NotNull Consumer<? super E> errConsumer) {
+        return subscriber -> upstream.subscribe(new Stage<Result<T, E>, T>(subscriber) {
+            @Override
+            void next(Result<T, E> item) {
+                if (item.isErr()) {
+                    errConsumer.accept(item.err());
+                } else if (item.okValue() != null) {
+                    downstream.onNext(item.okValue());
+                    return;
+                }
+                subscription.request(1);
+            }
+        });
+    }
+
+    /**
+     * Emits the Results until the `maxErrs`-th Err, which is still emitted, then cancels the upstream and completes.
+     * With a `maxErrs` of 1, the flow stops on the first Err.
+     *
+     * @param upstream upstream
+     * @param maxErrs  the number of Errs to stop at
+     * @param <T>      T
+     * @param <E>      E
+     * @return Publisher of Result&lt;T, E&gt;
+     */
+    @NotNull
+    public static <T, E> Flow.Publisher<Result<T, E>> takeUntilErrs(@NotNull Flow.Publisher<Result<T, E>> upstream,
+                                                                    int maxErrs) {
+        if (maxErrs < 1) {
+            throw new IllegalArgumentException("The max number of Errs must be positive.");
+        }
+
+        return subscriber -> upstream.subscribe(new Stage<Result<T, E>, Result<T, E>>(subscriber) {
+            private int errs;
+
+            @Override
+            void next(Result<T, E> item) {
+                downstream.onNext(item);
+                if (item.isErr() && ++errs == maxErrs) {
+                    stop();
+                }
+            }
+        });
+    }
+
+    /**
+     * Emits the Ok values in lists of `batchSize`, the last one possibly smaller, and hands the Err values
+     * to `errConsumer`. One requested element is one batch.
+     *
+     * @param upstream    upstream
+     * @param batchSize   batchSize
+     * @param errConsumer errConsumer
+     * @param <T>         T
+     * @param <E>         E
+     * @return Publisher of batches of Ok values
+     */
+    @NotNull
+    public static <T, E> Flow.Publisher<List<T>> batchOks(@NotNull Flow.Publisher<Result<T, E>> upstream, int batchSize,
+                                                          @NotNull Consumer<? super E> errConsumer) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("The batch size must be positive.");
+        }
+
+        return subscriber -> upstream.subscribe(new Stage<Result<T, E>, List<T>>(subscriber) {
+            private List<T> batch = new ArrayList<>(batchSize);
+
+            @Override
+            public void request(long n) {
+                if (n <= 0) {
+                    subscription.request(n);
+                    return;
+                }
+                subscription.request(n > Long.MAX_VALUE / batchSize ? Long.MAX_VALUE : n * batchSize);
+            }
+
+            @Override
+            void next(Result<T, E> item) {
+                if (item.isErr()) {
+                    errConsumer.accept(item.err());
+                    subscription.request(1);
+                    return;
+                }
+
+                batch.add(item.unwrap());
+                if (batch.size() == batchSize) {
+                    List<T> full = batch;
+                    batch = new ArrayList<>(batchSize);
+                    downstream.onNext(full);
+                }
+            }
+
+            @Override
+            void complete() {
+                if (!batch.isEmpty()) {
+                    downstream.onNext(batch);
+                    batch = null;
+                }
+                super.complete();
+            }
+        });
+    }
+
+    /**
+     * Subscriber to the upstream and Subscription of the downstream at the same time.
+     * The upstream signals are serialized, so the state touched by {@link #next} needs no synchronization.
+     */
+    private abstract static class Stage<I, O> implements Flow.Subscriber<I>, Flow.Subscription {
+        final Flow.Subscriber<? super O> downstream;
+        Flow.Subscription subscription;
+        private boolean done;
+
+        Stage(Flow.Subscriber<? super O> downstream) {
+            this.downstream = downstream;
+        }
+
+        abstract void next(I item);
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(I item) {
+            if (done) {
+                return;
+            }
+
+            try {
+                next(item);
+            } catch (RuntimeException e) {
+                done = true;
+                subscription.cancel();
+                downstream.onError(e);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            if (done) {
+                return;
+            }
+            done = true;
+            downstream.onError(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            complete();
+        }
+
+        void complete() {
+            downstream.onComplete();
+        }
+
+        /**
+         * Cancels the upstream and completes the downstream.
+         */
+        void stop() {
+            done = true;
+            subscription.cancel();
+            complete();
+        }
+
+        @Override
+        public void request(long n) {
+            subscription.request(n);
+        }
+
+        @Override
+        public void cancel() {
+            subscription.cancel();
+        }
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ *  ResultFuture.java, 2026-10-17
+ *
+ *  Copyright 2022  Koory1st, Inc. All rights reserved.
+ */
+
+package io.github.koory1st.util.result;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * ResultFuture is an asynchronously computed Result&lt;T, E&gt;.
+ * <p>
+ * An Err travels through the stages as a plain value: the remaining Ok stages are skipped without
+ * throwing, so the business-error path never goes through {@link java.util.concurrent.CompletionException}.
+ * Only unexpected throwables complete the underlying future exceptionally.
+ *
+ * @param <T> success (Ok)
+ * @param <E> failure (Err)
+ */
+public final class ResultFuture<T, E> {
+    private final CompletableFuture<Result<T, E>> future;
+
+    private ResultFuture(CompletableFuture<Result<T, E>> future) {
+        this.future = future;
+    }
+
+    /**
+     * @param stage stage
+     * @param <T>   T
+     * @param <E>   E
+     * @return a ResultFuture completed by `stage`
+     */
+    @NotNull
+    public static <T, E> ResultFuture<T, E> of(@NotNull CompletionStage<Result<T, E>> stage) {
+        return new ResultFuture<>(stage.toCompletableFuture());
+    }
+
+    /**
+     * @param result result
+     * @param <T>    T
+     * @param <E>    E
+     * @return an already completed ResultFuture
+     */
+    @NotNull
+    public static <T, E> ResultFuture<T, E> completed(@NotNull Result<T, E> result) {
+        return new ResultFuture<>(CompletableFuture.completedFuture(result));
+    }
+
+    /**
+     * @param supplier supplier
+     * @param executor the executor to run `supplier` on
+     * @param <T>      T
+     * @param <E>      E
+     * @return a ResultFuture completed by `supplier` run on `executor`
+     */
+    @NotNull
+    public static <T, E> ResultFuture<T, E> supplyAsync(@NotNull Supplier<Result<T, E>> supplier, @NotNull Executor executor) {
+        return new ResultFuture<>(CompletableFuture.supplyAsync(supplier, executor));
+    }
+
+    /**
+     * @param supplier supplier
+     * @param <T>      T
+     * @param <E>      E
+     * @return a ResultFuture completed by `supplier` run on the default async executor of {@link CompletableFuture}
+     */
+    @NotNull
+    public static <T, E> ResultFuture<T, E> supplyAsync(@NotNull Supplier<Result<T, E>> supplier) {
+        return new ResultFuture<>(CompletableFuture.supplyAsync(supplier));
+    }
+
+    /**
+     * Async version of {@link Result#map(Function)}.
+     *
+     * @param mapFunction mapFunction
+     * @param <U>         U
+     * @return ResultFuture&lt;U, E&gt;
+     */
+    @NotNull
+    public <U> ResultFuture<U, E> map(@NotNull Function<T, U> mapFunction) {
+        return new ResultFuture<>(future.thenApply(result -> result.map(mapFunction)));
+    }
+
+    /**
+     * Same as {@link #map(Function)}, with `mapFunction` run on `executor`.
+     *
+     * @param mapFunction mapFunction
+     * @param executor    executor
+     * @param <U>         U
+     * @return ResultFuture&lt;U, E&gt;
+     */
+    @NotNull
+    public <U> ResultFuture<U, E> mapAsync(@NotNull Function<T, U> mapFunction, @NotNull Executor executor) {
+        return new ResultFuture<>(future.thenApplyAsync(result -> result.map(mapFunction), executor));
+    }
+
+    /**
+     * Async version of {@link Result#andThen(Function)}, with a synchronous `op`.
+     *
+     * @param op  op
+     * @param <U> U
+     * @return ResultFuture&lt;U, E&gt;
+     */
+    @NotNull
+    public <U> ResultFuture<U, E> andThen(@NotNull Function<T, Result<U, E>> op) {
+        return new ResultFuture<>(future.thenApply(result -> result.andThen(op)));
+    }
+
+    /**
+     * Async version of {@link Result#andThen(Function)}, with an asynchronous `op`. `op` is not called on an Err.
+     *
+     * @param op  op
+     * @param <U> U
+     * @return ResultFuture&lt;U, E&gt;
+     */
+    @NotNull
+    public <U> ResultFuture<U, E> andThenAsync(@NotNull Function<T, ResultFuture<U, E>> op) {
+        return new ResultFuture<>(future.thenCompose(result -> composeOk(result, op)));
+    }
+
+    /**
+     * Same as {@link #andThenAsync(Function)}, with `op` called on `executor`.
+     *
+     * @param op       op
+     * @param executor executor
+     * @param <U>      U
+     * @return ResultFuture&lt;U, E&gt;
+     */
+    @NotNull
+    public <U> ResultFuture<U, E> andThenAsync(@NotNull Function<T, ResultFuture<U, E>> op, @NotNull Executor executor) {
+        return new ResultFuture<>(future.thenComposeAsync(result -> composeOk(result, op), executor));
+    }
+
+    /**
+     * Async version of {@link Result#mapErr(Function)}.
+     *
+     * @param mapFunction mapFunction
+     * @param <F>         F
+     * @return ResultFuture&lt;T, F&gt;
+     */
+    @NotNull
+    public <F> ResultFuture<T, F> mapErr(@NotNull Function<E, F> mapFunction) {
+        return new ResultFuture<>(future.thenApply(result -> result.mapErr(mapFunction)));
+    }
+
+    /**
+     * Async version of {@link Result#orElse(Function)}, with a synchronous `op`.
+     *
+     * @param op  op
+     * @param <F> F
+     * @return ResultFuture&lt;T, F&gt;
+     */
+    @NotNull
+    public <F> ResultFuture<T, F> orElse(@NotNull Function<E, Result<T, F>> op) {
+        return new ResultFuture<>(future.thenApply(result -> result.orElse(op)));
+    }
+
+    /**
+     * Async version of {@link Result#orElse(Function)}, with an asynchronous `op`. `op` is not called on an Ok.
+     *
+     * @param op  op
+     * @param <F> F
+     * @return ResultFuture&lt;T, F&gt;
+     */
+    @NotNull
+    public <F> ResultFuture<T, F> orElseAsync(@NotNull Function<E, ResultFuture<T, F>> op) {
+        return new ResultFuture<>(future.thenCompose(result -> {
+            if (result.isOk()) {
+                // an Ok holds no Err value, so it is an Ok of any type of Err
+                @SuppressWarnings("unchecked")
+                Result<T, F> ok = (Result<T, F>) (Result<T, ?>) result;
+                return CompletableFuture.completedFuture(ok);
+            }
+            return op.apply(result.err()).future;
+        }));
+    }
+
+    /**
+     * Waits for both futures and combines their Ok values.
+     *
+     * @param other   other
+     * @param combine combine
+     * @param <U>     U
+     * @param <R>     R
+     * @return the combined Ok, or the Err of this future if both are Err, otherwise the Err of either.
+     */
+    @NotNull
+    public <U, R> ResultFuture<R, E> zip(@NotNull ResultFuture<U, E> other, @NotNull BiFunction<T, U, R> combine) {
+        return new ResultFuture<>(future.thenCombine(other.future,
+                (left, right) -> left.andThen(t -> right.map(u -> combine.apply(t, u)))));
+    }
+
+    /**
+     * @param timeout how long to wait
+     * @param unit    unit of `timeout`
+     * @param err     the Err content used when the timeout elapses first
+     * @return a ResultFuture completed with this future's Result, or with an Err of `err` after the timeout.
+     * This future itself is left untouched.
+     */
+    @NotNull
+    public ResultFuture<T, E> timeout(long timeout, @NotNull TimeUnit unit, @NotNull E err) {
+        // the Err is created only when the timeout elapses, not for each future completing in time
+        return new ResultFuture<>(future.copy().orTimeout(timeout, unit).exceptionally(t -> {
+            if (t instanceof TimeoutException) {
+                return Err.of(err);
+            }
+            throw t instanceof CompletionException ? (CompletionException) t : new CompletionException(t);
+        }));
+    }
+
+    /**
+     * Waits for the Result.
+     *
+     * @return Result&lt;T, E&gt;
+     */
+    @NotNull
+    public Result<T, E> join() {
+        return future.join();
+    }
+
+    /**
+     * @return the underlying CompletableFuture
+     */
+    @NotNull
+    public CompletableFuture<Result<T, E>> toCompletableFuture() {
+        return future;
+    }
+
+    private static <T, U, E> CompletableFuture<Result<U, E>> composeOk(Result<T, E> result, Function<T, ResultFuture<U, E>> op) {
+        if (result.isErr()) {
+            // an Err holds no Ok value, so it is an Err of any type of Ok
+            @SuppressWarnings("unchecked")
+            Result<U, E> err = (Result<U, E>) (Result<?, E>) result;
+            return CompletableFuture.completedFuture(err);
+        }
+        return op.apply(result.unwrap()).future;
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ *  ResultJson.java, 2026-10-17
+ *
+ *  Copyright 2022  Koory1st, Inc. All rights reserved.
+ */
+
+package io.github.koory1st.util.result;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * ResultJson writes Results as the JSON envelopes {@code {"ok":...}} and {@code {"err":...}}, and reads them back.
+ * The empty Ok is {@code {"ok":null}}. The values go through a {@link JsonAdapter}, without reflection.
+ * <p>
+ * Everything is streamed: Results are written straight to an {@link Appendable}, such as a {@link java.io.Writer},
+ * and read token by token from a {@link Reader} or a {@link CharSequence}. The array methods write and read a
+ * JSON array of envelopes one element at a time, so a huge list of Results is never built in memory.
+ * A ResultJson is immutable and thread safe.
+ *
+ * <pre>{@code
+ * ResultJson<Integer, String> json = ResultJson.of(JsonAdapters.INTEGER, JsonAdapters.STRING);
+ * json.writeArray(rows::iterator, response.getWriter());
+ * }</pre>
+ *
+ * @param <T> success (Ok)
+ * @param <E> failure (Err)
+ */
+public final class ResultJson<T, E> {
+    static final String ERR = "err";
+    static final String OK = "ok";
+    private final JsonAdapter<E> errAdapter;
+    private final JsonAdapter<T> okAdapter;
+
+    private ResultJson(JsonAdapter<T> okAdapter, JsonAdapter<E> errAdapter) {
+        this.okAdapter = okAdapter;
+        this.errAdapter = errAdapter;
+    }
+
+    /**
+     * @param okAdapter  the adapter of the Ok values
+     * @param errAdapter the adapter of the Err values
+     * @param <T>        T
+     * @param <E>        E
+     * @return the ResultJson
+     */
+    @NotNull
+    public static <T, E> ResultJson<T, E> of(@NotNull JsonAdapter<T> okAdapter, @NotNull JsonAdapter<E> errAdapter) {
+        return new ResultJson<>(okAdapter, errAdapter);
+    }
+
+    /**
+     * @param result result
+     * @return the envelope of `result`
+     */
+    @NotNull
+    public String toJson(@NotNull Result<T, E> result) {
+        StringBuilder builder = new StringBuilder();
+        try {
+            write(result, new JsonWriter(builder));
+        } catch (IOException e) {
+            // a StringBuilder doesn't throw
+            throw new UncheckedIOException(e);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * @param result result
+     * @param out    out
+     * @throws IOException if `out` fails
+     */
+    public void write(@NotNull Result<T, E> result, @NotNull Appendable out) throws IOException {
+        write(result, new JsonWriter(out));
+    }
+
+    /**
+     * Writes the envelope of `result` as the next value of `out`, e.g. inside an object of the caller.
+     *
+     * @param result result
+     * @param out    out
+     * @throws IOException if the underlying Appendable fails
+     */
+    public void write(@NotNull Result<T, E> result, @NotNull JsonWriter out) throws IOException {
+        out.beginObject();
+        if (result.isErr()) {
+            out.name(ERR);
+            errAdapter.write(result.errValue(), out);
+        } else {
+            out.name(OK);
+            T ok = result.okValue();
+            if (ok == null) {
+                out.nullValue();
+            } else {
+                okAdapter.write(ok, out);
+            }
+        }
+        out.endObject();
+    }
+
+    /**
+     * Writes `results` as a JSON array, one Result at a time. Pass {@code stream::iterator} to write a stream.
+     *
+     * @param results results
+     * @param out     out
+     * @throws IOException if `out` fails
+     */
+    public void writeArray(@NotNull Iterable<? extends Result<T, E>> results, @NotNull Appendable out)
+            throws IOException {
+        JsonWriter writer = new JsonWriter(out);
+        writer.beginArray();
+        for (Result<T, E> result : results) {
+            write(result, writer);
+        }
+        writer.endArray();
+    }
+
+    /**
+     * @param json a single envelope
+     * @return the Result
+     * @throws IOException if `json` isn't a single envelope
+     */
+    @NotNull
+    public Result<T, E> read(@NotNull CharSequence json) throws IOException {
+        return readDocument(new JsonReader(json));
+    }
+
+    /**
+     * @param in a single envelope
+     * @return the Result
+     * @throws IOException if `in` isn't a single envelope or can't be read
+     */
+    @NotNull
+    public Result<T, E> read(@NotNull Reader in) throws IOException {
+        return readDocument(new JsonReader(in));
+    }
+
+    /**
+     * Reads an envelope as the next value of `in`, e.g. inside an object of the caller.
+     *
+     * @param in in
+     * @return the Result
+     * @throws IOException if the next value isn't an envelope
+     */
+    @NotNull
+    public Result<T, E> read(@NotNull JsonReader in) throws IOException {
+        in.beginObject();
+        if (!in.hasNext()) {
+            throw new IOException("Can't read a Result from an empty object.");
+        }
+
+        String name = in.nextName();
+        Result<T, E> result;
+        if (OK.equals(name)) {
+            if (in.peek() == JsonReader.Token.NULL) {
+                in.nextNull();
+                result = Ok.of();
+            } else {
+                result = Ok.of(okAdapter.read(in));
+            }
+        } else if (ERR.equals(name)) {
+            result = Err.of(errAdapter.read(in));
+        } else {
+            throw new IOException("Can't read a Result from an object named \"" + name + "\".");
+        }
+        in.endObject();
+        return result;
+    }
+
+    /**
+     * Reads a JSON array of envelopes from `in`, handing each Result to `consumer` as soon as it is read.
+     *
+     * @param in       in
+     * @param consumer consumer
+     * @throws IOException if `in` isn't an array of envelopes or can't be read
+     */
+    public void readArray(@NotNull Reader in, @NotNull Consumer<? super Result<T, E>> consumer) throws IOException {
+        JsonReader reader = new JsonReader(in);
+        reader.beginArray();
+        while (reader.hasNext()) {
+            consumer.accept(read(reader));
+        }
+        reader.endArray();
+        reader.peek();
+    }
+
+    /**
+     * Reads the next value of `in`, a JSON array of envelopes, lazily: each call of {@link Iterator#next()} reads one
+     * more Result. Errors of `in` are thrown as {@link UncheckedIOException}s.
+     *
+     * @param in in
+     * @return the iterator
+     */
+    @NotNull
+    public Iterator<Result<T, E>> iterateArray(@NotNull JsonReader in) {
+        return new ArrayIterator(in);
+    }
+
+    private Result<T, E> readDocument(JsonReader in) throws IOException {
+        Result<T, E> result = read(in);
+        // fails on anything after the envelope
+        in.peek();
+        return result;
+    }
+
+    private final class ArrayIterator implements Iterator<Result<T, E>> {
+        private final JsonReader in;
+        private boolean started;
+        private boolean ended;
+
+        private ArrayIterator(JsonReader in) {
+            this.in = in;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (ended) {
+                return false;
+            }
+
+            try {
+                if (!started) {
+                    in.beginArray();
+                    started = true;
+                }
+                if (in.hasNext()) {
+                    return true;
+                }
+                in.endArray();
+                ended = true;
+                return false;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public Result<T, E> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            try {
+                return read(in);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
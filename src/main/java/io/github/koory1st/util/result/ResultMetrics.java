@@ -0,0 +1,52 @@
+/*
+ *  ResultMetrics.java, 2026-10-17
+ *
+ *  Copyright 2022  Koory1st, Inc. All rights reserved.
+ */
+
+package io.github.koory1st.util.result;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * ResultMetrics is notified of every Ok and Err created and every panic.
+ * <p>
+ * It is a service provider interface: the implementation is the class named by the {@value #METRICS_PROPERTY}
+ * system property, or else the first one found by {@link java.util.ServiceLoader}, e.g. through a
+ * {@code META-INF/services/io.github.koory1st.util.result.ResultMetrics} file listing
+ * {@link CountingResultMetrics}. It is looked up once, when the first Result is created. Without one, the hooks
+ * test a static final null, which the JIT folds away.
+ * <p>
+ * The methods are called on the hot path of every Result, from any thread, so they must be cheap and thread safe.
+ */
+public interface ResultMetrics {
+    String METRICS_PROPERTY = "io.github.koory1st.util.result.metrics";
+
+    /**
+     * @return the installed implementation, null if there is none.
+     */
+    @Nullable
+    static ResultMetrics installed() {
+        return MetricsHook.METRICS;
+    }
+
+    /**
+     * Called when an Ok is created or reused, see {@link Ok#of(Object)}.
+     */
+    void onOk();
+
+    /**
+     * Called when an Err is created or reused, see {@link Err#of(Object)}.
+     *
+     * @param err the Err value
+     */
+    void onErr(@NotNull Object err);
+
+    /**
+     * Called when the library creates a panic, e.g. {@link Result#unwrap()} on an Err.
+     *
+     * @param panic panic
+     */
+    void onPanic(@NotNull ResultPanicException panic);
+}
@@ -0,0 +1,29 @@
+/*
+ *  ResultPanicEvent.java, 2026-10-17
+ *
+ *  Copyright 2022  Koory1st, Inc. All rights reserved.
+ */
+
+package io.github.koory1st.util.result;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event of a {@link ResultPanicException} creation, with its message and the stack trace of the call site.
+ */
+@Name("io.github.koory1st.util.result.ResultPanic")
+@Label("Result Panic")
+@Category("Result")
+@Description("A ResultPanicException has been created")
+@StackTrace
+@Enabled(false)
+final class ResultPanicEvent extends Event {
+    @Label("Message")
+    String message;
+}
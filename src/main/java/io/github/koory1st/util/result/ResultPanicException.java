@@ -6,8 +6,149 @@
 
 package io.github.koory1st.util.result;
 
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+
+/**
+ * Thrown when a Result is used in a way its variant does not allow, e.g. unwrapping an Err.
+ * <p>
+ * The message is only formatted when {@link #getMessage()} is called, and the offending Ok/Err
+ * content is available through {@link #getPayload()}. With {@link PanicMode#STACKLESS} the stack
+ * trace is not filled in either, which makes a panic cheap enough for fast-fail in tight loops.
+ * The initial mode is read from the {@value #PANIC_MODE_PROPERTY} system property; an unknown one is logged and
+ * replaced by {@link PanicMode#STACK_TRACE}.
+ * <p>
+ * A serialized panic keeps its formatted message but not its payload, which may not be serializable.
+ */
 public class ResultPanicException extends RuntimeException {
+    public static final String PANIC_MODE_PROPERTY = "io.github.koory1st.util.result.panicMode";
+    private static final Object[] NO_ARGS = new Object[0];
+    private static final long serialVersionUID = 1L;
+    private static volatile PanicMode panicMode = parsePanicMode(System.getProperty(PANIC_MODE_PROPERTY));
+    private final transient Object[] args;
+    private final String format;
+    private final transient Object payload;
+    private String message;
+
     public ResultPanicException(String msg) {
-        super(msg);
+        this(null, msg, NO_ARGS);
+    }
+
+    /**
+     * @param payload the offending Ok or Err content, may be null
+     * @param format  a {@link String#format} pattern, formatted with `args` on the first {@link #getMessage()}
+     * @param args    arguments of the pattern
+     */
+    public ResultPanicException(@Nullable Object payload, String format, Object... args) {
+        super(null, null, true, panicMode == PanicMode.STACK_TRACE);
+        this.payload = payload;
+        this.format = format;
+        this.args = args;
+    }
+
+    /**
+     * Creates a panic of the library and notifies the {@link ResultMetrics} and JFR hooks, once it is constructed.
+     *
+     * @param msg msg
+     * @return the panic, to throw
+     */
+    static ResultPanicException panic(String msg) {
+        return notifyHooks(new ResultPanicException(msg));
+    }
+
+    /**
+     * Creates a panic of the library and notifies the {@link ResultMetrics} and JFR hooks, once it is constructed.
+     *
+     * @param payload the offending Ok or Err content, may be null
+     * @param format  a {@link String#format} pattern, formatted with `args` on the first {@link #getMessage()}
+     * @param args    arguments of the pattern
+     * @return the panic, to throw
+     */
+    static ResultPanicException panic(@Nullable Object payload, String format, Object... args) {
+        return notifyHooks(new ResultPanicException(payload, format, args));
+    }
+
+    private static ResultPanicException notifyHooks(ResultPanicException panic) {
+        if (MetricsHook.METRICS != null) {
+            MetricsHook.METRICS.onPanic(panic);
+        }
+        if (JfrEvents.AVAILABLE) {
+            JfrEvents.panic(panic);
+        }
+        return panic;
+    }
+
+    /**
+     * @param mode the value of the system property, null if unset
+     * @return the mode, or {@link PanicMode#STACK_TRACE} if it isn't one
+     */
+    static PanicMode parsePanicMode(String mode) {
+        if (mode == null) {
+            return PanicMode.STACK_TRACE;
+        }
+        try {
+            return PanicMode.valueOf(mode.trim());
+        } catch (IllegalArgumentException e) {
+            System.getLogger(ResultPanicException.class.getName())
+                    .log(System.Logger.Level.WARNING, "Ignoring the invalid {0}: {1}", PANIC_MODE_PROPERTY, mode);
+            return PanicMode.STACK_TRACE;
+        }
+    }
+
+    /**
+     * @return the mode used by panics created from now on.
+     */
+    @NotNull
+    public static PanicMode getPanicMode() {
+        return panicMode;
+    }
+
+    /**
+     * @param mode the mode used by panics created from now on.
+     */
+    public static void setPanicMode(@NotNull PanicMode mode) {
+        //noinspection ConstantConditions
+        if (mode == null) {
+            throw new IllegalArgumentException("The panic mode can't be null.");
+        }
+        panicMode = mode;
+    }
+
+    /**
+     * @return the Ok or Err content that caused the panic, null if there is none.
+     */
+    @Nullable
+    public Object getPayload() {
+        return payload;
+    }
+
+    @Override
+    public String getMessage() {
+        String msg = message;
+        if (msg == null) {
+            msg = args.length == 0 ? format : String.format(format, args);
+            message = msg;
+        }
+        return msg;
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        // the arguments aren't serialized, so format the message while they are here
+        getMessage();
+        out.defaultWriteObject();
+    }
+
+    public enum PanicMode {
+        /**
+         * Panics fill in their stack trace, like any other exception.
+         */
+        STACK_TRACE,
+        /**
+         * Panics are created without a stack trace.
+         */
+        STACKLESS
     }
 }
@@ -0,0 +1,275 @@
+/*
+ *  ResultPipeline.java, 2026-10-17
+ *
+ *  Copyright 2022  Koory1st, Inc. All rights reserved.
+ */
+
+package io.github.koory1st.util.result;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * ResultPipeline is a chain of {@link Result#map}, {@link Result#andThen}, {@link Result#mapErr} and
+ * {@link Result#orElse} steps, composed once and then run over many inputs.
+ * <p>
+ * The steps pass the current Ok or Err value along without wrapping it, so running an input creates a single
+ * Result at the end, or none at all with a {@link Sink}. Only the Results returned by `andThen` and `orElse`
+ * functions themselves are allocated, and the last of them is returned as is if no later step changes it. A pipeline is immutable and can be shared between threads.
+ *
+ * <pre>{@code
+ * ResultPipeline<String, Integer, String> parse = ResultPipeline.<String, String>start()
+ *         .map(String::trim)
+ *         .andThen(s -> s.isEmpty() ? Err.of("empty") : Ok.of(s))
+ *         .map(Integer::parseInt);
+ * }</pre>
+ *
+ * @param <A> input
+ * @param <B> success (Ok)
+ * @param <E> failure (Err)
+ */
+public final class ResultPipeline<A, B, E> {
+    private static final int MAP = 0;
+    private static final int AND_THEN = 1;
+    private static final int MAP_ERR = 2;
+    private static final int OR_ELSE = 3;
+    @SuppressWarnings("unchecked")
+    private static final ResultPipeline<?, ?, ?> EMPTY =
+            new ResultPipeline<>(new int[0], (Function<Object, Object>[]) new Function<?, ?>[0]);
+    private final Function<Object, Object>[] functions;
+    private final int[] kinds;
+
+    private ResultPipeline(int[] kinds, Function<Object, Object>[] functions) {
+        this.kinds = kinds;
+        this.functions = functions;
+    }
+
+    /**
+     * @param <A> input
+     * @param <E> failure (Err)
+     * @return a pipeline without steps, turning each input into an Ok
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    public static <A, E> ResultPipeline<A, A, E> start() {
+        return (ResultPipeline<A, A, E>) EMPTY;
+    }
+
+    /**
+     * Adds a {@link Result#map(Function)} step.
+     *
+     * @param mapFunction mapFunction
+     * @param <C>         C
+     * @return the extended pipeline
+     */
+    @NotNull
+    public <C> ResultPipeline<A, C, E> map(@NotNull Function<B, C> mapFunction) {
+        return append(MAP, mapFunction);
+    }
+
+    /**
+     * Adds a {@link Result#andThen(Function)} step.
+     *
+     * @param op  op
+     * @param <C> C
+     * @return the extended pipeline
+     */
+    @NotNull
+    public <C> ResultPipeline<A, C, E> andThen(@NotNull Function<B, Result<C, E>> op) {
+        return append(AND_THEN, op);
+    }
+
+    /**
+     * Adds a {@link Result#mapErr(Function)} step.
+     *
+     * @param mapFunction mapFunction
+     * @param <F>         F
+     * @return the extended pipeline
+     */
+    @NotNull
+    public <F> ResultPipeline<A, B, F> mapErr(@NotNull Function<E, F> mapFunction) {
+        return append(MAP_ERR, mapFunction);
+    }
+
+    /**
+     * Adds a {@link Result#orElse(Function)} step.
+     *
+     * @param op  op
+     * @param <F> F
+     * @return the extended pipeline
+     */
+    @NotNull
+    public <F> ResultPipeline<A, B, F> orElse(@NotNull Function<E, Result<B, F>> op) {
+        return append(OR_ELSE, op);
+    }
+
+    /**
+     * Runs `input` through the steps.
+     *
+     * @param input input
+     * @return the only Result created for this input
+     */
+    @NotNull
+    public Result<B, E> apply(A input) {
+        return execute(input, null);
+    }
+
+    /**
+     * Runs `input` through the steps and hands the outcome to `sink`, without creating any Result.
+     *
+     * @param input input
+     * @param sink  sink
+     */
+    public void run(A input, @NotNull Sink<? super B, ? super E> sink) {
+        execute(input, sink);
+    }
+
+    /**
+     * @return the Result, or null if the outcome has been handed to `sink` instead.
+     */
+    @SuppressWarnings("unchecked")
+    private Result<B, E> execute(A input, Sink<? super B, ? super E> sink) {
+        Object value = input;
+        Object err = null;
+        boolean ok = true;
+        // the Result the last andThen or orElse step returned, while no later step has changed its value
+        Result<Object, Object> returned = null;
+        for (int i = 0; i < kinds.length; i++) {
+            switch (kinds[i]) {
+                case MAP:
+                    if (ok) {
+                        value = functions[i].apply(requireOk(value));
+                        returned = null;
+                    }
+                    break;
+                case AND_THEN:
+                    if (ok) {
+                        Result<Object, Object> result = (Result<Object, Object>) functions[i].apply(requireOk(value));
+                        ok = result.isOk();
+                        value = ok ? result.unwrap() : null;
+                        err = ok ? null : result.err();
+                        returned = result;
+                    }
+                    break;
+                case MAP_ERR:
+                    if (!ok) {
+                        err = functions[i].apply(err);
+                        returned = null;
+                    }
+                    break;
+                default:
+                    if (!ok) {
+                        Result<Object, Object> result = (Result<Object, Object>) functions[i].apply(err);
+                        ok = result.isOk();
+                        value = ok ? result.unwrap() : null;
+                        err = ok ? null : result.err();
+                        returned = result;
+                    }
+                    break;
+            }
+        }
+
+        if (sink == null) {
+            if (returned != null) {
+                // unchanged since its step, so reused as is rather than recreated and counted again
+                return (Result<B, E>) (Result<?, ?>) returned;
+            }
+            return ok ? Ok.of((B) value) : Err.of((E) err);
+        }
+
+        if (ok) {
+            sink.ok((B) value);
+        } else {
+            sink.err((E) err);
+        }
+        return null;
+    }
+
+    /**
+     * Runs every input through the steps.
+     *
+     * @param inputs inputs
+     * @return the Results, in input order
+     */
+    @NotNull
+    public List<Result<B, E>> applyAll(@NotNull List<? extends A> inputs) {
+        List<Result<B, E>> results = new ArrayList<>(inputs.size());
+        for (A input : inputs) {
+            results.add(execute(input, null));
+        }
+        return results;
+    }
+
+    /**
+     * Runs every input through the steps.
+     *
+     * @param inputs inputs
+     * @return the Results, in input order
+     */
+    @NotNull
+    public List<Result<B, E>> applyAll(@NotNull A[] inputs) {
+        return applyAll(Arrays.asList(inputs));
+    }
+
+    /**
+     * Runs every input through the steps and hands each outcome to `sink`, in input order.
+     *
+     * @param inputs inputs
+     * @param sink   sink
+     */
+    public void runAll(@NotNull List<? extends A> inputs, @NotNull Sink<? super B, ? super E> sink) {
+        for (A input : inputs) {
+            run(input, sink);
+        }
+    }
+
+    /**
+     * Runs every input through the steps and hands each outcome to `sink`, in input order.
+     *
+     * @param inputs inputs
+     * @param sink   sink
+     */
+    public void runAll(@NotNull A[] inputs, @NotNull Sink<? super B, ? super E> sink) {
+        for (A input : inputs) {
+            run(input, sink);
+        }
+    }
+
+    private static Object requireOk(Object value) {
+        if (value == null) {
+            throw ResultPanicException.panic(Result.CANT_APPLY_FUNCTION_A_EMPTY_OK);
+        }
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <C, F> ResultPipeline<A, C, F> append(int kind, Function<?, ?> function) {
+        int[] newKinds = Arrays.copyOf(kinds, kinds.length + 1);
+        Function<Object, Object>[] newFunctions = Arrays.copyOf(functions, functions.length + 1);
+        newKinds[kinds.length] = kind;
+        newFunctions[functions.length] = (Function<Object, Object>) function;
+        return new ResultPipeline<>(newKinds, newFunctions);
+    }
+
+    /**
+     * Receives the outcome of a pipeline run.
+     *
+     * @param <B> success (Ok)
+     * @param <E> failure (Err)
+     */
+    public interface Sink<B, E> {
+        /**
+         * @param value the Ok value
+         */
+        void ok(B value);
+
+        /**
+         * @param err the Err value
+         */
+        void err(E err);
+    }
+}
@@ -0,0 +1,277 @@
+/*
+ *  ResultRetry.java, 2026-10-17
+ *
+ *  Copyright 2022  Koory1st, Inc. All rights reserved.
+ */
+
+package io.github.koory1st.util.result;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * ResultRetry calls a Result-returning supplier again while it returns a retryable Err.
+ * <p>
+ * The n-th retry waits `initialBackoff * 2^(n-1)`, capped at `maxBackoff`, minus a random share of up to
+ * `jitter` of it, so that callers failing at the same time don't retry at the same time.
+ * An optional retry budget, shared by all the calls of a ResultRetry, bounds the retries to a ratio of the calls:
+ * once it is spent, Errs are returned right away instead of adding load to a degraded downstream.
+ * <p>
+ * A ResultRetry is thread safe. Combine it with a {@link ResultCircuitBreaker} to stop retrying altogether while
+ * the downstream is down.
+ *
+ * <pre>{@code
+ * ResultRetry<LookupError> retry = ResultRetry.<LookupError>builder()
+ *         .retryIf(LookupError::isTransient)
+ *         .maxAttempts(4)
+ *         .backoff(Duration.ofMillis(20), Duration.ofSeconds(1))
+ *         .budget(0.1, 10)
+ *         .build();
+ * Result<User, LookupError> user = retry.call(() -> repository.find(id));
+ * }</pre>
+ *
+ * @param <E> failure (Err)
+ */
+public final class ResultRetry<E> {
+    // the budget is kept in thousandths of a retry, so that fractional ratios stay lock-free integers
+    private static final long TOKEN = 1000;
+    private static final long NO_BUDGET = -1;
+    private final long budgetCapacity;
+    private final long budgetDeposit;
+    private final AtomicLong budgetTokens;
+    private final long initialBackoffNanos;
+    private final double jitter;
+    private final int maxAttempts;
+    private final long maxBackoffNanos;
+    private final Predicate<? super E> retryIf;
+    private final Sleeper sleeper;
+
+    private ResultRetry(Builder<E> builder) {
+        this.retryIf = builder.retryIf;
+        this.maxAttempts = builder.maxAttempts;
+        this.initialBackoffNanos = builder.initialBackoffNanos;
+        this.maxBackoffNanos = builder.maxBackoffNanos;
+        this.jitter = builder.jitter;
+        this.budgetCapacity = builder.budgetCapacity;
+        this.budgetDeposit = builder.budgetDeposit;
+        this.budgetTokens = new AtomicLong(builder.budgetCapacity);
+        this.sleeper = builder.sleeper;
+    }
+
+    /**
+     * @param <E> E
+     * @return a builder of a ResultRetry retrying every Err up to 3 attempts, without backoff nor budget
+     */
+    @NotNull
+    public static <E> Builder<E> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Calls `supplier` until it returns an Ok or an Err that isn't retryable, the attempts are exhausted,
+     * or the retry budget is spent. If the thread is interrupted while backing off, the interrupt flag is set
+     * again and the last Result is returned.
+     *
+     * @param supplier supplier
+     * @param <T>      T
+     * @return the last Result of `supplier`
+     * @throws ResultPanicException if `supplier` returns null.
+     */
+    @NotNull
+    public <T> Result<T, E> call(@NotNull Supplier<? extends Result<T, E>> supplier) {
+        deposit();
+        for (int attempt = 1; ; attempt++) {
+            Result<T, E> result = supplier.get();
+            //noinspection ConstantConditions
+            if (result == null) {
+                throw ResultPanicException.panic("A ResultRetry's supplier can't return null.");
+            }
+
+            if (result.isOk() || attempt == maxAttempts || !retryIf.test(result.err()) || !withdraw()) {
+                return result;
+            }
+
+            try {
+                sleeper.sleep(backoffNanos(attempt));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return result;
+            }
+        }
+    }
+
+    /**
+     * @param supplier supplier
+     * @param <T>      T
+     * @return a supplier calling `supplier` through {@link #call(Supplier)}
+     */
+    @NotNull
+    public <T> Supplier<Result<T, E>> wrap(@NotNull Supplier<? extends Result<T, E>> supplier) {
+        return () -> call(supplier);
+    }
+
+    /**
+     * @param retry the number of the retry, from 1
+     * @return the backoff before that retry, jitter applied
+     */
+    long backoffNanos(int retry) {
+        long backoff = initialBackoffNanos;
+        for (int i = 1; i < retry && backoff < maxBackoffNanos; i++) {
+            backoff = backoff > Long.MAX_VALUE / 2 ? Long.MAX_VALUE : backoff * 2;
+        }
+        backoff = Math.min(backoff, maxBackoffNanos);
+        if (jitter == 0) {
+            return backoff;
+        }
+        return backoff - (long) (backoff * jitter * ThreadLocalRandom.current().nextDouble());
+    }
+
+    private void deposit() {
+        if (budgetCapacity == NO_BUDGET) {
+            return;
+        }
+        long tokens = budgetTokens.get();
+        while (tokens < budgetCapacity
+                && !budgetTokens.compareAndSet(tokens, Math.min(budgetCapacity, tokens + budgetDeposit))) {
+            tokens = budgetTokens.get();
+        }
+    }
+
+    private boolean withdraw() {
+        if (budgetCapacity == NO_BUDGET) {
+            return true;
+        }
+        long tokens = budgetTokens.get();
+        while (tokens >= TOKEN) {
+            if (budgetTokens.compareAndSet(tokens, tokens - TOKEN)) {
+                return true;
+            }
+            tokens = budgetTokens.get();
+        }
+        return false;
+    }
+
+    /**
+     * Waits between two attempts. The default one sleeps the current thread, tests can record the waits instead.
+     */
+    @FunctionalInterface
+    public interface Sleeper {
+        /**
+         * @param nanos the time to wait, in nanoseconds
+         * @throws InterruptedException if interrupted while waiting
+         */
+        void sleep(long nanos) throws InterruptedException;
+    }
+
+    /**
+     * Builds a {@link ResultRetry}.
+     *
+     * @param <E> failure (Err)
+     */
+    public static final class Builder<E> {
+        private long budgetCapacity = NO_BUDGET;
+        private long budgetDeposit;
+        private long initialBackoffNanos;
+        private double jitter;
+        private int maxAttempts = 3;
+        private long maxBackoffNanos;
+        private Predicate<? super E> retryIf = err -> true;
+        private Sleeper sleeper = TimeUnit.NANOSECONDS::sleep;
+
+        private Builder() {
+        }
+
+        /**
+         * @param retryIf decides which Err values are worth another attempt
+         * @return this builder
+         */
+        @NotNull
+        public Builder<E> retryIf(@NotNull Predicate<? super E> retryIf) {
+            this.retryIf = retryIf;
+            return this;
+        }
+
+        /**
+         * @param maxAttempts the maximum number of calls, the first one included
+         * @return this builder
+         */
+        @NotNull
+        public Builder<E> maxAttempts(int maxAttempts) {
+            if (maxAttempts < 1) {
+                throw new IllegalArgumentException("The max attempts must be positive.");
+            }
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * @param initial the backoff before the first retry, doubled for each next one
+         * @param max     the maximum backoff
+         * @return this builder
+         */
+        @NotNull
+        public Builder<E> backoff(@NotNull Duration initial, @NotNull Duration max) {
+            if (initial.isNegative() || max.compareTo(initial) < 0) {
+                throw new IllegalArgumentException("The backoff must be positive and not above the max backoff.");
+            }
+            this.initialBackoffNanos = initial.toNanos();
+            this.maxBackoffNanos = max.toNanos();
+            return this;
+        }
+
+        /**
+         * @param jitter the largest share of a backoff randomly taken off, from 0 (none) to 1 (full jitter)
+         * @return this builder
+         */
+        @NotNull
+        public Builder<E> jitter(double jitter) {
+            if (!(jitter >= 0 && jitter <= 1)) {
+                throw new IllegalArgumentException("The jitter must be between 0 and 1.");
+            }
+            this.jitter = jitter;
+            return this;
+        }
+
+        /**
+         * Bounds the retries to `ratio` of the calls, on top of `burst` retries that are available right away.
+         * Each call earns `ratio` of a retry, each retry spends one, and no more than `burst` can be saved.
+         *
+         * @param ratio the number of retries earned per call
+         * @param burst the maximum number of retries saved
+         * @return this builder
+         */
+        @NotNull
+        public Builder<E> budget(double ratio, int burst) {
+            if (!(ratio >= 0) || burst < 1) {
+                throw new IllegalArgumentException("The budget ratio can't be negative and the burst must be positive.");
+            }
+            this.budgetCapacity = burst * TOKEN;
+            this.budgetDeposit = Math.round(ratio * TOKEN);
+            return this;
+        }
+
+        /**
+         * @param sleeper waits between two attempts, {@link TimeUnit#sleep(long)} by default
+         * @return this builder
+         */
+        @NotNull
+        public Builder<E> sleeper(@NotNull Sleeper sleeper) {
+            this.sleeper = sleeper;
+            return this;
+        }
+
+        /**
+         * @return the ResultRetry
+         */
+        @NotNull
+        public ResultRetry<E> build() {
+            return new ResultRetry<>(this);
+        }
+    }
+}
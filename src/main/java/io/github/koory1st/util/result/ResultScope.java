@@ -0,0 +1,86 @@
+/*
+ *  ResultScope.java, 2026-10-17
+ *
+ *  Copyright 2022  Koory1st, Inc. All rights reserved.
+ */
+
+package io.github.koory1st.util.result;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Function;
+
+/**
+ * The context of a {@link Result#scope(Function)}, the Java counterpart of Rust's `?` operator.
+ * <p>
+ * {@link #bind(Result)} returns the value of an Ok, and ends the scope with an Err, which the scope returns as is.
+ * The exit goes through a single preallocated throwable without a stack trace, so an early exit costs no more than
+ * a jump, and an Ok costs a type check. The throwable is an {@link Error}, so {@code catch (Exception e)} blocks and
+ * {@link Result#catching} between the scope and `bind` don't swallow it. The scope ending is recorded per thread, so
+ * an exit swallowed by a {@code catch (Throwable t)} doesn't confuse the scopes nested around it.
+ *
+ * @param <E> failure (Err)
+ */
+public final class ResultScope<E> {
+    private static final Escape ESCAPE = new Escape();
+    // the scope ESCAPE is ending on this thread, only written on the Err path
+    private static final ThreadLocal<ResultScope<?>> ESCAPING = new ThreadLocal<>();
+    private boolean ended;
+    private Result<?, ? extends E> err;
+
+    private ResultScope() {
+    }
+
+    /**
+     * See {@link Result#scope(Function)}.
+     */
+    @SuppressWarnings("unchecked")
+    static <T, E> Result<T, E> run(Function<? super ResultScope<E>, ? extends Result<T, E>> body) {
+        ResultScope<E> scope = new ResultScope<>();
+        try {
+            return body.apply(scope);
+        } catch (Escape escape) {
+            if (ESCAPING.get() != scope) {
+                // the escape of an enclosing scope, bound inside this one
+                throw escape;
+            }
+            // an Err holds no Ok value, so it is an Err of any type of Ok
+            return (Result<T, E>) scope.err;
+        } finally {
+            scope.ended = true;
+            // also after an escape swallowed by the body, so the thread doesn't keep the scope and its Err
+            if (scope.err != null && ESCAPING.get() == scope) {
+                ESCAPING.set(null);
+            }
+        }
+    }
+
+    /**
+     * @param result result
+     * @param <T>    T
+     * @return the Ok value of `result`, null for the empty Ok
+     * @throws IllegalStateException if the scope has ended
+     */
+    public <T> T bind(@NotNull Result<T, ? extends E> result) {
+        if (ended) {
+            throw new IllegalStateException("Can't bind a Result after its scope ended.");
+        }
+        if (result.isOk()) {
+            return result.okValue();
+        }
+        err = result;
+        ESCAPING.set(this);
+        throw ESCAPE;
+    }
+
+    /**
+     * Ends the scope of a {@link ResultScope} with an Err. Never seen outside of a scope.
+     */
+    private static final class Escape extends Error {
+        private static final long serialVersionUID = 1L;
+
+        private Escape() {
+            super(null, null, false, false);
+        }
+    }
+}
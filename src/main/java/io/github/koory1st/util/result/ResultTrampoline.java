@@ -0,0 +1,264 @@
+/*
+ *  ResultTrampoline.java, 2026-10-17
+ *
+ *  Copyright 2022  Koory1st, Inc. All rights reserved.
+ */
+
+package io.github.koory1st.util.result;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * ResultTrampoline describes a computation of a Result&lt;T, E&gt; that {@link #run()} evaluates in constant stack
+ * space, however deep the recursion through {@link #andThen} and {@link #defer}.
+ * <p>
+ * {@link #run()} is a loop over an explicit stack of the pending continuations instead of the call stack, so the
+ * recursion doesn't have to be in tail position: a validator of both children of a tree node works as well as one
+ * walking a list. The first Err ends the run and drops the pending continuations. Nothing runs before
+ * {@link #run()}, and every call of {@link #run()} evaluates the computation again.
+ * <p>
+ * A computation that is already {@link #done} or {@link #ok} runs without a loop, and an Err takes no continuations.
+ * An `andThen` or `map` of a deferred step or of an Ok is a single node, so a recursive step allocates one node for
+ * each of its continuations besides the caller's lambdas.
+ *
+ * <pre>{@code
+ * ResultTrampoline<Integer, String> size(Node node) {
+ *     if (node == null) {
+ *         return ResultTrampoline.ok(0);
+ *     }
+ *     return ResultTrampoline.defer(() -> size(node.left))
+ *             .andThen(left -> ResultTrampoline.defer(() -> size(node.right))
+ *                     .map(right -> left + right + 1));
+ * }
+ * }</pre>
+ *
+ * @param <T> success (Ok)
+ * @param <E> failure (Err)
+ */
+public abstract class ResultTrampoline<T, E> {
+    // the continuations, an andThen even and a map odd, of a computation, of a deferred step or of an Ok value
+    private static final int AND_THEN = 0;
+    private static final int MAP = 1;
+    private static final int STEP_AND_THEN = 2;
+    private static final int STEP_MAP = 3;
+    private static final int VALUE_AND_THEN = 4;
+    private static final int VALUE_MAP = 5;
+    private static final int DEFER = 6;
+    private static final int DONE = 7;
+    private static final int VALUE = 8;
+    private static final int INITIAL_STACK_SIZE = 16;
+    // dispatched on by run() with a switch, cheaper than a chain of instanceof
+    private final int kind;
+
+    private ResultTrampoline(int kind) {
+        this.kind = kind;
+    }
+
+    /**
+     * @param result result
+     * @param <T>    T
+     * @param <E>    E
+     * @return a computation of `result`
+     */
+    @NotNull
+    public static <T, E> ResultTrampoline<T, E> done(@NotNull Result<T, E> result) {
+        return new Done<>(result);
+    }
+
+    /**
+     * @param value value
+     * @param <T>   T
+     * @param <E>   E
+     * @return a computation of Ok of `value`
+     */
+    @NotNull
+    public static <T, E> ResultTrampoline<T, E> ok(@NotNull T value) {
+        return new Value<>(value);
+    }
+
+    /**
+     * @param err err
+     * @param <T> T
+     * @param <E> E
+     * @return a computation of Err of `err`
+     */
+    @NotNull
+    public static <T, E> ResultTrampoline<T, E> err(@NotNull E err) {
+        return new Done<>(Err.of(err));
+    }
+
+    /**
+     * Defers a step, typically a recursive call, to the loop of {@link #run()}.
+     *
+     * @param step step
+     * @param <T>  T
+     * @param <E>  E
+     * @return a computation of what `step` computes
+     */
+    @NotNull
+    public static <T, E> ResultTrampoline<T, E> defer(@NotNull Supplier<? extends ResultTrampoline<T, E>> step) {
+        return new Defer<>(step);
+    }
+
+    /**
+     * @param op  the continuation of the Ok value
+     * @param <U> U
+     * @return a computation of this one followed by `op` if it is Ok, or of its Err
+     */
+    @NotNull
+    public <U> ResultTrampoline<U, E> andThen(@NotNull Function<? super T, ? extends ResultTrampoline<U, E>> op) {
+        return then(AND_THEN, op);
+    }
+
+    /**
+     * @param op  the function of the Ok value
+     * @param <U> U
+     * @return a computation of this one with its Ok value mapped by `op`
+     */
+    @NotNull
+    public <U> ResultTrampoline<U, E> map(@NotNull Function<? super T, ? extends U> op) {
+        return then(MAP, op);
+    }
+
+    /**
+     * A single node for this computation and its continuation, taking over the step or the value of a Defer, a
+     * Value or an Ok Done instead of holding it, so the node of the first is garbage once created.
+     */
+    @SuppressWarnings("unchecked")
+    private <U> ResultTrampoline<U, E> then(int kind, Function<?, ?> op) {
+        switch (this.kind) {
+            case DEFER:
+                return new Continuation<>(kind + STEP_AND_THEN, ((Defer<T, E>) this).step, op);
+            case VALUE:
+                return new Continuation<>(kind + VALUE_AND_THEN, ((Value<T, E>) this).value, op);
+            case DONE:
+                Result<T, E> result = ((Done<T, E>) this).result;
+                if (result.isErr()) {
+                    // an Err computes the same Err whatever follows it, and holds no Ok value
+                    return (ResultTrampoline<U, E>) this;
+                }
+                return new Continuation<>(kind + VALUE_AND_THEN, result.okValue(), op);
+            default:
+                return new Continuation<>(kind, this, op);
+        }
+    }
+
+    /**
+     * Evaluates the computation in a loop, without growing the call stack.
+     *
+     * @return the Result
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    public Result<T, E> run() {
+        if (kind == DONE) {
+            return ((Done<T, E>) this).result;
+        }
+        if (kind == VALUE) {
+            return Ok.of(((Value<T, E>) this).value);
+        }
+        // the pending continuations, innermost last, allocated on the first one
+        Continuation<?, ?>[] stack = null;
+        int depth = 0;
+        ResultTrampoline<?, ?> current = this;
+        while (true) {
+            Object value;
+            switch (current.kind) {
+                case DEFER:
+                    current = ((Defer<?, ?>) current).step.get();
+                    continue;
+                case VALUE:
+                    value = ((Value<?, ?>) current).value;
+                    break;
+                case DONE:
+                    Result<?, ?> result = ((Done<?, ?>) current).result;
+                    if (result.isErr() || depth == 0) {
+                        // an Err skips every pending continuation, like andThen does
+                        return (Result<T, E>) result;
+                    }
+                    value = result.okValue();
+                    break;
+                default:
+                    if (stack == null) {
+                        stack = new Continuation<?, ?>[INITIAL_STACK_SIZE];
+                    } else if (depth == stack.length) {
+                        stack = Arrays.copyOf(stack, depth * 2);
+                    }
+                    Continuation<?, ?> continuation = (Continuation<?, ?>) current;
+                    stack[depth++] = continuation;
+                    if (current.kind < STEP_AND_THEN) {
+                        current = (ResultTrampoline<?, ?>) continuation.source;
+                        continue;
+                    }
+                    if (current.kind < VALUE_AND_THEN) {
+                        current = ((Supplier<? extends ResultTrampoline<?, ?>>) continuation.source).get();
+                        continue;
+                    }
+                    value = continuation.source;
+                    break;
+            }
+
+            // the mapped values stay unwrapped until the next andThen, or the end
+            while (true) {
+                if (depth == 0) {
+                    return value == null ? Ok.of() : Ok.of((T) value);
+                }
+                ResultTrampoline<?, ?> frame = stack[--depth];
+                stack[depth] = null;
+                Function<Object, ?> op = (Function<Object, ?>) ((Continuation<?, ?>) frame).op;
+                if (frame.kind % 2 == MAP) {
+                    value = op.apply(value);
+                    continue;
+                }
+                current = (ResultTrampoline<?, ?>) op.apply(value);
+                break;
+            }
+        }
+    }
+
+    private static final class Done<T, E> extends ResultTrampoline<T, E> {
+        private final Result<T, E> result;
+
+        private Done(Result<T, E> result) {
+            super(DONE);
+            this.result = result;
+        }
+    }
+
+    private static final class Value<T, E> extends ResultTrampoline<T, E> {
+        private final T value;
+
+        private Value(T value) {
+            super(VALUE);
+            this.value = value;
+        }
+    }
+
+    private static final class Defer<T, E> extends ResultTrampoline<T, E> {
+        private final Supplier<? extends ResultTrampoline<T, E>> step;
+
+        private Defer(Supplier<? extends ResultTrampoline<T, E>> step) {
+            super(DEFER);
+            this.step = step;
+        }
+    }
+
+    /**
+     * An andThen, whose `op` returns the next ResultTrampoline, or a map, whose `op` returns the next Ok value.
+     * The `source` is a ResultTrampoline, the Supplier of a deferred step or an Ok value, depending on the kind.
+     */
+    private static final class Continuation<T, E> extends ResultTrampoline<T, E> {
+        private final Function<?, ?> op;
+        private final Object source;
+
+        private Continuation(int kind, Object source, Function<?, ?> op) {
+            super(kind);
+            this.source = source;
+            this.op = op;
+        }
+    }
+}
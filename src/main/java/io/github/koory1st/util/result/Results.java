@@ -0,0 +1,1032 @@
+/*
+ *  Results.java, 2026-10-17
+ *
+ *  Copyright 2022  Koory1st, Inc. All rights reserved.
+ */
+
+package io.github.koory1st.util.result;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Static helpers working on many Results at once.
+ */
+public final class Results {
+    private static final int DEFAULT_CAPACITY = 10;
+    private static final int NO_ERR = Integer.MAX_VALUE;
+    private static final int TASKS_PER_THREAD = 4;
+
+    private Results() {
+    }
+
+    /**
+     * A collector of Result&lt;T, E&gt; to Result&lt;List&lt;T&gt;, E&gt;, which is the first Err in encounter order if there is one.
+     * Elements after the first Err are ignored, but still consumed; use {@link #sequence(Stream)} to stop pulling from
+     * the stream instead.
+     *
+     * @param <T> T
+     * @param <E> E
+     * @return collector
+     */
+    @NotNull
+    public static <T, E> Collector<Result<T, E>, ?, Result<List<T>, E>> toList() {
+        return toList(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param expectedSize the number of elements expected, used to pre-size the list
+     * @param <T>          T
+     * @param <E>          E
+     * @return the same collector as {@link #toList()}
+     */
+    @NotNull
+    public static <T, E> Collector<Result<T, E>, ?, Result<List<T>, E>> toList(int expectedSize) {
+        return Collector.of(
+                () -> new ListAccumulator<T, E>(expectedSize),
+                ListAccumulator::accept,
+                ListAccumulator::combine,
+                ListAccumulator::finish);
+    }
+
+    /**
+     * A collector that splits Results into their Ok values and their Err values, both in encounter order.
+     *
+     * @param <T> T
+     * @param <E> E
+     * @return collector
+     */
+    @NotNull
+    public static <T, E> Collector<Result<T, E>, ?, Partition<T, E>> partitioning() {
+        return Collector.of(
+                Partition<T, E>::new,
+                Partition::accept,
+                Partition::combine);
+    }
+
+    /**
+     * A collector of Result&lt;T, E&gt; to Result&lt;List&lt;T&gt;, List&lt;E&gt;&gt;, which holds every Err in encounter
+     * order if there is one. Unlike {@link #toList()}, it doesn't stop at the first Err. The Ok values are dropped
+     * as soon as an Err is seen, and the Errs are appended to a chunked buffer that never copies them.
+     *
+     * @param <T> T
+     * @param <E> E
+     * @return collector
+     */
+    @NotNull
+    public static <T, E> Collector<Result<T, E>, ?, Result<List<T>, List<E>>> accumulating() {
+        return Collector.of(
+                AccumulatingAccumulator<T, E>::new,
+                AccumulatingAccumulator::accept,
+                AccumulatingAccumulator::combine,
+                AccumulatingAccumulator::finish);
+    }
+
+    /**
+     * Converts from Iterable&lt;Result&lt;T, E&gt;&gt; to Result&lt;List&lt;T&gt;, List&lt;E&gt;&gt;, collecting every Err.
+     * See {@link #accumulating()}.
+     *
+     * @param results results
+     * @param <T>     T
+     * @param <E>     E
+     * @return the Ok values, or all the Errs
+     */
+    @NotNull
+    public static <T, E> Result<List<T>, List<E>> combineAll(@NotNull Iterable<? extends Result<T, E>> results) {
+        AccumulatingAccumulator<T, E> accumulator = new AccumulatingAccumulator<>();
+        for (Result<T, E> result : results) {
+            accumulator.accept(result);
+        }
+        return accumulator.finish();
+    }
+
+    /**
+     * Zips two Results: Ok of both Ok values as an entry, or the first Err by position. Use
+     * {@link #combine(Result, Result, BiFunction)} to build something else than an entry.
+     *
+     * @param r1   r1
+     * @param r2   r2
+     * @param <T1> T1
+     * @param <T2> T2
+     * @param <E>  E
+     * @return Ok of the entry (r1, r2), or the first Err
+     */
+    @NotNull
+    public static <T1, T2, E> Result<Map.Entry<T1, T2>, E> zip(@NotNull Result<? extends T1, ? extends E> r1,
+                                                               @NotNull Result<? extends T2, ? extends E> r2) {
+        return combine(r1, r2, AbstractMap.SimpleImmutableEntry::new);
+    }
+
+    /**
+     * Combines independent Results without nesting {@link Result#andThen(Function)}: Ok of `fn` applied to the
+     * Ok values, or the first Err by position, returned as is. `fn` isn't called if there is an Err, and only the
+     * final Ok is created.
+     *
+     * @param r1   r1
+     * @param r2   r2
+     * @param fn   the function of the Ok values
+     * @param <T1> T1
+     * @param <T2> T2
+     * @param <R>  R
+     * @param <E>  E
+     * @return Ok of the combined value, or the first Err
+     */
+    @NotNull
+    public static <T1, T2, R, E> Result<R, E> combine(@NotNull Result<? extends T1, ? extends E> r1,
+                                                      @NotNull Result<? extends T2, ? extends E> r2,
+                                                      @NotNull BiFunction<? super T1, ? super T2, ? extends R> fn) {
+        if (r1.isErr()) {
+            return err(r1);
+        }
+        if (r2.isErr()) {
+            return err(r2);
+        }
+        return ok(fn.apply(r1.okValue(), r2.okValue()));
+    }
+
+    /**
+     * Combines 3 independent Results. See {@link #combine(Result, Result, BiFunction)}.
+     *
+     * @param r1   r1
+     * @param r2   r2
+     * @param r3   r3
+     * @param fn   the function of the Ok values
+     * @param <T1> T1
+     * @param <T2> T2
+     * @param <T3> T3
+     * @param <R>  R
+     * @param <E>  E
+     * @return Ok of the combined value, or the first Err
+     */
+    @NotNull
+    public static <T1, T2, T3, R, E> Result<R, E> combine(
+            @NotNull Result<? extends T1, ? extends E> r1,
+            @NotNull Result<? extends T2, ? extends E> r2,
+            @NotNull Result<? extends T3, ? extends E> r3,
+            @NotNull Function3<? super T1, ? super T2, ? super T3, ? extends R> fn) {
+        if (r1.isErr()) {
+            return err(r1);
+        }
+        if (r2.isErr()) {
+            return err(r2);
+        }
+        if (r3.isErr()) {
+            return err(r3);
+        }
+        return ok(fn.apply(r1.okValue(), r2.okValue(), r3.okValue()));
+    }
+
+    /**
+     * Combines 4 independent Results. See {@link #combine(Result, Result, BiFunction)}.
+     *
+     * @param r1   r1
+     * @param r2   r2
+     * @param r3   r3
+     * @param r4   r4
+     * @param fn   the function of the Ok values
+     * @param <T1> T1
+     * @param <T2> T2
+     * @param <T3> T3
+     * @param <T4> T4
+     * @param <R>  R
+     * @param <E>  E
+     * @return Ok of the combined value, or the first Err
+     */
+    @NotNull
+    public static <T1, T2, T3, T4, R, E> Result<R, E> combine(
+            @NotNull Result<? extends T1, ? extends E> r1,
+            @NotNull Result<? extends T2, ? extends E> r2,
+            @NotNull Result<? extends T3, ? extends E> r3,
+            @NotNull Result<? extends T4, ? extends E> r4,
+            @NotNull Function4<? super T1, ? super T2, ? super T3, ? super T4, ? extends R> fn) {
+        if (r1.isErr()) {
+            return err(r1);
+        }
+        if (r2.isErr()) {
+            return err(r2);
+        }
+        if (r3.isErr()) {
+            return err(r3);
+        }
+        if (r4.isErr()) {
+            return err(r4);
+        }
+        return ok(fn.apply(r1.okValue(), r2.okValue(), r3.okValue(), r4.okValue()));
+    }
+
+    /**
+     * Combines 5 independent Results. See {@link #combine(Result, Result, BiFunction)}.
+     *
+     * @param r1   r1
+     * @param r2   r2
+     * @param r3   r3
+     * @param r4   r4
+     * @param r5   r5
+     * @param fn   the function of the Ok values
+     * @param <T1> T1
+     * @param <T2> T2
+     * @param <T3> T3
+     * @param <T4> T4
+     * @param <T5> T5
+     * @param <R>  R
+     * @param <E>  E
+     * @return Ok of the combined value, or the first Err
+     */
+    @NotNull
+    public static <T1, T2, T3, T4, T5, R, E> Result<R, E> combine(
+            @NotNull Result<? extends T1, ? extends E> r1,
+            @NotNull Result<? extends T2, ? extends E> r2,
+            @NotNull Result<? extends T3, ? extends E> r3,
+            @NotNull Result<? extends T4, ? extends E> r4,
+            @NotNull Result<? extends T5, ? extends E> r5,
+            @NotNull Function5<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? extends R> fn) {
+        if (r1.isErr()) {
+            return err(r1);
+        }
+        if (r2.isErr()) {
+            return err(r2);
+        }
+        if (r3.isErr()) {
+            return err(r3);
+        }
+        if (r4.isErr()) {
+            return err(r4);
+        }
+        if (r5.isErr()) {
+            return err(r5);
+        }
+        return ok(fn.apply(r1.okValue(), r2.okValue(), r3.okValue(), r4.okValue(), r5.okValue()));
+    }
+
+    /**
+     * Combines 6 independent Results. See {@link #combine(Result, Result, BiFunction)}.
+     *
+     * @param r1   r1
+     * @param r2   r2
+     * @param r3   r3
+     * @param r4   r4
+     * @param r5   r5
+     * @param r6   r6
+     * @param fn   the function of the Ok values
+     * @param <T1> T1
+     * @param <T2> T2
+     * @param <T3> T3
+     * @param <T4> T4
+     * @param <T5> T5
+     * @param <T6> T6
+     * @param <R>  R
+     * @param <E>  E
+     * @return Ok of the combined value, or the first Err
+     */
+    @NotNull
+    public static <T1, T2, T3, T4, T5, T6, R, E> Result<R, E> combine(
+            @NotNull Result<? extends T1, ? extends E> r1,
+            @NotNull Result<? extends T2, ? extends E> r2,
+            @NotNull Result<? extends T3, ? extends E> r3,
+            @NotNull Result<? extends T4, ? extends E> r4,
+            @NotNull Result<? extends T5, ? extends E> r5,
+            @NotNull Result<? extends T6, ? extends E> r6,
+            @NotNull Function6<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6,
+                    ? extends R> fn) {
+        if (r1.isErr()) {
+            return err(r1);
+        }
+        if (r2.isErr()) {
+            return err(r2);
+        }
+        if (r3.isErr()) {
+            return err(r3);
+        }
+        if (r4.isErr()) {
+            return err(r4);
+        }
+        if (r5.isErr()) {
+            return err(r5);
+        }
+        if (r6.isErr()) {
+            return err(r6);
+        }
+        return ok(fn.apply(r1.okValue(), r2.okValue(), r3.okValue(), r4.okValue(), r5.okValue(), r6.okValue()));
+    }
+
+    /**
+     * Combines 7 independent Results. See {@link #combine(Result, Result, BiFunction)}.
+     *
+     * @param r1   r1
+     * @param r2   r2
+     * @param r3   r3
+     * @param r4   r4
+     * @param r5   r5
+     * @param r6   r6
+     * @param r7   r7
+     * @param fn   the function of the Ok values
+     * @param <T1> T1
+     * @param <T2> T2
+     * @param <T3> T3
+     * @param <T4> T4
+     * @param <T5> T5
+     * @param <T6> T6
+     * @param <T7> T7
+     * @param <R>  R
+     * @param <E>  E
+     * @return Ok of the combined value, or the first Err
+     */
+    @NotNull
+    public static <T1, T2, T3, T4, T5, T6, T7, R, E> Result<R, E> combine(
+            @NotNull Result<? extends T1, ? extends E> r1,
+            @NotNull Result<? extends T2, ? extends E> r2,
+            @NotNull Result<? extends T3, ? extends E> r3,
+            @NotNull Result<? extends T4, ? extends E> r4,
+            @NotNull Result<? extends T5, ? extends E> r5,
+            @NotNull Result<? extends T6, ? extends E> r6,
+            @NotNull Result<? extends T7, ? extends E> r7,
+            @NotNull Function7<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7,
+                    ? extends R> fn) {
+        if (r1.isErr()) {
+            return err(r1);
+        }
+        if (r2.isErr()) {
+            return err(r2);
+        }
+        if (r3.isErr()) {
+            return err(r3);
+        }
+        if (r4.isErr()) {
+            return err(r4);
+        }
+        if (r5.isErr()) {
+            return err(r5);
+        }
+        if (r6.isErr()) {
+            return err(r6);
+        }
+        if (r7.isErr()) {
+            return err(r7);
+        }
+        return ok(fn.apply(r1.okValue(), r2.okValue(), r3.okValue(), r4.okValue(), r5.okValue(), r6.okValue(),
+                r7.okValue()));
+    }
+
+    /**
+     * Combines 8 independent Results. See {@link #combine(Result, Result, BiFunction)}.
+     *
+     * @param r1   r1
+     * @param r2   r2
+     * @param r3   r3
+     * @param r4   r4
+     * @param r5   r5
+     * @param r6   r6
+     * @param r7   r7
+     * @param r8   r8
+     * @param fn   the function of the Ok values
+     * @param <T1> T1
+     * @param <T2> T2
+     * @param <T3> T3
+     * @param <T4> T4
+     * @param <T5> T5
+     * @param <T6> T6
+     * @param <T7> T7
+     * @param <T8> T8
+     * @param <R>  R
+     * @param <E>  E
+     * @return Ok of the combined value, or the first Err
+     */
+    @NotNull
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, R, E> Result<R, E> combine(
+            @NotNull Result<? extends T1, ? extends E> r1,
+            @NotNull Result<? extends T2, ? extends E> r2,
+            @NotNull Result<? extends T3, ? extends E> r3,
+            @NotNull Result<? extends T4, ? extends E> r4,
+            @NotNull Result<? extends T5, ? extends E> r5,
+            @NotNull Result<? extends T6, ? extends E> r6,
+            @NotNull Result<? extends T7, ? extends E> r7,
+            @NotNull Result<? extends T8, ? extends E> r8,
+            @NotNull Function8<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7,
+                    ? super T8, ? extends R> fn) {
+        if (r1.isErr()) {
+            return err(r1);
+        }
+        if (r2.isErr()) {
+            return err(r2);
+        }
+        if (r3.isErr()) {
+            return err(r3);
+        }
+        if (r4.isErr()) {
+            return err(r4);
+        }
+        if (r5.isErr()) {
+            return err(r5);
+        }
+        if (r6.isErr()) {
+            return err(r6);
+        }
+        if (r7.isErr()) {
+            return err(r7);
+        }
+        if (r8.isErr()) {
+            return err(r8);
+        }
+        return ok(fn.apply(r1.okValue(), r2.okValue(), r3.okValue(), r4.okValue(), r5.okValue(), r6.okValue(),
+                r7.okValue(), r8.okValue()));
+    }
+
+    /**
+     * Converts from Stream&lt;Result&lt;T, E&gt;&gt; to Result&lt;List&lt;T&gt;, E&gt;.
+     * Stops pulling from the stream at the first Err, so upstream stages are not run for the remaining elements.
+     *
+     * @param stream stream
+     * @param <T>    T
+     * @param <E>    E
+     * @return the Ok values, or the first Err
+     */
+    @NotNull
+    public static <T, E> Result<List<T>, E> sequence(@NotNull Stream<Result<T, E>> stream) {
+        Spliterator<Result<T, E>> spliterator = stream.spliterator();
+        long size = spliterator.getExactSizeIfKnown();
+        ListAccumulator<T, E> accumulator = new ListAccumulator<>(size < 0 || size > Integer.MAX_VALUE ? DEFAULT_CAPACITY : (int) size);
+
+        //noinspection StatementWithEmptyBody
+        while (accumulator.err == null && spliterator.tryAdvance(accumulator::accept)) {
+        }
+
+        return accumulator.finish();
+    }
+
+    /**
+     * Wraps a stream so that it ends right after its first Err, which is still emitted.
+     * Nothing more is pulled from the upstream once the Err is seen, so upstream mapping stops as well.
+     * The returned stream is sequential and closing it closes the upstream.
+     *
+     * @param stream stream
+     * @param <T>    T
+     * @param <E>    E
+     * @return the short-circuiting stream
+     */
+    @NotNull
+    public static <T, E> Stream<Result<T, E>> takeUntilErr(@NotNull Stream<Result<T, E>> stream) {
+        return StreamSupport.stream(new TakeUntilErrSpliterator<>(stream.spliterator()), false)
+                .onClose(stream::close);
+    }
+
+    /**
+     * Applies `op` to every element in parallel on the common {@link ForkJoinPool}.
+     *
+     * @param inputs inputs
+     * @param op     op
+     * @param <A>    A
+     * @param <B>    B
+     * @param <E>    E
+     * @return see {@link #traverseParallel(List, Function, ForkJoinPool, int)}
+     */
+    @NotNull
+    public static <A, B, E> Result<List<B>, E> traverseParallel(@NotNull List<A> inputs, @NotNull Function<A, Result<B, E>> op) {
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        int chunkSize = Math.max(1, inputs.size() / (pool.getParallelism() * TASKS_PER_THREAD));
+        return traverseParallel(inputs, op, pool, chunkSize);
+    }
+
+    /**
+     * Same as {@link #traverseParallel(List, Function)} for an array.
+     *
+     * @param inputs inputs
+     * @param op     op
+     * @param <A>    A
+     * @param <B>    B
+     * @param <E>    E
+     * @return see {@link #traverseParallel(List, Function, ForkJoinPool, int)}
+     */
+    @NotNull
+    public static <A, B, E> Result<List<B>, E> traverseParallel(@NotNull A[] inputs, @NotNull Function<A, Result<B, E>> op) {
+        return traverseParallel(Arrays.asList(inputs), op);
+    }
+
+    /**
+     * Applies `op` to every element in parallel, splitting the inputs into chunks of at most `chunkSize` elements.
+     * Ok values are written straight into a pre-sized array. Once an Err is found, elements after it are skipped
+     * and chunks that haven't started are cancelled, but elements before it are still run, so that the reported
+     * Err is always the one with the lowest index, as if the inputs had been traversed sequentially.
+     *
+     * @param inputs    inputs
+     * @param op        op
+     * @param pool      the pool to run on
+     * @param chunkSize the number of elements handled by one task
+     * @param <A>       A
+     * @param <B>       B
+     * @param <E>       E
+     * @return the Ok values in input order, or the Err with the lowest index.
+     */
+    @NotNull
+    public static <A, B, E> Result<List<B>, E> traverseParallel(@NotNull List<A> inputs, @NotNull Function<A, Result<B, E>> op,
+                                                              @NotNull ForkJoinPool pool, int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("The chunk size must be positive.");
+        }
+
+        List<A> randomAccessInputs = inputs instanceof RandomAccess ? inputs : new ArrayList<>(inputs);
+        Object[] out = new Object[randomAccessInputs.size()];
+        AtomicInteger errIndex = new AtomicInteger(NO_ERR);
+        pool.invoke(new TraverseTask<>(randomAccessInputs, op, out, errIndex, chunkSize, 0, out.length));
+
+        int index = errIndex.get();
+        if (index != NO_ERR) {
+            // the Err the op returned, as an Err holds no Ok value
+            @SuppressWarnings("unchecked")
+            Result<List<B>, E> err = (Result<List<B>, E>) out[index];
+            return err;
+        }
+
+        // every element is a B once no op returned an Err
+        @SuppressWarnings("unchecked")
+        List<B> oks = (List<B>) Arrays.asList(out);
+        return Ok.of(oks);
+    }
+
+    /**
+     * Runs all tasks concurrently, each on its own virtual thread on Java 21+, or on a pool of at most
+     * {@value FanOutExecutors#MAX_PLATFORM_THREADS} platform threads before.
+     *
+     * @param tasks tasks
+     * @param <T>   T
+     * @param <E>   E
+     * @return see {@link #allOk(Collection, Duration, Object, int)}
+     */
+    @NotNull
+    public static <T, E> Result<List<T>, E> allOk(@NotNull Collection<? extends Callable<Result<T, E>>> tasks) {
+        return allOk(tasks, FanOut.NO_TIMEOUT, null, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Runs the tasks concurrently, each on its own virtual thread on Java 21+, or on a pool of at most
+     * {@value FanOutExecutors#MAX_PLATFORM_THREADS} platform threads before, at most `maxConcurrency` of them at a time. As soon as a task returns an Err, or the timeout elapses, the tasks still running are
+     * interrupted and the remaining ones are never started. The call returns once the interrupted tasks have ended,
+     * but no later than the timeout, so only a task that ignores the interruption past the timeout outlives it.
+     * An exception thrown by a task is rethrown, wrapped in a {@link java.util.concurrent.CompletionException} if checked.
+     *
+     * @param tasks          tasks
+     * @param timeout        how long to wait for all tasks
+     * @param timeoutErr     the Err content returned when the timeout elapses
+     * @param maxConcurrency the maximum number of tasks running at the same time
+     * @param <T>            T
+     * @param <E>            E
+     * @return the Ok values in task order, or the first Err returned by a task.
+     */
+    @NotNull
+    public static <T, E> Result<List<T>, E> allOk(@NotNull Collection<? extends Callable<Result<T, E>>> tasks,
+                                                  @NotNull Duration timeout, @NotNull E timeoutErr, int maxConcurrency) {
+        return allOk(tasks, timeout.toNanos(), timeoutErr, maxConcurrency);
+    }
+
+    private static <T, E> Result<List<T>, E> allOk(Collection<? extends Callable<Result<T, E>>> tasks,
+                                                   long timeoutNanos, E timeoutErr, int maxConcurrency) {
+        FanOut<T, E> fanOut = new FanOut<>(new ArrayList<>(tasks));
+        int decided = fanOut.run(false, timeoutNanos, maxConcurrency);
+        if (decided == FanOut.TIMED_OUT) {
+            return Err.of(timeoutErr);
+        }
+        if (decided != FanOut.NOT_DECIDED) {
+            return err(fanOut.result(decided));
+        }
+        return Ok.of(fanOut.oks());
+    }
+
+    /**
+     * Runs all tasks concurrently, each on its own virtual thread on Java 21+, or on a pool of at most
+     * {@value FanOutExecutors#MAX_PLATFORM_THREADS} platform threads before.
+     *
+     * @param tasks tasks
+     * @param <T>   T
+     * @param <E>   E
+     * @return see {@link #firstOk(Collection, Duration, Object, int)}
+     */
+    @NotNull
+    public static <T, E> Result<T, List<E>> firstOk(@NotNull Collection<? extends Callable<Result<T, E>>> tasks) {
+        return firstOk(tasks, FanOut.NO_TIMEOUT, null, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Runs the tasks concurrently, each on its own virtual thread on Java 21+, or on a pool of at most
+     * {@value FanOutExecutors#MAX_PLATFORM_THREADS} platform threads before, at most `maxConcurrency` of them at a time. As soon as a task returns an Ok, or the timeout elapses, the tasks still running are
+     * interrupted and the remaining ones are never started. The call returns once the interrupted tasks have ended,
+     * but no later than the timeout, so only a task that ignores the interruption past the timeout outlives it.
+     * An exception thrown by a task is rethrown, wrapped in a {@link java.util.concurrent.CompletionException} if checked.
+     *
+     * @param tasks          tasks
+     * @param timeout        how long to wait for an Ok
+     * @param timeoutErr     the Err content reported for the tasks that didn't complete before the timeout
+     * @param maxConcurrency the maximum number of tasks running at the same time
+     * @param <T>            T
+     * @param <E>            E
+     * @return the first Ok returned by a task, otherwise the Err values in task order.
+     */
+    @NotNull
+    public static <T, E> Result<T, List<E>> firstOk(@NotNull Collection<? extends Callable<Result<T, E>>> tasks,
+                                                    @NotNull Duration timeout, @NotNull E timeoutErr, int maxConcurrency) {
+        return firstOk(tasks, timeout.toNanos(), timeoutErr, maxConcurrency);
+    }
+
+    private static <T, E> Result<T, List<E>> firstOk(Collection<? extends Callable<Result<T, E>>> tasks,
+                                                     long timeoutNanos, E timeoutErr, int maxConcurrency) {
+        FanOut<T, E> fanOut = new FanOut<>(new ArrayList<>(tasks));
+        int decided = fanOut.run(true, timeoutNanos, maxConcurrency);
+        if (decided >= 0) {
+            // the Ok the task returned, even an empty one, as an Ok holds no Err value
+            @SuppressWarnings("unchecked")
+            Result<T, List<E>> ok = (Result<T, List<E>>) (Result<T, ?>) fanOut.result(decided);
+            return ok;
+        }
+        return Err.of(fanOut.errs(timeoutErr));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R, E> Result<R, E> err(Result<?, ? extends E> err) {
+        // an Err holds no Ok value, so it is an Err of any type of Ok
+        return (Result<R, E>) err;
+    }
+
+    private static <R, E> Result<R, E> ok(R value) {
+        return value == null ? Ok.of() : Ok.of(value);
+    }
+
+    /**
+     * A function of 3 arguments, for {@link Results#combine}.
+     *
+     * @param <T1> argument 1
+     * @param <T2> argument 2
+     * @param <T3> argument 3
+     * @param <R>  result
+     */
+    @FunctionalInterface
+    public interface Function3<T1, T2, T3, R> {
+        /**
+         * @param t1 argument 1
+         * @param t2 argument 2
+         * @param t3 argument 3
+         * @return the result
+         */
+        R apply(T1 t1, T2 t2, T3 t3);
+    }
+
+    /**
+     * A function of 4 arguments, for {@link Results#combine}.
+     *
+     * @param <T1> argument 1
+     * @param <T2> argument 2
+     * @param <T3> argument 3
+     * @param <T4> argument 4
+     * @param <R>  result
+     */
+    @FunctionalInterface
+    public interface Function4<T1, T2, T3, T4, R> {
+        /**
+         * @param t1 argument 1
+         * @param t2 argument 2
+         * @param t3 argument 3
+         * @param t4 argument 4
+         * @return the result
+         */
+        R apply(T1 t1, T2 t2, T3 t3, T4 t4);
+    }
+
+    /**
+     * A function of 5 arguments, for {@link Results#combine}.
+     *
+     * @param <T1> argument 1
+     * @param <T2> argument 2
+     * @param <T3> argument 3
+     * @param <T4> argument 4
+     * @param <T5> argument 5
+     * @param <R>  result
+     */
+    @FunctionalInterface
+    public interface Function5<T1, T2, T3, T4, T5, R> {
+        /**
+         * @param t1 argument 1
+         * @param t2 argument 2
+         * @param t3 argument 3
+         * @param t4 argument 4
+         * @param t5 argument 5
+         * @return the result
+         */
+        R apply(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5);
+    }
+
+    /**
+     * A function of 6 arguments, for {@link Results#combine}.
+     *
+     * @param <T1> argument 1
+     * @param <T2> argument 2
+     * @param <T3> argument 3
+     * @param <T4> argument 4
+     * @param <T5> argument 5
+     * @param <T6> argument 6
+     * @param <R>  result
+     */
+    @FunctionalInterface
+    public interface Function6<T1, T2, T3, T4, T5, T6, R> {
+        /**
+         * @param t1 argument 1
+         * @param t2 argument 2
+         * @param t3 argument 3
+         * @param t4 argument 4
+         * @param t5 argument 5
+         * @param t6 argument 6
+         * @return the result
+         */
+        R apply(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6);
+    }
+
+    /**
+     * A function of 7 arguments, for {@link Results#combine}.
+     *
+     * @param <T1> argument 1
+     * @param <T2> argument 2
+     * @param <T3> argument 3
+     * @param <T4> argument 4
+     * @param <T5> argument 5
+     * @param <T6> argument 6
+     * @param <T7> argument 7
+     * @param <R>  result
+     */
+    @FunctionalInterface
+    public interface Function7<T1, T2, T3, T4, T5, T6, T7, R> {
+        /**
+         * @param t1 argument 1
+         * @param t2 argument 2
+         * @param t3 argument 3
+         * @param t4 argument 4
+         * @param t5 argument 5
+         * @param t6 argument 6
+         * @param t7 argument 7
+         * @return the result
+         */
+        R apply(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7);
+    }
+
+    /**
+     * A function of 8 arguments, for {@link Results#combine}.
+     *
+     * @param <T1> argument 1
+     * @param <T2> argument 2
+     * @param <T3> argument 3
+     * @param <T4> argument 4
+     * @param <T5> argument 5
+     * @param <T6> argument 6
+     * @param <T7> argument 7
+     * @param <T8> argument 8
+     * @param <R>  result
+     */
+    @FunctionalInterface
+    public interface Function8<T1, T2, T3, T4, T5, T6, T7, T8, R> {
+        /**
+         * @param t1 argument 1
+         * @param t2 argument 2
+         * @param t3 argument 3
+         * @param t4 argument 4
+         * @param t5 argument 5
+         * @param t6 argument 6
+         * @param t7 argument 7
+         * @param t8 argument 8
+         * @return the result
+         */
+        R apply(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8);
+    }
+
+    /**
+     * The Ok values and the Err values of a number of Results.
+     *
+     * @param <T> T
+     * @param <E> E
+     */
+    public static final class Partition<T, E> {
+        private final List<E> errs = new ArrayList<>();
+        private final List<T> oks = new ArrayList<>();
+
+        private Partition() {
+        }
+
+        /**
+         * @return the Err values in encounter order.
+         */
+        @NotNull
+        public List<E> errs() {
+            return errs;
+        }
+
+        /**
+         * @return the Ok values in encounter order.
+         */
+        @NotNull
+        public List<T> oks() {
+            return oks;
+        }
+
+        private void accept(Result<T, E> result) {
+            if (result.isOk()) {
+                oks.add(result.unwrap());
+            } else {
+                errs.add(result.err());
+            }
+        }
+
+        private Partition<T, E> combine(Partition<T, E> other) {
+            oks.addAll(other.oks);
+            errs.addAll(other.errs);
+            return this;
+        }
+    }
+
+    private static final class ListAccumulator<T, E> {
+        private final ArrayList<T> oks;
+        private E err;
+
+        private ListAccumulator(int capacity) {
+            oks = new ArrayList<>(capacity);
+        }
+
+        private void accept(Result<T, E> result) {
+            if (err != null) {
+                return;
+            }
+
+            if (result.isOk()) {
+                oks.add(result.unwrap());
+            } else {
+                err = result.err();
+            }
+        }
+
+        private ListAccumulator<T, E> combine(ListAccumulator<T, E> other) {
+            if (err == null) {
+                if (other.err != null) {
+                    err = other.err;
+                } else {
+                    oks.addAll(other.oks);
+                }
+            }
+            return this;
+        }
+
+        private Result<List<T>, E> finish() {
+            if (err != null) {
+                return Err.of(err);
+            }
+            return Ok.of(oks);
+        }
+    }
+
+    private static final class AccumulatingAccumulator<T, E> {
+        private final ChunkedList<E> errs = new ChunkedList<>();
+        private ArrayList<T> oks = new ArrayList<>(DEFAULT_CAPACITY);
+
+        private void accept(Result<T, E> result) {
+            if (result.isErr()) {
+                errs.append(result.err());
+                oks = null;
+            } else if (oks != null) {
+                oks.add(result.unwrap());
+            }
+        }
+
+        private AccumulatingAccumulator<T, E> combine(AccumulatingAccumulator<T, E> other) {
+            errs.appendAll(other.errs);
+            if (oks != null && other.oks != null) {
+                oks.addAll(other.oks);
+            } else {
+                oks = null;
+            }
+            return this;
+        }
+
+        private Result<List<T>, List<E>> finish() {
+            if (!errs.isEmpty()) {
+                return Err.of(errs);
+            }
+            return Ok.of(oks);
+        }
+    }
+
+    private static final class TakeUntilErrSpliterator<T, E> implements Spliterator<Result<T, E>>, Consumer<Result<T, E>> {
+        private final Spliterator<Result<T, E>> upstream;
+        private Consumer<? super Result<T, E>> downstream;
+        private boolean done;
+
+        private TakeUntilErrSpliterator(Spliterator<Result<T, E>> upstream) {
+            this.upstream = upstream;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Result<T, E>> action) {
+            if (done) {
+                return false;
+            }
+
+            downstream = action;
+            if (!upstream.tryAdvance(this)) {
+                done = true;
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public void accept(Result<T, E> result) {
+            if (result.isErr()) {
+                done = true;
+            }
+            downstream.accept(result);
+        }
+
+        @Override
+        public Spliterator<Result<T, E>> trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return done ? 0 : upstream.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return upstream.characteristics() & ~(Spliterator.SIZED | Spliterator.SUBSIZED);
+        }
+    }
+
+    // serializable as a ForkJoinTask, but never serialized: its fields are shared with the other tasks of a run
+    @SuppressWarnings("serial")
+    private static final class TraverseTask<A, B, E> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final int chunkSize;
+        private final AtomicInteger errIndex;
+        private final int from;
+        private final List<A> inputs;
+        private final Function<A, Result<B, E>> op;
+        private final Object[] out;
+        private final int to;
+
+        private TraverseTask(List<A> inputs, Function<A, Result<B, E>> op, Object[] out, AtomicInteger errIndex,
+                             int chunkSize, int from, int to) {
+            this.inputs = inputs;
+            this.op = op;
+            this.out = out;
+            this.errIndex = errIndex;
+            this.chunkSize = chunkSize;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            // an Err before this chunk already decides the outcome
+            if (from > errIndex.get()) {
+                return;
+            }
+
+            if (to - from > chunkSize) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new TraverseTask<>(inputs, op, out, errIndex, chunkSize, from, mid),
+                        new TraverseTask<>(inputs, op, out, errIndex, chunkSize, mid, to));
+                return;
+            }
+
+            for (int i = from; i < to; i++) {
+                if (i > errIndex.get()) {
+                    return;
+                }
+
+                Result<B, E> result = op.apply(inputs.get(i));
+                if (result.isOk()) {
+                    out[i] = result.unwrap();
+                    continue;
+                }
+
+                out[i] = result;
+                int current = errIndex.get();
+                while (i < current && !errIndex.compareAndSet(current, i)) {
+                    current = errIndex.get();
+                }
+                return;
+            }
+        }
+    }
+}
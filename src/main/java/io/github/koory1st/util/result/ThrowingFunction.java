@@ -0,0 +1,23 @@
+/*
+ *  ThrowingFunction.java, 2026-10-17
+ *
+ *  Copyright 2022  Koory1st, Inc. All rights reserved.
+ */
+
+package io.github.koory1st.util.result;
+
+/**
+ * A {@link java.util.function.Function} that may throw a checked exception. See {@link Result#lift}.
+ *
+ * @param <A> argument
+ * @param <B> result
+ */
+@FunctionalInterface
+public interface ThrowingFunction<A, B> {
+    /**
+     * @param a the argument
+     * @return the result
+     * @throws Exception if unable to compute a result
+     */
+    B apply(A a) throws Exception;
+}
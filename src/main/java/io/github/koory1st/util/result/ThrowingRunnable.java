@@ -0,0 +1,18 @@
+/*
+ *  ThrowingRunnable.java, 2026-10-17
+ *
+ *  Copyright 2022  Koory1st, Inc. All rights reserved.
+ */
+
+package io.github.koory1st.util.result;
+
+/**
+ * A {@link Runnable} that may throw a checked exception. See {@link Result#catchingRunnable}.
+ */
+@FunctionalInterface
+public interface ThrowingRunnable {
+    /**
+     * @throws Exception if unable to run
+     */
+    void run() throws Exception;
+}
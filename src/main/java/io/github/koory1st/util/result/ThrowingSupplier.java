@@ -0,0 +1,21 @@
+/*
+ *  ThrowingSupplier.java, 2026-10-17
+ *
+ *  Copyright 2022  Koory1st, Inc. All rights reserved.
+ */
+
+package io.github.koory1st.util.result;
+
+/**
+ * A {@link java.util.function.Supplier} that may throw a checked exception. See {@link Result#catching}.
+ *
+ * @param <T> result
+ */
+@FunctionalInterface
+public interface ThrowingSupplier<T> {
+    /**
+     * @return a result
+     * @throws Exception if unable to compute a result
+     */
+    T get() throws Exception;
+}
@@ -0,0 +1,120 @@
+/*
+ *  Validated.java, 2026-10-17
+ *
+ *  Copyright 2022  Koory1st, Inc. All rights reserved.
+ */
+
+package io.github.koory1st.util.result;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Validated runs every check on a value and collects all the Errs, where {@link Result#andThen(Function)} would
+ * stop at the first one.
+ * <p>
+ * The Errs are appended to a chunked buffer that never copies them, so a single Validated can collect the errors
+ * of a whole import. A Validated is meant to be filled by one thread and then read.
+ *
+ * <pre>{@code
+ * Result<Form, List<String>> result = Validated.<Form, String>of(form)
+ *         .check(f -> validateName(f.name))
+ *         .check(f -> validateAge(f.age))
+ *         .toResult();
+ * }</pre>
+ *
+ * @param <T> the validated value
+ * @param <E> failure (Err)
+ */
+public final class Validated<T, E> {
+    private final ChunkedList<E> errs = new ChunkedList<>();
+    private final T value;
+
+    private Validated(T value) {
+        this.value = value;
+    }
+
+    /**
+     * @param value value
+     * @param <T>   T
+     * @param <E>   E
+     * @return a Validated of `value` without Errs
+     */
+    @NotNull
+    public static <T, E> Validated<T, E> of(T value) {
+        return new Validated<>(value);
+    }
+
+    /**
+     * Runs `validator` on the value and keeps its Err, if any.
+     *
+     * @param validator validator
+     * @return this Validated
+     */
+    @NotNull
+    public Validated<T, E> check(@NotNull Function<? super T, ? extends Result<?, ? extends E>> validator) {
+        return check(validator.apply(value));
+    }
+
+    /**
+     * Keeps the Err of a check run separately, if any.
+     *
+     * @param result result
+     * @return this Validated
+     */
+    @NotNull
+    public Validated<T, E> check(@NotNull Result<?, ? extends E> result) {
+        if (result.isErr()) {
+            errs.append(result.err());
+        }
+        return this;
+    }
+
+    /**
+     * Keeps every Err of a nested validation, e.g. one row of an import.
+     *
+     * @param other other
+     * @return this Validated
+     */
+    @NotNull
+    public Validated<T, E> checkAll(@NotNull Validated<?, ? extends E> other) {
+        errs.appendAll(other.errs);
+        return this;
+    }
+
+    /**
+     * @return true if no check failed.
+     */
+    public boolean isValid() {
+        return errs.isEmpty();
+    }
+
+    /**
+     * @return the Errs in check order, as an unmodifiable list.
+     */
+    @NotNull
+    public List<E> errs() {
+        return errs;
+    }
+
+    /**
+     * @return Ok of the value if no check failed, otherwise Err of all the Errs in check order. Later checks don't
+     * change the Err returned.
+     */
+    @NotNull
+    public Result<T, List<E>> toResult() {
+        if (errs.isEmpty()) {
+            return Ok.of(value);
+        }
+        return Err.of(errs.snapshot());
+    }
+
+    @Override
+    @NotNull
+    public String toString() {
+        return errs.isEmpty() ? String.format(Result.TO_STRING_FMT, "Valid", value)
+                : String.format(Result.TO_STRING_FMT, "Invalid", errs);
+    }
+}
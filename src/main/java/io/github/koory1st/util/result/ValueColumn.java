@@ -0,0 +1,359 @@
+/*
+ *  ValueColumn.java, 2026-10-17
+ *
+ *  Copyright 2022  Koory1st, Inc. All rights reserved.
+ */
+
+package io.github.koory1st.util.result;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * The Ok values of a {@link ResultBuffer}, one slot per Result. The slots of the Errs are left unused.
+ *
+ * @param <T> value
+ */
+abstract class ValueColumn<T> implements Closeable {
+    /**
+     * @param initialCapacity initialCapacity
+     * @param <T>             T
+     * @return a column of references, on the heap
+     */
+    static <T> ValueColumn<T> objects(int initialCapacity) {
+        return new ObjectColumn<>(initialCapacity);
+    }
+
+    /**
+     * @param spillThreshold the number of slots after which the values move to a memory-mapped file
+     * @param spillDirectory the directory of that file, the default temporary directory if null
+     * @return a column of ints, 4 bytes per slot
+     */
+    static PrimitiveColumn<Integer> ints(int spillThreshold, Path spillDirectory) {
+        return new PrimitiveColumn<Integer>(Integer.BYTES, spillThreshold, spillDirectory) {
+            @Override
+            Integer get(int index) {
+                return (int) getBits(index);
+            }
+
+            @Override
+            void set(int index, Integer value) {
+                setBits(index, value);
+            }
+
+            @Override
+            long getBits(int index) {
+                return chunk(index).getInt(offset(index));
+            }
+
+            @Override
+            void setBits(int index, long bits) {
+                ensureChunk(index);
+                chunk(index).putInt(offset(index), (int) bits);
+            }
+        };
+    }
+
+    /**
+     * @param spillThreshold the number of slots after which the values move to a memory-mapped file
+     * @param spillDirectory the directory of that file, the default temporary directory if null
+     * @return a column of longs, 8 bytes per slot
+     */
+    static PrimitiveColumn<Long> longs(int spillThreshold, Path spillDirectory) {
+        return new LongColumn<Long>(spillThreshold, spillDirectory) {
+            @Override
+            Long get(int index) {
+                return getBits(index);
+            }
+
+            @Override
+            void set(int index, Long value) {
+                setBits(index, value);
+            }
+        };
+    }
+
+    /**
+     * @param spillThreshold the number of slots after which the values move to a memory-mapped file
+     * @param spillDirectory the directory of that file, the default temporary directory if null
+     * @return a column of doubles, stored as their raw bits, 8 bytes per slot
+     */
+    static PrimitiveColumn<Double> doubles(int spillThreshold, Path spillDirectory) {
+        return new LongColumn<Double>(spillThreshold, spillDirectory) {
+            @Override
+            Double get(int index) {
+                return Double.longBitsToDouble(getBits(index));
+            }
+
+            @Override
+            void set(int index, Double value) {
+                setBits(index, Double.doubleToRawLongBits(value));
+            }
+        };
+    }
+
+    /**
+     * @param index index
+     * @return the value in the slot, boxed
+     */
+    abstract T get(int index);
+
+    /**
+     * Stores a value, growing the column if `index` is past its end.
+     *
+     * @param index index
+     * @param value value, null only in a column of references
+     */
+    abstract void set(int index, T value);
+
+    /**
+     * Empties a slot, growing the column if `index` is past its end.
+     *
+     * @param index index
+     */
+    abstract void clear(int index);
+
+    /**
+     * @param from the slot moved
+     * @param to   the slot overwritten
+     */
+    abstract void move(int from, int to);
+
+    /**
+     * Releases the slots from `size` on.
+     *
+     * @param size size
+     */
+    abstract void truncate(int size);
+
+    /**
+     * @return true if the values are in a memory-mapped file.
+     */
+    boolean isSpilled() {
+        return false;
+    }
+
+    @Override
+    public void close() throws IOException {
+    }
+
+    private static final class ObjectColumn<T> extends ValueColumn<T> {
+        private static final Object[] EMPTY = new Object[0];
+        private Object[] values;
+
+        private ObjectColumn(int initialCapacity) {
+            this.values = initialCapacity == 0 ? EMPTY : new Object[initialCapacity];
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        T get(int index) {
+            return (T) values[index];
+        }
+
+        @Override
+        void set(int index, T value) {
+            ensureCapacity(index);
+            values[index] = value;
+        }
+
+        @Override
+        void clear(int index) {
+            ensureCapacity(index);
+            values[index] = null;
+        }
+
+        @Override
+        void move(int from, int to) {
+            values[to] = values[from];
+        }
+
+        @Override
+        void truncate(int size) {
+            values = size == 0 ? EMPTY : Arrays.copyOf(values, size);
+        }
+
+        private void ensureCapacity(int index) {
+            if (index >= values.length) {
+                values = Arrays.copyOf(values, Math.max(index + 1, values.length + (values.length >> 1) + 16));
+            }
+        }
+    }
+
+    /**
+     * Fixed-width values in chunks of 65536 slots, on the heap until the column passes its spill
+     * threshold, then in a file mapped chunk by chunk. Growing never copies the chunks already filled.
+     *
+     * @param <T> the boxed value
+     */
+    abstract static class PrimitiveColumn<T> extends ValueColumn<T> {
+        private static final int CHUNK_SHIFT = 16;
+        private static final int CHUNK_SLOTS = 1 << CHUNK_SHIFT;
+        private static final int CHUNK_MASK = CHUNK_SLOTS - 1;
+        private final int chunkBytes;
+        private ByteBuffer[] chunks = new ByteBuffer[4];
+        private int chunkCount;
+        private FileChannel file;
+        private final Path spillDirectory;
+        private final long spillThreshold;
+        private final int width;
+
+        private PrimitiveColumn(int width, int spillThreshold, Path spillDirectory) {
+            this.width = width;
+            this.chunkBytes = CHUNK_SLOTS * width;
+            this.spillThreshold = spillThreshold;
+            this.spillDirectory = spillDirectory;
+        }
+
+        /**
+         * @param index index
+         * @return the value in the slot, widened to a long
+         */
+        abstract long getBits(int index);
+
+        /**
+         * Stores a value, growing the column if `index` is past its end.
+         *
+         * @param index index
+         * @param bits  the value, widened to a long
+         */
+        abstract void setBits(int index, long bits);
+
+        @Override
+        void clear(int index) {
+            ensureChunk(index);
+        }
+
+        @Override
+        void move(int from, int to) {
+            setBits(to, getBits(from));
+        }
+
+        @Override
+        void truncate(int size) {
+            int needed = (size + CHUNK_MASK) >>> CHUNK_SHIFT;
+            Arrays.fill(chunks, needed, chunkCount, null);
+            chunkCount = Math.min(chunkCount, needed);
+        }
+
+        @Override
+        boolean isSpilled() {
+            return file != null;
+        }
+
+        @Override
+        public void close() throws IOException {
+            Arrays.fill(chunks, null);
+            chunkCount = 0;
+            if (file != null) {
+                // the file was opened with DELETE_ON_CLOSE
+                file.close();
+                file = null;
+            }
+        }
+
+        final ByteBuffer chunk(int index) {
+            return chunks[index >>> CHUNK_SHIFT];
+        }
+
+        final int offset(int index) {
+            return (index & CHUNK_MASK) * width;
+        }
+
+        /**
+         * Allocates the chunks up to the one of `index`.
+         *
+         * @param index index
+         */
+        final void ensureChunk(int index) {
+            int chunk = index >>> CHUNK_SHIFT;
+            while (chunkCount <= chunk) {
+                if (chunkCount == chunks.length) {
+                    chunks = Arrays.copyOf(chunks, chunkCount * 2);
+                }
+                try {
+                    if (file == null && (long) chunkCount * CHUNK_SLOTS >= spillThreshold) {
+                        spill();
+                    }
+                    chunks[chunkCount] = file == null ? ByteBuffer.allocate(chunkBytes).order(ByteOrder.nativeOrder())
+                            : map(file, chunkCount);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                chunkCount++;
+            }
+        }
+
+        private ByteBuffer map(FileChannel channel, int chunk) throws IOException {
+            return channel.map(FileChannel.MapMode.READ_WRITE, (long) chunk * chunkBytes, chunkBytes)
+                    .order(ByteOrder.nativeOrder());
+        }
+
+        /**
+         * Moves the chunks filled so far to a new file, so every chunk from now on is mapped. The chunks and the
+         * file are only replaced once every chunk is copied, so a failure leaves the column on the heap, and the next
+         * chunk tries again.
+         */
+        private void spill() throws IOException {
+            Path path = spillDirectory == null ? Files.createTempFile("result-buffer", ".bin")
+                    : Files.createTempFile(spillDirectory, "result-buffer", ".bin");
+            FileChannel channel;
+            try {
+                channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                        StandardOpenOption.DELETE_ON_CLOSE);
+            } catch (IOException | RuntimeException e) {
+                Files.deleteIfExists(path);
+                throw e;
+            }
+
+            ByteBuffer[] mapped = new ByteBuffer[chunks.length];
+            try {
+                for (int i = 0; i < chunkCount; i++) {
+                    mapped[i] = map(channel, i);
+                    ByteBuffer heap = chunks[i].duplicate();
+                    heap.clear();
+                    mapped[i].put(heap);
+                }
+            } catch (IOException | RuntimeException e) {
+                try {
+                    channel.close();
+                } catch (IOException suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+                throw e;
+            }
+            chunks = mapped;
+            file = channel;
+        }
+    }
+
+    /**
+     * A column of 8-byte values, the longs and the raw bits of the doubles.
+     *
+     * @param <T> the boxed value
+     */
+    private abstract static class LongColumn<T> extends PrimitiveColumn<T> {
+        private LongColumn(int spillThreshold, Path spillDirectory) {
+            super(Long.BYTES, spillThreshold, spillDirectory);
+        }
+
+        @Override
+        final long getBits(int index) {
+            return chunk(index).getLong(offset(index));
+        }
+
+        @Override
+        final void setBits(int index, long bits) {
+            ensureChunk(index);
+            chunk(index).putLong(offset(index), bits);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ *  FanOutExecutors.java, 2026-10-17
+ *
+ *  Copyright 2022  Koory1st, Inc. All rights reserved.
+ */
+
+package io.github.koory1st.util.result;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Creates the executor used by {@link Results#allOk} and {@link Results#firstOk}.
+ * This Java 21 version runs each task on its own virtual thread.
+ */
+final class FanOutExecutors {
+    private static final String THREAD_NAME = "result-fan-out-";
+
+    private FanOutExecutors() {
+    }
+
+    /**
+     * @param parallelism unused, virtual threads are cheap enough for one per task
+     * @return the executor, to shut down once the fan-out is decided
+     */
+    static ExecutorService newExecutor(int parallelism) {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(THREAD_NAME, 0).factory());
+    }
+}
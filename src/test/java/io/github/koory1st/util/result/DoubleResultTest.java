@@ -0,0 +1,105 @@
+package io.github.koory1st.util.result;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.DoubleFunction;
+
+class DoubleResultTest {
+
+    @Test
+    void andThen() {
+        DoubleFunction<DoubleResult<Double>> sq = x -> DoubleOk.of(x * x);
+        DoubleFunction<DoubleResult<Double>> err = DoubleErr::of;
+
+        Assertions.assertEquals(DoubleOk.of(16), DoubleOk.<Double>of(2).andThen(sq).andThen(sq));
+        Assertions.assertEquals(DoubleErr.of(4.0), DoubleOk.<Double>of(2).andThen(sq).andThen(err));
+        Assertions.assertEquals(DoubleErr.of(2.0), DoubleOk.<Double>of(2).andThen(err).andThen(sq));
+        Assertions.assertEquals(DoubleErr.of(3.0), DoubleErr.<Double>of(3.0).andThen(sq).andThen(err));
+    }
+
+    @Test
+    void map() {
+        DoubleResult<String> x = DoubleOk.of(2.5);
+        Assertions.assertEquals(DoubleOk.of(5), x.map(value -> value * 2));
+        Assertions.assertEquals(IntOk.of(2), x.mapToInt(value -> (int) value));
+        Assertions.assertEquals(LongOk.of(3), x.mapToLong(Math::round));
+        Assertions.assertEquals(Ok.of("2.5"), x.mapToObj(String::valueOf));
+
+        DoubleResult<String> y = DoubleErr.of("an error");
+        Assertions.assertSame(y, y.map(value -> value * 2));
+        Assertions.assertEquals(IntErr.of("an error"), y.mapToInt(value -> (int) value));
+        Assertions.assertEquals(LongErr.of("an error"), y.mapToLong(Math::round));
+        Assertions.assertEquals(Err.of("an error"), y.mapToObj(String::valueOf));
+    }
+
+    @Test
+    void mapErrAndOrElse() {
+        DoubleResult<Integer> x = DoubleOk.of(2);
+        Assertions.assertEquals(DoubleOk.of(2), x.mapErr(e -> "error code: " + e));
+        Assertions.assertEquals(DoubleOk.of(2), x.orElse(e -> DoubleOk.of(e * e)));
+
+        DoubleResult<Integer> y = DoubleErr.of(13);
+        Assertions.assertEquals(DoubleErr.of("error code: 13"), y.mapErr(e -> "error code: " + e));
+        Assertions.assertEquals(DoubleOk.of(169), y.orElse(e -> DoubleOk.of(e * e)));
+    }
+
+    @Test
+    void unwrap() {
+        Assertions.assertEquals(0.5, DoubleOk.of(0.5).unwrap());
+        Assertions.assertEquals(2, DoubleOk.of(2).expect("normal"));
+        Assertions.assertEquals(9, DoubleOk.<String>of(9).unwrapOr(2));
+        Assertions.assertEquals(2, DoubleErr.of("error").unwrapOr(2));
+        Assertions.assertEquals(3, DoubleErr.of("foo").unwrapOrElse(String::length));
+        Assertions.assertEquals("foo", DoubleErr.of("foo").unwrapErr());
+
+        try {
+            DoubleErr.of("emergency failure").unwrap();
+            Assertions.fail();
+        } catch (ResultPanicException e) {
+            Assertions.assertEquals("called `Result.unwrap()` on an `Err` value: emergency failure", e.getMessage());
+        }
+
+        try {
+            DoubleOk.of(1.5).unwrapErr();
+            Assertions.fail();
+        } catch (ResultPanicException e) {
+            Assertions.assertEquals("called `Result.unwrapErr()` on an `Ok` value: 1.5", e.getMessage());
+            Assertions.assertEquals(1.5, e.getPayload());
+        }
+
+        try {
+            //noinspection ConstantConditions
+            DoubleErr.of(null);
+            Assertions.fail();
+        } catch (ResultPanicException e) {
+            Assertions.assertEquals("Can't set a null to an Err's Content.", e.getMessage());
+        }
+    }
+
+    @Test
+    void conversion() {
+        Assertions.assertEquals(Ok.of(2.0), DoubleOk.of(2).toResult());
+        Assertions.assertEquals(Err.of("error"), DoubleErr.of("error").toResult());
+
+        Assertions.assertEquals(DoubleOk.of(2), DoubleResult.from(Ok.of(2.0)));
+        Assertions.assertEquals(DoubleErr.of("error"), DoubleResult.<String>from(Err.of("error")));
+
+        try {
+            DoubleResult.from(Ok.of());
+            Assertions.fail();
+        } catch (ResultPanicException e) {
+            Assertions.assertEquals("Can't convert a Empty Ok to a primitive Ok.", e.getMessage());
+        }
+    }
+
+    @Test
+    void testEqualsAndToString() {
+        Assertions.assertEquals(DoubleOk.of(Double.NaN), DoubleOk.of(Double.NaN));
+        Assertions.assertEquals(DoubleOk.of(Double.NaN).hashCode(), DoubleOk.of(Double.NaN).hashCode());
+        Assertions.assertNotEquals(DoubleOk.of(0.0), DoubleOk.of(-0.0));
+        Assertions.assertNotEquals(DoubleOk.of(0), DoubleErr.of(0.0));
+        Assertions.assertEquals("Ok(1.5)", DoubleOk.of(1.5).toString());
+        Assertions.assertEquals("Err(1)", DoubleErr.of(1).toString());
+    }
+}
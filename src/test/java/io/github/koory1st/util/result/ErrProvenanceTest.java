@@ -0,0 +1,86 @@
+package io.github.koory1st.util.result;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class ErrProvenanceTest {
+
+    private static Result<Integer, String> lookup() {
+        return Err.of("not found");
+    }
+
+    @AfterEach
+    void tearDown() {
+        ErrProvenance.setSamplingRatio(0);
+        ErrProvenance.setMaxDepth(8);
+    }
+
+    @Test
+    void offByDefault() {
+        Assertions.assertEquals(0, ErrProvenance.getSamplingRatio());
+        Assertions.assertEquals(List.of(), ErrProvenance.of(lookup()));
+    }
+
+    @Test
+    void invalidProperties() {
+        Assertions.assertEquals(0, ErrProvenance.parseSamplingRatio(null));
+        Assertions.assertEquals(0.25, ErrProvenance.parseSamplingRatio("0.25"));
+        Assertions.assertEquals(0, ErrProvenance.parseSamplingRatio("often"));
+        Assertions.assertEquals(0, ErrProvenance.parseSamplingRatio("2"));
+        Assertions.assertEquals(0, ErrProvenance.parseSamplingRatio("NaN"));
+
+        Assertions.assertEquals(8, ErrProvenance.parseMaxDepth(null));
+        Assertions.assertEquals(3, ErrProvenance.parseMaxDepth("3"));
+        Assertions.assertEquals(8, ErrProvenance.parseMaxDepth("deep"));
+        Assertions.assertEquals(8, ErrProvenance.parseMaxDepth("0"));
+    }
+
+    @Test
+    void recordsCreationSite() {
+        ErrProvenance.setSamplingRatio(1);
+        ErrProvenance.setMaxDepth(2);
+        Result<Integer, String> err = lookup();
+
+        List<StackTraceElement> site = ErrProvenance.of(err);
+        Assertions.assertEquals(2, site.size());
+        Assertions.assertEquals("lookup", site.get(0).getMethodName());
+        Assertions.assertEquals("recordsCreationSite", site.get(1).getMethodName());
+
+        Assertions.assertEquals("mapErr", ErrProvenance.of(err.mapErr(e -> e)).get(0).getMethodName());
+        Assertions.assertEquals(List.of(), ErrProvenance.of(Ok.of(1)));
+
+        // the table is keyed by identity, not by the value-based equals
+        ErrProvenance.setSamplingRatio(0);
+        Result<Integer, String> equal = lookup();
+        Assertions.assertEquals(err, equal);
+        Assertions.assertEquals(List.of(), ErrProvenance.of(equal));
+    }
+
+    @Test
+    void sampling() {
+        ErrProvenance.setSamplingRatio(0.25);
+        int sampled = 0;
+        for (int i = 0; i < 4000; i++) {
+            if (!ErrProvenance.of(lookup()).isEmpty()) {
+                sampled++;
+            }
+        }
+        Assertions.assertTrue(sampled > 700 && sampled < 1300, String.valueOf(sampled));
+
+        try {
+            ErrProvenance.setSamplingRatio(2);
+            Assertions.fail();
+        } catch (IllegalArgumentException e) {
+            Assertions.assertEquals("The sampling ratio must be between 0 and 1.", e.getMessage());
+        }
+        try {
+            ErrProvenance.setMaxDepth(0);
+            Assertions.fail();
+        } catch (IllegalArgumentException e) {
+            Assertions.assertEquals("The max depth must be positive.", e.getMessage());
+        }
+    }
+}
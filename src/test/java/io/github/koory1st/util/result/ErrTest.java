@@ -17,4 +17,37 @@ class ErrTest {
             Assertions.assertEquals("Can't set a null to an Err's Content.", e.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    private enum Code {
+        NOT_FOUND,
+        INVALID {
+            @Override
+            public String toString() {
+                return "invalid";
+            }
+        }
+    }
+
+    @Test
+    void ofCached() {
+        Err<Integer, Code> notFound = Err.ofCached(Code.NOT_FOUND);
+        Assertions.assertSame(notFound, Err.ofCached(Code.NOT_FOUND));
+        Assertions.assertSame(Err.ofCached(Code.INVALID), Err.ofCached(Code.INVALID));
+        Assertions.assertEquals(Err.of(Code.NOT_FOUND), notFound);
+        Assertions.assertEquals(Code.INVALID, Err.ofCached(Code.INVALID).unwrapErr());
+
+        try {
+            //noinspection ConstantConditions
+            Err.ofCached((Code) null);
+            Assertions.fail();
+        } catch (ResultPanicException e) {
+            Assertions.assertEquals("Can't set a null to an Err's Content.", e.getMessage());
+        }
+    }
+
+    @Test
+    void serializable() throws Exception {
+        Assertions.assertEquals(Err.of("error"), OkTest.serializeAndBack(Err.of("error")));
+        Assertions.assertEquals(Err.of(Code.INVALID), OkTest.serializeAndBack(Err.of(Code.INVALID)));
+    }
+}
@@ -0,0 +1,126 @@
+package io.github.koory1st.util.result;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.IntFunction;
+
+class IntResultTest {
+
+    @Test
+    void andThen() {
+        IntFunction<IntResult<Integer>> sq = x -> IntOk.of(x * x);
+        IntFunction<IntResult<Integer>> err = IntErr::of;
+
+        Assertions.assertEquals(IntOk.of(16), IntOk.<Integer>of(2).andThen(sq).andThen(sq));
+        Assertions.assertEquals(IntErr.of(4), IntOk.<Integer>of(2).andThen(sq).andThen(err));
+        Assertions.assertEquals(IntErr.of(2), IntOk.<Integer>of(2).andThen(err).andThen(sq));
+        Assertions.assertEquals(IntErr.of(3), IntErr.<Integer>of(3).andThen(sq).andThen(err));
+    }
+
+    @Test
+    void map() {
+        IntResult<String> x = IntOk.of(2);
+        Assertions.assertEquals(IntOk.of(4), x.map(value -> value * 2));
+        Assertions.assertEquals(LongOk.of(4L), x.mapToLong(value -> value * 2L));
+        Assertions.assertEquals(DoubleOk.of(1.0), x.mapToDouble(value -> value / 2.0));
+        Assertions.assertEquals(Ok.of("2"), x.mapToObj(String::valueOf));
+
+        IntResult<String> y = IntErr.of("an error");
+        Assertions.assertSame(y, y.map(value -> value * 2));
+        Assertions.assertEquals(LongErr.of("an error"), y.mapToLong(value -> value * 2L));
+        Assertions.assertEquals(DoubleErr.of("an error"), y.mapToDouble(value -> value / 2.0));
+        Assertions.assertEquals(Err.of("an error"), y.mapToObj(String::valueOf));
+    }
+
+    @Test
+    void mapErr() {
+        IntResult<Integer> x = IntOk.of(2);
+        Assertions.assertEquals(IntOk.of(2), x.mapErr(e -> "error code: " + e));
+
+        IntResult<Integer> y = IntErr.of(13);
+        Assertions.assertEquals(IntErr.of("error code: 13"), y.mapErr(e -> "error code: " + e));
+    }
+
+    @Test
+    void orElse() {
+        IntResult<Integer> x = IntOk.of(2);
+        Assertions.assertEquals(IntOk.of(2), x.orElse(e -> IntOk.of(e * e)));
+
+        IntResult<Integer> y = IntErr.of(3);
+        Assertions.assertEquals(IntOk.of(9), y.orElse(e -> IntOk.of(e * e)));
+    }
+
+    @Test
+    void unwrap() {
+        Assertions.assertEquals(2, IntOk.of(2).unwrap());
+        Assertions.assertEquals(2, IntOk.of(2).expect("normal"));
+        Assertions.assertEquals(9, IntOk.<String>of(9).unwrapOr(2));
+        Assertions.assertEquals(2, IntErr.of("error").unwrapOr(2));
+        Assertions.assertEquals(3, IntErr.of("foo").unwrapOrElse(String::length));
+        Assertions.assertEquals("foo", IntErr.of("foo").unwrapErr());
+
+        try {
+            IntErr.of("emergency failure").unwrap();
+            Assertions.fail();
+        } catch (ResultPanicException e) {
+            Assertions.assertEquals("called `Result.unwrap()` on an `Err` value: emergency failure", e.getMessage());
+        }
+
+        try {
+            IntErr.of("emergency failure").expect("Testing expect");
+            Assertions.fail();
+        } catch (ResultPanicException e) {
+            Assertions.assertEquals("Testing expect: emergency failure", e.getMessage());
+        }
+
+        try {
+            IntOk.of(2).unwrapErr();
+            Assertions.fail();
+        } catch (ResultPanicException e) {
+            Assertions.assertEquals("called `Result.unwrapErr()` on an `Ok` value: 2", e.getMessage());
+        }
+
+        try {
+            //noinspection ConstantConditions
+            IntErr.of(null);
+            Assertions.fail();
+        } catch (ResultPanicException e) {
+            Assertions.assertEquals("Can't set a null to an Err's Content.", e.getMessage());
+        }
+    }
+
+    @Test
+    void conversion() {
+        Assertions.assertEquals(Ok.of(2), IntOk.of(2).toResult());
+        Assertions.assertEquals(Err.of("error"), IntErr.of("error").toResult());
+
+        Assertions.assertEquals(IntOk.of(2), IntResult.from(Ok.of(2)));
+        Assertions.assertEquals(IntErr.of("error"), IntResult.<String>from(Err.of("error")));
+
+        try {
+            IntResult.from(Ok.of());
+            Assertions.fail();
+        } catch (ResultPanicException e) {
+            Assertions.assertEquals("Can't convert a Empty Ok to a primitive Ok.", e.getMessage());
+        }
+    }
+
+    @Test
+    void testEquals() {
+        Assertions.assertEquals(IntOk.of(1), IntOk.of(1));
+        Assertions.assertNotEquals(IntOk.of(1), IntOk.of(2));
+        Assertions.assertNotEquals(IntOk.of(1), IntErr.of(1));
+        Assertions.assertNotEquals(IntOk.of(1), Ok.of(1));
+        Assertions.assertEquals(DoubleOk.of(Double.NaN), DoubleOk.of(Double.NaN));
+        Assertions.assertEquals(LongErr.of("1"), LongErr.of("1"));
+    }
+
+    @Test
+    void testToString() {
+        Assertions.assertEquals("Ok(1)", IntOk.of(1).toString());
+        Assertions.assertEquals("Ok(1.5)", DoubleOk.of(1.5).toString());
+        Assertions.assertEquals("Err(1)", LongErr.of(1).toString());
+        Assertions.assertEquals("Err(\"1\")", IntErr.of("1").toString());
+    }
+}
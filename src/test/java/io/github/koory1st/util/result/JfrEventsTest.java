@@ -0,0 +1,73 @@
+package io.github.koory1st.util.result;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+class JfrEventsTest {
+
+    private enum Code {
+        NOT_FOUND
+    }
+
+    @Test
+    void events(@TempDir Path dir) throws Exception {
+        Assertions.assertTrue(JfrEvents.AVAILABLE);
+        Path file = dir.resolve("result.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("io.github.koory1st.util.result.ErrCreated");
+            recording.enable("io.github.koory1st.util.result.ResultPanic");
+            recording.start();
+
+            Err.of("error");
+            Err.ofCached(Code.NOT_FOUND);
+            try {
+                Err.of(1).unwrap();
+                Assertions.fail();
+            } catch (ResultPanicException ignored) {
+            }
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        List<String> kinds = events.stream()
+                .filter(e -> e.getEventType().getName().equals("io.github.koory1st.util.result.ErrCreated"))
+                .map(e -> e.getString("errKind"))
+                .collect(Collectors.toList());
+        Assertions.assertEquals(List.of("java.lang.String", Code.class.getName() + ".NOT_FOUND", "java.lang.Integer"),
+                kinds);
+
+        List<RecordedEvent> panics = events.stream()
+                .filter(e -> e.getEventType().getName().equals("io.github.koory1st.util.result.ResultPanic"))
+                .collect(Collectors.toList());
+        Assertions.assertEquals(1, panics.size());
+        Assertions.assertEquals("called `Result.unwrap()` on an `Err` value: 1", panics.get(0).getString("message"));
+        Assertions.assertNotNull(panics.get(0).getStackTrace());
+    }
+
+    @Test
+    void disabledInDefaultRecordings(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("default.jfr");
+        for (String name : List.of("default", "profile")) {
+            try (Recording recording = new Recording(Configuration.getConfiguration(name))) {
+                recording.start();
+                Err.of("error");
+                recording.stop();
+                recording.dump(file);
+            }
+
+            Assertions.assertTrue(RecordingFile.readAllEvents(file).stream()
+                    .noneMatch(e -> e.getEventType().getName().startsWith("io.github.koory1st.util.result.")));
+        }
+    }
+}
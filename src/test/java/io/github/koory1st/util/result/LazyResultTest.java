@@ -0,0 +1,90 @@
+package io.github.koory1st.util.result;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class LazyResultTest {
+
+    @Test
+    void get() {
+        var calls = new AtomicInteger();
+        LazyResult<Integer, String> x = LazyResult.of(() -> {
+            calls.incrementAndGet();
+            return Ok.of(2);
+        });
+        Assertions.assertFalse(x.isEvaluated());
+        Assertions.assertEquals("LazyResult(?)", x.toString());
+        Assertions.assertEquals(0, calls.get());
+
+        Assertions.assertEquals(Ok.of(2), x.get());
+        Assertions.assertEquals(Ok.of(2), x.get());
+        Assertions.assertTrue(x.isEvaluated());
+        Assertions.assertEquals("LazyResult(Ok(2))", x.toString());
+        Assertions.assertEquals(1, calls.get());
+
+        try {
+            LazyResult.of(() -> null).get();
+            Assertions.fail();
+        } catch (ResultPanicException e) {
+            Assertions.assertEquals("A LazyResult's supplier can't return null.", e.getMessage());
+        }
+    }
+
+    @Test
+    void chain() {
+        var calls = new AtomicInteger();
+        LazyResult<Integer, Integer> x = LazyResult.of(() -> {
+            calls.incrementAndGet();
+            return Ok.of(2);
+        });
+        var chained = x.map(v -> v * 2).andThen(v -> Err.<Integer, Integer>of(v)).mapErr(e -> "error code: " + e);
+        Assertions.assertEquals(0, calls.get());
+
+        Assertions.assertEquals(Err.of("error code: 4"), chained.get());
+        Assertions.assertEquals(Ok.of(5), chained.orElse(e -> Ok.of(e.length() - 8)).get());
+        Assertions.assertEquals(1, calls.get());
+    }
+
+    @Test
+    void concurrentGet() throws InterruptedException {
+        var calls = new AtomicInteger();
+        LazyResult<Integer, String> x = LazyResult.of(() -> Ok.of(calls.incrementAndGet()));
+        var start = new CountDownLatch(1);
+        var threads = new ArrayList<Thread>();
+        for (int i = 0; i < 8; i++) {
+            var thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                Assertions.assertEquals(Ok.of(1), x.get());
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Assertions.assertEquals(1, calls.get());
+    }
+
+    @Test
+    void retryAfterThrow() {
+        var calls = new AtomicInteger();
+        LazyResult<Integer, String> x = LazyResult.of(() -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException("boom");
+            }
+            return Ok.of(2);
+        });
+        Assertions.assertThrows(IllegalStateException.class, x::get);
+        Assertions.assertFalse(x.isEvaluated());
+        Assertions.assertEquals(Ok.of(2), x.get());
+    }
+}
@@ -0,0 +1,113 @@
+package io.github.koory1st.util.result;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.LongFunction;
+
+class LongResultTest {
+
+    @Test
+    void andThen() {
+        LongFunction<LongResult<Long>> sq = x -> LongOk.of(x * x);
+        LongFunction<LongResult<Long>> err = LongErr::of;
+
+        Assertions.assertEquals(LongOk.of(16), LongOk.<Long>of(2).andThen(sq).andThen(sq));
+        Assertions.assertEquals(LongErr.of(4L), LongOk.<Long>of(2).andThen(sq).andThen(err));
+        Assertions.assertEquals(LongErr.of(2L), LongOk.<Long>of(2).andThen(err).andThen(sq));
+        Assertions.assertEquals(LongErr.of(3L), LongErr.<Long>of(3L).andThen(sq).andThen(err));
+    }
+
+    @Test
+    void map() {
+        LongResult<String> x = LongOk.of(1L << 40);
+        Assertions.assertEquals(LongOk.of(1L << 41), x.map(value -> value * 2));
+        Assertions.assertEquals(IntOk.of(0), x.mapToInt(value -> (int) value));
+        Assertions.assertEquals(DoubleOk.of(0x1p39), x.mapToDouble(value -> value / 2.0));
+        Assertions.assertEquals(Ok.of("1099511627776"), x.mapToObj(String::valueOf));
+
+        LongResult<String> y = LongErr.of("an error");
+        Assertions.assertSame(y, y.map(value -> value * 2));
+        Assertions.assertEquals(IntErr.of("an error"), y.mapToInt(value -> (int) value));
+        Assertions.assertEquals(DoubleErr.of("an error"), y.mapToDouble(value -> value / 2.0));
+        Assertions.assertEquals(Err.of("an error"), y.mapToObj(String::valueOf));
+    }
+
+    @Test
+    void mapErrAndOrElse() {
+        LongResult<Integer> x = LongOk.of(2);
+        Assertions.assertEquals(LongOk.of(2), x.mapErr(e -> "error code: " + e));
+        Assertions.assertEquals(LongOk.of(2), x.orElse(e -> LongOk.of(e * e)));
+
+        LongResult<Integer> y = LongErr.of(13);
+        Assertions.assertEquals(LongErr.of("error code: 13"), y.mapErr(e -> "error code: " + e));
+        Assertions.assertEquals(LongOk.of(169), y.orElse(e -> LongOk.of(e * e)));
+    }
+
+    @Test
+    void unwrap() {
+        Assertions.assertEquals(Long.MAX_VALUE, LongOk.of(Long.MAX_VALUE).unwrap());
+        Assertions.assertEquals(2, LongOk.of(2).expect("normal"));
+        Assertions.assertEquals(9, LongOk.<String>of(9).unwrapOr(2));
+        Assertions.assertEquals(2, LongErr.of("error").unwrapOr(2));
+        Assertions.assertEquals(3, LongErr.of("foo").unwrapOrElse(String::length));
+        Assertions.assertEquals("foo", LongErr.of("foo").unwrapErr());
+
+        try {
+            LongErr.of("emergency failure").unwrap();
+            Assertions.fail();
+        } catch (ResultPanicException e) {
+            Assertions.assertEquals("called `Result.unwrap()` on an `Err` value: emergency failure", e.getMessage());
+        }
+
+        try {
+            LongErr.of("emergency failure").expect("Testing expect");
+            Assertions.fail();
+        } catch (ResultPanicException e) {
+            Assertions.assertEquals("Testing expect: emergency failure", e.getMessage());
+        }
+
+        try {
+            LongOk.of(2).expectErr("Testing expectErr");
+            Assertions.fail();
+        } catch (ResultPanicException e) {
+            Assertions.assertEquals("Testing expectErr: 2", e.getMessage());
+            Assertions.assertEquals(2L, e.getPayload());
+        }
+
+        try {
+            //noinspection ConstantConditions
+            LongErr.of(null);
+            Assertions.fail();
+        } catch (ResultPanicException e) {
+            Assertions.assertEquals("Can't set a null to an Err's Content.", e.getMessage());
+        }
+    }
+
+    @Test
+    void conversion() {
+        Assertions.assertEquals(Ok.of(2L), LongOk.of(2).toResult());
+        Assertions.assertEquals(Err.of("error"), LongErr.of("error").toResult());
+
+        Assertions.assertEquals(LongOk.of(2), LongResult.from(Ok.of(2L)));
+        Assertions.assertEquals(LongErr.of("error"), LongResult.<String>from(Err.of("error")));
+
+        try {
+            LongResult.from(Ok.of());
+            Assertions.fail();
+        } catch (ResultPanicException e) {
+            Assertions.assertEquals("Can't convert a Empty Ok to a primitive Ok.", e.getMessage());
+        }
+    }
+
+    @Test
+    void testEqualsAndToString() {
+        Assertions.assertEquals(LongOk.of(1), LongOk.of(1));
+        Assertions.assertEquals(LongOk.of(1).hashCode(), LongOk.of(1).hashCode());
+        Assertions.assertNotEquals(LongOk.of(1), LongOk.of(2));
+        Assertions.assertNotEquals(LongOk.of(0), LongErr.of(0));
+        Assertions.assertNotEquals(LongOk.of(1), IntOk.of(1));
+        Assertions.assertEquals("Ok(1)", LongOk.of(1).toString());
+        Assertions.assertEquals("Err(\"1\")", LongErr.of("1").toString());
+    }
+}
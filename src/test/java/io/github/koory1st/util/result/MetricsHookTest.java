@@ -0,0 +1,22 @@
+package io.github.koory1st.util.result;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class MetricsHookTest {
+
+    @Test
+    void noMetricsByDefault() {
+        Assertions.assertNull(ResultMetrics.installed());
+        Assertions.assertNull(MetricsHook.load(null));
+        Assertions.assertEquals(Ok.of(1), Ok.of(1));
+        Assertions.assertEquals(Err.of("error"), Err.of("error"));
+    }
+
+    @Test
+    void invalidProvider() {
+        Assertions.assertNull(MetricsHook.load("io.github.koory1st.util.result.NoSuchMetrics"));
+        Assertions.assertNull(MetricsHook.load(String.class.getName()));
+        Assertions.assertTrue(MetricsHook.load(CountingResultMetrics.class.getName()) instanceof CountingResultMetrics);
+    }
+}
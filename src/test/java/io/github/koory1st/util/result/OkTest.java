@@ -0,0 +1,57 @@
+package io.github.koory1st.util.result;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.List;
+
+class OkTest {
+
+    @Test
+    void canonicalInstances() {
+        Assertions.assertSame(Ok.of(), Ok.of());
+        Assertions.assertSame(Ok.of(true), Ok.of(true));
+        Assertions.assertSame(Ok.of(false), Ok.of(false));
+        Assertions.assertNotEquals(Ok.of(true), Ok.of(false));
+        Assertions.assertSame(Ok.of(-128), Ok.of(-128));
+        Assertions.assertSame(Ok.of(127), Ok.of(127));
+        Assertions.assertEquals(Ok.of(42), Ok.of(42));
+        Assertions.assertEquals(42, Ok.of(42).unwrap());
+
+        Assertions.assertNotSame(Ok.of(128), Ok.of(128));
+        Assertions.assertNotSame(Ok.of(-129), Ok.of(-129));
+        Assertions.assertEquals(Ok.of(128), Ok.of(128));
+        Assertions.assertNotSame(Ok.of(1L), Ok.of(1L));
+    }
+
+    @Test
+    void mapReusesCanonicalInstances() {
+        Result<String, String> x = Ok.of("foo");
+        Assertions.assertSame(Ok.of(3), x.map(String::length));
+        Assertions.assertSame(Ok.of(true), x.map(String::isEmpty).map(b -> !b));
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T serializeAndBack(T value) throws Exception {
+        var bytes = new ByteArrayOutputStream();
+        try (var out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        }
+        try (var in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return (T) in.readObject();
+        }
+    }
+
+    @Test
+    void serializable() throws Exception {
+        Assertions.assertEquals(Ok.of("foo"), serializeAndBack(Ok.of("foo")));
+        Assertions.assertSame(Ok.of(), serializeAndBack(Ok.of()));
+        Assertions.assertSame(Ok.of(true), serializeAndBack(Ok.of(true)));
+        Assertions.assertSame(Ok.of(1), serializeAndBack(Ok.of(1)));
+        Assertions.assertEquals(Ok.of(List.of(1, 2)), serializeAndBack(Ok.of(List.of(1, 2))));
+    }
+}
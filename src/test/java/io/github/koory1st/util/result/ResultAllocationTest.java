@@ -0,0 +1,96 @@
+package io.github.koory1st.util.result;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Function;
+
+class ResultAllocationTest {
+    private static final int CALLS = 100_000;
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /**
+     * @return bytes allocated per call of {@code op}, after a warm-up round.
+     */
+    private static long bytesPerCall(Runnable op) {
+        Assumptions.assumeTrue(THREAD_MX_BEAN.isThreadAllocatedMemorySupported());
+        THREAD_MX_BEAN.setThreadAllocatedMemoryEnabled(true);
+        long threadId = Thread.currentThread().getId();
+
+        for (int i = 0; i < CALLS; i++) {
+            op.run();
+        }
+
+        long before = THREAD_MX_BEAN.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < CALLS; i++) {
+            op.run();
+        }
+        long after = THREAD_MX_BEAN.getThreadAllocatedBytes(threadId);
+
+        return (after - before) / CALLS;
+    }
+
+    @Test
+    void errPropagation() {
+        Result<Integer, String> err = Err.of("error");
+        Function<Integer, Integer> map = x -> x + 1;
+        Function<Integer, Result<Integer, String>> op = Ok::of;
+        Result<String, String> other = Ok.of("other");
+
+        Assertions.assertSame(err, err.map(map));
+        Assertions.assertSame(err, err.andThen(op));
+        Assertions.assertSame(err, err.and(other));
+        Assertions.assertSame(err, err.flatten());
+
+        Assertions.assertEquals(0, bytesPerCall(() -> err.map(map)));
+        Assertions.assertEquals(0, bytesPerCall(() -> err.andThen(op)));
+        Assertions.assertEquals(0, bytesPerCall(() -> err.and(other)));
+    }
+
+    @Test
+    void okPropagation() {
+        Result<Integer, String> ok = Ok.of(2);
+        Function<String, Integer> mapErr = String::length;
+        Function<String, Result<Integer, Integer>> op = e -> Err.of(e.length());
+        Result<Integer, Integer> other = Err.of(3);
+
+        Assertions.assertSame(ok, ok.mapErr(mapErr));
+        Assertions.assertSame(ok, ok.orElse(op));
+        Assertions.assertSame(ok, ok.or(other));
+
+        Assertions.assertEquals(0, bytesPerCall(() -> ok.mapErr(mapErr)));
+        Assertions.assertEquals(0, bytesPerCall(() -> ok.orElse(op)));
+        Assertions.assertEquals(0, bytesPerCall(() -> ok.or(other)));
+    }
+
+    @Test
+    void noOptionalOnInternalPaths() {
+        Integer two = 2;
+        Integer three = 3;
+        Result<Integer, String> ok = Ok.of(two);
+        Result<Integer, String> same = Ok.of(two);
+        Function<Integer, Integer> identity = x -> x;
+        Function<String, Integer> length = String::length;
+
+        Assertions.assertEquals(0, bytesPerCall(() -> ok.contains(two)));
+        Assertions.assertEquals(0, bytesPerCall(() -> ok.mapOr(three, identity)));
+        Assertions.assertEquals(0, bytesPerCall(() -> ok.mapOrElse(length, identity)));
+        Assertions.assertEquals(0, bytesPerCall(() -> ok.equals(same)));
+    }
+
+    @Test
+    void combine() {
+        Result<Integer, String> one = Ok.of(1000);
+        Result<Integer, String> two = Ok.of(2000);
+        Result<Integer, String> err = Err.of("error");
+        Results.Function5<Integer, Integer, Integer, Integer, Integer, Boolean> fn = (a, b, c, d, e) -> a < b;
+
+        Assertions.assertEquals(0, bytesPerCall(() -> Results.combine(one, two, one, two, err, fn)));
+        // the Ok of a Boolean is cached, so nothing is left to allocate
+        Assertions.assertEquals(0, bytesPerCall(() -> Results.combine(one, two, one, two, one, fn)));
+    }
+}
@@ -0,0 +1,250 @@
+package io.github.koory1st.util.result;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+class ResultBufferTest {
+
+    @Test
+    void addAndGet() {
+        ResultBuffer<String, String> buffer = ResultBuffer.<String, String>objects().build();
+        buffer.add(Ok.of("a"));
+        buffer.add(Err.of("e1"));
+        buffer.add(Ok.of());
+        buffer.addErr("e2");
+        buffer.addOk("b");
+
+        Assertions.assertEquals(5, buffer.size());
+        Assertions.assertEquals(3, buffer.countOk());
+        Assertions.assertEquals(2, buffer.countErr());
+        Assertions.assertEquals(1, buffer.firstErr());
+        Assertions.assertEquals(List.of(Ok.of("a"), Err.of("e1"), Ok.of(), Err.of("e2"), Ok.of("b")),
+                List.of(buffer.get(0), buffer.get(1), buffer.get(2), buffer.get(3), buffer.get(4)));
+        Assertions.assertEquals("a", buffer.ok(0));
+        Assertions.assertNull(buffer.ok(2));
+        Assertions.assertEquals("e2", buffer.err(3));
+        Assertions.assertTrue(buffer.isErr(1));
+
+        try {
+            buffer.ok(3);
+            Assertions.fail();
+        } catch (ResultPanicException e) {
+            Assertions.assertEquals("Can't get the Ok value of the Err at 3: e2", e.getMessage());
+        }
+        try {
+            buffer.err(0);
+            Assertions.fail();
+        } catch (ResultPanicException e) {
+            Assertions.assertEquals("Can't get the Err value of the Ok at 0.", e.getMessage());
+        }
+        try {
+            buffer.isOk(5);
+            Assertions.fail();
+        } catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+        Assertions.assertEquals(-1, ResultBuffer.objects().build().firstErr());
+    }
+
+    @Test
+    void primitives() {
+        ResultBuffer<Integer, String> ints = ResultBuffer.<String>ints().build();
+        for (int i = 0; i < 200_000; i++) {
+            if (i % 1000 == 7) {
+                ints.addErr("e" + i);
+            } else {
+                ints.addInt(i);
+            }
+        }
+        ints.add(Ok.of(-1));
+        Assertions.assertEquals(200_001, ints.size());
+        Assertions.assertEquals(200, ints.countErr());
+        Assertions.assertEquals(7, ints.firstErr());
+        Assertions.assertEquals(123_456, ints.getInt(123_456));
+        Assertions.assertEquals(Integer.valueOf(-1), ints.ok(200_000));
+        Assertions.assertEquals(Err.of("e199007"), ints.get(199_007));
+
+        ResultBuffer<Long, String> longs = ResultBuffer.<String>longs().build();
+        longs.addLong(Long.MIN_VALUE);
+        longs.add(Ok.of(Long.MAX_VALUE));
+        Assertions.assertEquals(Long.MIN_VALUE, longs.getLong(0));
+        Assertions.assertEquals(Ok.of(Long.MAX_VALUE), longs.get(1));
+
+        ResultBuffer<Double, String> doubles = ResultBuffer.<String>doubles().build();
+        doubles.addDouble(-0.5);
+        doubles.addOk(Double.NaN);
+        Assertions.assertEquals(-0.5, doubles.getDouble(0));
+        Assertions.assertTrue(Double.isNaN(doubles.ok(1)));
+
+        try {
+            ints.addOk(null);
+            Assertions.fail();
+        } catch (IllegalArgumentException e) {
+            Assertions.assertEquals("An int, long or double ResultBuffer can't hold an empty Ok.", e.getMessage());
+        }
+        try {
+            ints.addLong(1);
+            Assertions.fail();
+        } catch (UnsupportedOperationException e) {
+            Assertions.assertEquals("This ResultBuffer doesn't hold longs.", e.getMessage());
+        }
+    }
+
+    @Test
+    void cursor() {
+        ResultBuffer<Integer, String> buffer = ResultBuffer.<String>ints().build();
+        for (int i = 0; i < 100; i++) {
+            buffer.add(i % 3 == 0 ? Err.of("e" + i) : Ok.of(i));
+        }
+
+        ResultBuffer<Integer, String>.Cursor cursor = buffer.cursor();
+        List<String> errs = new ArrayList<>();
+        long sum = 0;
+        while (cursor.next()) {
+            if (cursor.isOk()) {
+                sum += cursor.getInt();
+            } else {
+                Assertions.assertEquals("e" + cursor.index(), cursor.err());
+                errs.add(cursor.err());
+            }
+        }
+        Assertions.assertEquals(34, errs.size());
+        Assertions.assertEquals(4950 - 3 * (33 * 34 / 2), sum);
+        Assertions.assertFalse(cursor.next());
+        Assertions.assertFalse(ResultBuffer.objects().build().cursor().next());
+    }
+
+    @Test
+    void partitionAndCompact() {
+        ResultBuffer<String, String> buffer = ResultBuffer.<String, String>objects().build();
+        for (int i = 0; i < 150; i++) {
+            buffer.add(i % 4 == 1 ? Err.of("e" + i) : Ok.of("o" + i));
+        }
+
+        Assertions.assertEquals(112, buffer.partition());
+        Assertions.assertEquals(112, buffer.firstErr());
+        Assertions.assertEquals("o0", buffer.ok(0));
+        Assertions.assertEquals("o2", buffer.ok(1));
+        Assertions.assertEquals("o148", buffer.ok(111));
+        Assertions.assertEquals("e1", buffer.err(112));
+        Assertions.assertEquals("e149", buffer.err(149));
+        Assertions.assertEquals("e145", buffer.err(148));
+
+        Assertions.assertEquals(38, buffer.compact());
+        Assertions.assertEquals(112, buffer.size());
+        Assertions.assertEquals(0, buffer.countErr());
+        Assertions.assertEquals(-1, buffer.firstErr());
+        Assertions.assertEquals("o148", buffer.ok(111));
+        buffer.addErr("late");
+        buffer.addOk("later");
+        Assertions.assertEquals(112, buffer.firstErr());
+        Assertions.assertEquals(Ok.of("later"), buffer.get(113));
+
+        ResultBuffer<Long, String> longs = ResultBuffer.<String>longs().build();
+        for (long i = 0; i < 70_000; i++) {
+            longs.add(i % 2 == 0 ? Err.of("e") : Ok.of(i));
+        }
+        Assertions.assertEquals(35_000, longs.compact());
+        Assertions.assertEquals(69_999, longs.getLong(34_999));
+    }
+
+    @Test
+    void spill(@TempDir Path dir) throws IOException {
+        ResultBuffer<Integer, String> buffer = ResultBuffer.<String>ints().spillThreshold(100_000).spillDirectory(dir).build();
+        for (int i = 0; i < 100_000; i++) {
+            buffer.addInt(i);
+        }
+        Assertions.assertFalse(buffer.isSpilled());
+        try (Stream<Path> files = Files.list(dir)) {
+            Assertions.assertEquals(0, files.count());
+        }
+
+        for (int i = 100_000; i < 300_000; i++) {
+            buffer.add(i == 250_000 ? Err.of("e") : Ok.of(i));
+        }
+        Assertions.assertTrue(buffer.isSpilled());
+        try (Stream<Path> files = Files.list(dir)) {
+            // some platforms unlink the file as soon as it is opened
+            Assertions.assertTrue(files.count() <= 1);
+        }
+        Assertions.assertEquals(65_537, buffer.getInt(65_537));
+        Assertions.assertEquals(299_999, buffer.getInt(299_999));
+        Assertions.assertEquals(250_000, buffer.firstErr());
+        Assertions.assertEquals(1, buffer.compact());
+        Assertions.assertEquals(299_999, buffer.getInt(299_998));
+
+        buffer.close();
+        Assertions.assertEquals(0, buffer.size());
+        try (Stream<Path> files = Files.list(dir)) {
+            Assertions.assertEquals(0, files.count());
+        }
+
+        try {
+            ResultBuffer.objects().spillThreshold(1);
+            Assertions.fail();
+        } catch (IllegalStateException e) {
+            Assertions.assertEquals("Only an int, long or double ResultBuffer can spill to a file.", e.getMessage());
+        }
+    }
+
+    @Test
+    void spillFailure(@TempDir Path dir) throws IOException {
+        Path missing = dir.resolve("missing");
+        ResultBuffer<Long, String> buffer = ResultBuffer.<String>longs().spillThreshold(0).spillDirectory(missing).build();
+        try {
+            buffer.addLong(1);
+            Assertions.fail();
+        } catch (UncheckedIOException e) {
+            Assertions.assertTrue(e.getCause() instanceof NoSuchFileException);
+        }
+        Assertions.assertEquals(0, buffer.size());
+        Assertions.assertFalse(buffer.isSpilled());
+
+        // the next chunk tries again
+        Files.createDirectory(missing);
+        buffer.addLong(Long.MAX_VALUE);
+        Assertions.assertTrue(buffer.isSpilled());
+        Assertions.assertEquals(Long.MAX_VALUE, buffer.getLong(0));
+        buffer.close();
+    }
+
+    @Test
+    void nullErr() {
+        ResultBuffer<String, String> buffer = ResultBuffer.<String, String>objects().build();
+        try {
+            //noinspection ConstantConditions
+            buffer.addErr(null);
+            Assertions.fail();
+        } catch (NullPointerException e) {
+            Assertions.assertEquals("err", e.getMessage());
+        }
+        Assertions.assertEquals(0, buffer.size());
+    }
+
+    @Test
+    void footprint() {
+        int size = 100_000;
+        List<Result<Integer, String>> list = new ArrayList<>(size);
+        ResultBuffer<Integer, String> buffer = ResultBuffer.<String>ints().build();
+        for (int i = 0; i < size; i++) {
+            Result<Integer, String> result = i % 100 == 0 ? Err.of("error") : Ok.of(1000 + i);
+            list.add(result);
+            buffer.add(result);
+        }
+
+        long listBytes = GraphLayout.parseInstance(list).totalSize();
+        long bufferBytes = GraphLayout.parseInstance(buffer).totalSize();
+        Assertions.assertTrue(listBytes > 5 * bufferBytes, listBytes + " vs " + bufferBytes);
+    }
+}
@@ -0,0 +1,225 @@
+package io.github.koory1st.util.result;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+class ResultCacheTest {
+
+    private static Result<Integer, String> parse(String s) {
+        try {
+            return Ok.of(Integer.parseInt(s));
+        } catch (NumberFormatException e) {
+            return Err.of("not a number: " + s);
+        }
+    }
+
+    @Test
+    void memoizes() {
+        var calls = new AtomicInteger();
+        ResultCache<String, Integer, String> cache = ResultCache.<String, Integer, String>builder(s -> {
+            calls.incrementAndGet();
+            return parse(s);
+        }).build();
+
+        Assertions.assertEquals(Ok.of(1), cache.get("1"));
+        Assertions.assertEquals(Ok.of(1), cache.apply("1"));
+        Assertions.assertEquals(Err.of("not a number: x"), cache.get("x"));
+        Assertions.assertEquals(Err.of("not a number: x"), cache.get("x"));
+        Assertions.assertEquals(2, calls.get());
+        Assertions.assertEquals(2, cache.stats().hits());
+        Assertions.assertEquals(2, cache.stats().misses());
+        Assertions.assertEquals(0.5, cache.stats().hitRate());
+
+        cache.invalidate("1");
+        Assertions.assertNull(cache.getIfPresent("1"));
+        cache.get("1");
+        Assertions.assertEquals(3, calls.get());
+
+        cache.invalidateAll();
+        Assertions.assertEquals(0, cache.size());
+    }
+
+    @Test
+    void evictsLeastRecentlyUsed() {
+        ResultCache<String, Integer, String> cache = ResultCache.builder(ResultCacheTest::parse)
+                .maximumSize(2)
+                .build();
+
+        cache.get("1");
+        cache.get("2");
+        cache.get("1");
+        cache.get("3");
+
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertEquals(Ok.of(1), cache.getIfPresent("1"));
+        Assertions.assertNull(cache.getIfPresent("2"));
+        Assertions.assertEquals(Ok.of(3), cache.getIfPresent("3"));
+        Assertions.assertEquals(1, cache.stats().evictions());
+
+        try {
+            ResultCache.builder(ResultCacheTest::parse).maximumSize(0);
+            Assertions.fail();
+        } catch (IllegalArgumentException e) {
+            Assertions.assertEquals("The maximum size must be positive.", e.getMessage());
+        }
+    }
+
+    @Test
+    void recencyAfterManyHits() {
+        ResultCache<String, Integer, String> cache = ResultCache.builder(ResultCacheTest::parse)
+                .maximumSize(3)
+                .build();
+        cache.get("1");
+        cache.get("2");
+        cache.get("3");
+        // more hits than a read buffer holds, "1" last
+        for (int i = 0; i < 100; i++) {
+            cache.get(i % 2 == 0 ? "2" : "3");
+        }
+        cache.get("1");
+
+        cache.get("4");
+        Assertions.assertNull(cache.getIfPresent("2"));
+        Assertions.assertEquals(Ok.of(1), cache.getIfPresent("1"));
+        Assertions.assertEquals(Ok.of(3), cache.getIfPresent("3"));
+        Assertions.assertEquals(3, cache.size());
+    }
+
+    @Test
+    void concurrentHits() throws Exception {
+        ResultCache<String, Integer, String> cache = ResultCache.builder(ResultCacheTest::parse)
+                .maximumSize(50)
+                .build();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int seed = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 20_000; i++) {
+                        int key = (i * 31 + seed) % (i % 10 == 0 ? 200 : 40);
+                        Assertions.assertEquals(Ok.of(key), cache.get(String.valueOf(key)));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assertions.assertTrue(cache.size() <= 50);
+        ResultCache.Stats stats = cache.stats();
+        Assertions.assertEquals(160_000, stats.hits() + stats.misses());
+        Assertions.assertTrue(stats.hits() > stats.misses());
+    }
+
+    @Test
+    void separateTtls() {
+        var now = new AtomicLong();
+        ResultCache<String, Integer, String> cache = ResultCache.builder(ResultCacheTest::parse)
+                .okTtl(Duration.ofSeconds(10))
+                .errTtl(Duration.ofSeconds(1))
+                .ticker(now::get)
+                .build();
+
+        cache.get("1");
+        cache.get("x");
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        Assertions.assertEquals(Ok.of(1), cache.getIfPresent("1"));
+        Assertions.assertNull(cache.getIfPresent("x"));
+        now.addAndGet(TimeUnit.SECONDS.toNanos(9));
+        Assertions.assertNull(cache.getIfPresent("1"));
+
+        ResultCache<String, Integer, String> noErrs = ResultCache.builder(ResultCacheTest::parse)
+                .errTtl(Duration.ZERO)
+                .build();
+        noErrs.get("x");
+        noErrs.get("1");
+        Assertions.assertEquals(1, noErrs.size());
+
+        try {
+            ResultCache.builder(ResultCacheTest::parse).okTtl(Duration.ofSeconds(-1));
+            Assertions.fail();
+        } catch (IllegalArgumentException e) {
+            Assertions.assertEquals("The TTL can't be negative.", e.getMessage());
+        }
+    }
+
+    @Test
+    void singleFlight() throws Exception {
+        var calls = new AtomicInteger();
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        ResultCache<String, Integer, String> cache = ResultCache.<String, Integer, String>builder(s -> {
+            calls.incrementAndGet();
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return parse(s);
+        }).errTtl(Duration.ZERO).build();
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Result<Integer, String>>> futures = new ArrayList<>();
+            futures.add(executor.submit(() -> cache.get("x")));
+            Assertions.assertTrue(started.await(10, TimeUnit.SECONDS));
+            for (int i = 0; i < 3; i++) {
+                futures.add(executor.submit(() -> cache.get("x")));
+            }
+            while (cache.stats().misses() < 4) {
+                Thread.sleep(1);
+            }
+            release.countDown();
+
+            for (Future<Result<Integer, String>> future : futures) {
+                Assertions.assertEquals(Err.of("not a number: x"), future.get(10, TimeUnit.SECONDS));
+            }
+            Assertions.assertEquals(1, calls.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void loaderFailure() {
+        var calls = new AtomicInteger();
+        ResultCache<String, Integer, String> cache = ResultCache.<String, Integer, String>builder(s -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException("boom");
+            }
+            return parse(s);
+        }).build();
+
+        try {
+            cache.get("1");
+            Assertions.fail();
+        } catch (IllegalStateException e) {
+            Assertions.assertEquals("boom", e.getMessage());
+        }
+        Assertions.assertEquals(Ok.of(1), cache.get("1"));
+
+        ResultCache<String, Integer, String> nulls = ResultCache.<String, Integer, String>builder(s -> null).build();
+        try {
+            nulls.get("1");
+            Assertions.fail();
+        } catch (ResultPanicException e) {
+            Assertions.assertEquals("A ResultCache's loader can't return null.", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package io.github.koory1st.util.result;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+class ResultCatchingTest {
+
+    private static int parse(String s) throws IOException {
+        if (s.isEmpty()) {
+            throw new IOException("empty");
+        }
+        return Integer.parseInt(s);
+    }
+
+    @Test
+    void catching() {
+        Assertions.assertEquals(Ok.of(1), Result.catching(() -> parse("1")));
+        Assertions.assertEquals(Ok.of(), Result.catching(() -> null));
+
+        Result<Integer, Exception> err = Result.catching(() -> parse(""));
+        Assertions.assertTrue(err.err() instanceof IOException);
+        Assertions.assertEquals("empty", err.err().getMessage());
+
+        Result<Integer, Exception> unchecked = Result.catching(() -> parse("x"));
+        Assertions.assertTrue(unchecked.err() instanceof NumberFormatException);
+
+        try {
+            Result.catching(() -> {
+                throw new StackOverflowError();
+            });
+            Assertions.fail();
+        } catch (StackOverflowError ignored) {
+        }
+
+        Result<Object, Exception> interrupted = Result.catching(() -> {
+            throw new InterruptedException();
+        });
+        Assertions.assertTrue(interrupted.isErr());
+        Assertions.assertTrue(Thread.interrupted());
+    }
+
+    @Test
+    void catchingTypes() {
+        Result<Integer, IOException> err = Result.catching(() -> parse(""), IOException.class);
+        Assertions.assertEquals("empty", err.unwrapErr().getMessage());
+
+        Result<Object, IOException> subtype = Result.catching(() -> {
+            throw new FileNotFoundException("missing");
+        }, IOException.class);
+        Assertions.assertTrue(subtype.unwrapErr() instanceof FileNotFoundException);
+
+        Result<Integer, Exception> several = Result.catching(() -> parse("x"), IOException.class,
+                NumberFormatException.class);
+        Assertions.assertTrue(several.unwrapErr() instanceof NumberFormatException);
+
+        try {
+            Result.catching(() -> parse("x"), IOException.class);
+            Assertions.fail();
+        } catch (NumberFormatException ignored) {
+        }
+
+        try {
+            Result.catching(() -> {
+                throw new TimeoutException("late");
+            }, IOException.class);
+            Assertions.fail();
+        } catch (Exception e) {
+            Assertions.assertTrue(e instanceof TimeoutException);
+        }
+
+        try {
+            Result.catching(() -> {
+                throw new AssertionError("failed");
+            }, Exception.class);
+            Assertions.fail();
+        } catch (AssertionError e) {
+            Assertions.assertEquals("failed", e.getMessage());
+        }
+    }
+
+    @Test
+    void catchingTypesOnlyExceptions() throws NoSuchMethodException {
+        // an Error type can't be listed, as it would never be caught
+        var catching = Result.class.getMethod("catching", ThrowingSupplier.class, Class[].class);
+        Assertions.assertArrayEquals(new Type[]{Exception.class}, catching.getTypeParameters()[1].getBounds());
+    }
+
+    @Test
+    void catchingRunnable() {
+        var ran = new ArrayList<String>();
+        Assertions.assertEquals(Ok.of(), Result.catchingRunnable(() -> ran.add("ran")));
+        Assertions.assertEquals(List.of("ran"), ran);
+
+        Result<Void, Exception> err = Result.catchingRunnable(() -> {
+            throw new IOException("closed");
+        });
+        Assertions.assertEquals("closed", err.unwrapErr().getMessage());
+    }
+
+    @Test
+    void exceptionRecord() {
+        Result<Integer, ExceptionRecord> err = Result.catching(() -> parse(""), ExceptionRecord::of);
+        Assertions.assertEquals(IOException.class, err.unwrapErr().type());
+        Assertions.assertEquals("empty", err.unwrapErr().message());
+        Assertions.assertEquals(Err.of(ExceptionRecord.of(new IOException("empty"))), err);
+        Assertions.assertEquals("Err(java.io.IOException: empty)", err.toString());
+        Assertions.assertEquals("java.lang.IllegalStateException", ExceptionRecord.of(new IllegalStateException()).toString());
+    }
+
+    @Test
+    void lift() {
+        Function<String, Result<Integer, Exception>> parse = Result.lift(ResultCatchingTest::parse);
+        Result<String, Exception> input = Ok.of("2");
+        Assertions.assertEquals(Ok.of(4), input.andThen(parse).map(x -> x * 2));
+        Assertions.assertTrue(Ok.<String, Exception>of("").andThen(parse).unwrapErr() instanceof IOException);
+
+        Function<String, Result<Integer, ExceptionRecord>> recorded = Result.lift(ResultCatchingTest::parse,
+                ExceptionRecord::of);
+        Assertions.assertEquals(Err.of(ExceptionRecord.of(new IOException("empty"))), recorded.apply(""));
+        Assertions.assertEquals(Ok.of(3), recorded.apply("3"));
+    }
+}
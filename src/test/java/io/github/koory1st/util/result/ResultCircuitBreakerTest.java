@@ -0,0 +1,220 @@
+package io.github.koory1st.util.result;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+class ResultCircuitBreakerTest {
+
+    @Test
+    void opensAndCloses() {
+        var now = new AtomicLong();
+        var calls = new AtomicInteger();
+        ResultCircuitBreaker<String> breaker = ResultCircuitBreaker.builder("open")
+                .failureThreshold(2)
+                .openDuration(Duration.ofNanos(100))
+                .clock(now::get)
+                .build();
+
+        Assertions.assertEquals(Err.of("down"), breaker.call(() -> {
+            calls.incrementAndGet();
+            return Err.of("down");
+        }));
+        Assertions.assertEquals(ResultCircuitBreaker.State.CLOSED, breaker.getState());
+        breaker.call(() -> {
+            calls.incrementAndGet();
+            return Err.of("down");
+        });
+        Assertions.assertEquals(ResultCircuitBreaker.State.OPEN, breaker.getState());
+
+        Assertions.assertEquals(Err.of("open"), breaker.call(() -> {
+            calls.incrementAndGet();
+            return Ok.of(1);
+        }));
+        Assertions.assertEquals(2, calls.get());
+
+        // the trial call fails, so the breaker opens again
+        now.set(100);
+        Assertions.assertEquals(Err.of("down"), breaker.call(() -> Err.of("down")));
+        Assertions.assertEquals(ResultCircuitBreaker.State.OPEN, breaker.getState());
+        now.set(150);
+        Assertions.assertEquals(Err.of("open"), breaker.call(() -> Ok.of(1)));
+
+        now.set(200);
+        Assertions.assertEquals(Ok.of(1), breaker.call(() -> Ok.of(1)));
+        Assertions.assertEquals(ResultCircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void halfOpenAllowsOneTrial() {
+        var now = new AtomicLong();
+        ResultCircuitBreaker<String> breaker = ResultCircuitBreaker.builder("open")
+                .failureThreshold(1)
+                .openDuration(Duration.ofNanos(10))
+                .clock(now::get)
+                .build();
+        breaker.call(() -> Err.of("down"));
+
+        now.set(10);
+        Result<Integer, String> trial = breaker.call(() -> {
+            Assertions.assertEquals(ResultCircuitBreaker.State.HALF_OPEN, breaker.getState());
+            Assertions.assertEquals(Err.of("open"), breaker.call(() -> Ok.of(2)));
+            return Ok.of(1);
+        });
+        Assertions.assertEquals(Ok.of(1), trial);
+        Assertions.assertEquals(ResultCircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void failures() {
+        ResultCircuitBreaker<String> breaker = ResultCircuitBreaker.builder("open")
+                .failureThreshold(2)
+                .failureIf(e -> !e.equals("not found"))
+                .build();
+
+        // an ignored Err and a success both reset the count
+        breaker.call(() -> Err.of("down"));
+        breaker.call(() -> Err.of("not found"));
+        breaker.call(() -> Err.of("down"));
+        breaker.call(() -> Ok.of(1));
+        breaker.call(() -> Err.of("down"));
+        Assertions.assertEquals(ResultCircuitBreaker.State.CLOSED, breaker.getState());
+
+        try {
+            breaker.call(() -> {
+                throw new IllegalStateException("boom");
+            });
+            Assertions.fail();
+        } catch (IllegalStateException e) {
+            Assertions.assertEquals("boom", e.getMessage());
+        }
+        Assertions.assertEquals(ResultCircuitBreaker.State.OPEN, breaker.getState());
+
+        try {
+            ResultCircuitBreaker.builder("open").failureThreshold(0);
+            Assertions.fail();
+        } catch (IllegalArgumentException e) {
+            Assertions.assertEquals("The failure threshold must be positive.", e.getMessage());
+        }
+    }
+
+    @Test
+    void trialThrows() {
+        var now = new AtomicLong();
+        ResultCircuitBreaker<String> breaker = ResultCircuitBreaker.builder("open")
+                .failureThreshold(1)
+                .failureIf(e -> {
+                    if (e.equals("bad")) {
+                        throw new IllegalArgumentException("bad");
+                    }
+                    return true;
+                })
+                .openDuration(Duration.ofNanos(10))
+                .clock(now::get)
+                .build();
+        breaker.call(() -> Err.of("down"));
+
+        // a checked exception thrown sneakily by the trial call reopens the breaker
+        now.set(10);
+        try {
+            breaker.call(() -> sneakyThrow(new IOException("io")));
+            Assertions.fail();
+        } catch (Exception e) {
+            Assertions.assertTrue(e instanceof IOException);
+        }
+        Assertions.assertEquals(ResultCircuitBreaker.State.OPEN, breaker.getState());
+
+        // so does a failureIf throwing on the trial call's Err
+        now.set(20);
+        try {
+            breaker.call(() -> Err.of("bad"));
+            Assertions.fail();
+        } catch (IllegalArgumentException e) {
+            Assertions.assertEquals("bad", e.getMessage());
+        }
+        Assertions.assertEquals(ResultCircuitBreaker.State.OPEN, breaker.getState());
+
+        now.set(30);
+        Assertions.assertEquals(Ok.of(1), breaker.call(() -> Ok.of(1)));
+        Assertions.assertEquals(ResultCircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void staleCallDuringTrial() throws Exception {
+        var now = new AtomicLong();
+        ResultCircuitBreaker<String> breaker = ResultCircuitBreaker.builder("open")
+                .failureThreshold(1)
+                .openDuration(Duration.ofNanos(10))
+                .clock(now::get)
+                .build();
+
+        for (Result<Integer, String> stale : List.of(Ok.<Integer, String>of(1), Err.<Integer, String>of("late"))) {
+            // a call started while closed ends during the trial call, which alone decides the state
+            var started = new CountDownLatch(1);
+            var release = new CountDownLatch(1);
+            var thread = new Thread(() -> breaker.call(() -> {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                return stale;
+            }));
+            thread.start();
+            started.await();
+
+            breaker.call(() -> Err.of("down"));
+            now.addAndGet(10);
+            Result<Integer, String> trial = breaker.call(() -> {
+                release.countDown();
+                try {
+                    thread.join();
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                Assertions.assertEquals(ResultCircuitBreaker.State.HALF_OPEN, breaker.getState());
+                return Ok.of(2);
+            });
+            Assertions.assertEquals(Ok.of(2), trial);
+            Assertions.assertEquals(ResultCircuitBreaker.State.CLOSED, breaker.getState());
+        }
+    }
+
+    @Test
+    void openErrIsShared() {
+        ResultCircuitBreaker<String> breaker = ResultCircuitBreaker.builder("open").failureThreshold(1).build();
+        breaker.call(() -> Err.of("down"));
+        Assertions.assertSame(breaker.call(() -> Ok.of(1)), breaker.call(() -> Ok.of("a")));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R, X extends Throwable> R sneakyThrow(Throwable throwable) throws X {
+        throw (X) throwable;
+    }
+
+    @Test
+    void withRetry() {
+        var calls = new AtomicInteger();
+        ResultCircuitBreaker<String> breaker = ResultCircuitBreaker.builder("open").failureThreshold(3).build();
+        ResultRetry<String> retry = ResultRetry.<String>builder()
+                .retryIf(e -> !e.equals("open"))
+                .maxAttempts(10)
+                .sleeper(nanos -> {
+                })
+                .build();
+
+        Result<Integer, String> result = retry.call(breaker.wrap(() -> {
+            calls.incrementAndGet();
+            return Err.of("down");
+        }));
+        Assertions.assertEquals(Err.of("open"), result);
+        Assertions.assertEquals(3, calls.get());
+    }
+}
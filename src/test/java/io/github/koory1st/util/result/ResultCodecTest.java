@@ -0,0 +1,114 @@
+package io.github.koory1st.util.result;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+class ResultCodecTest {
+    private static final ResultCodec<Integer, String> CODEC = ResultCodec.of(PayloadCodecs.INTEGER, PayloadCodecs.STRING);
+
+    private static <T, E> Result<T, E> roundTrip(ResultCodec<T, E> codec, Result<T, E> result, ByteBuffer buffer) {
+        buffer.clear();
+        codec.encode(result, buffer);
+        Assertions.assertEquals(codec.encodedSize(result), buffer.position());
+        buffer.flip();
+        Result<T, E> decoded = codec.decode(buffer);
+        Assertions.assertFalse(buffer.hasRemaining());
+        return decoded;
+    }
+
+    @Test
+    void roundTrips() {
+        for (ByteBuffer buffer : List.of(ByteBuffer.allocate(64), ByteBuffer.allocateDirect(64),
+                ByteBuffer.allocate(64).order(ByteOrder.LITTLE_ENDIAN))) {
+            Assertions.assertEquals(Ok.of(42), roundTrip(CODEC, Ok.of(42), buffer));
+            Assertions.assertEquals(Ok.of(), roundTrip(CODEC, Ok.of(), buffer));
+            Assertions.assertEquals(Err.of("error"), roundTrip(CODEC, Err.of("error"), buffer));
+            Assertions.assertEquals(Err.of("é€😀 ?"), roundTrip(CODEC, Err.of("é€😀 \uD800"), buffer));
+            Assertions.assertEquals(Err.of(""), roundTrip(CODEC, Err.of(""), buffer));
+        }
+
+        var others = ResultCodec.of(PayloadCodecs.LONG, PayloadCodecs.BOOLEAN);
+        Assertions.assertEquals(Ok.of(Long.MAX_VALUE), roundTrip(others, Ok.of(Long.MAX_VALUE), ByteBuffer.allocate(9)));
+        Assertions.assertEquals(Err.of(true), roundTrip(others, Err.of(true), ByteBuffer.allocate(2)));
+        var doubles = ResultCodec.of(PayloadCodecs.DOUBLE, PayloadCodecs.DOUBLE);
+        Assertions.assertEquals(Ok.of(0.5), roundTrip(doubles, Ok.of(0.5), ByteBuffer.allocate(9)));
+    }
+
+    @Test
+    void layout() {
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        CODEC.encode(Ok.of(1), buffer);
+        CODEC.encode(Ok.of(), buffer);
+        CODEC.encode(Err.of("ab"), buffer);
+        Assertions.assertArrayEquals(new byte[]{0, 0, 0, 0, 1, 2, 1, 0, 0, 0, 2, 'a', 'b'},
+                Arrays.copyOf(buffer.array(), buffer.position()));
+    }
+
+    @Test
+    void overflow() {
+        ByteBuffer buffer = ByteBuffer.allocate(8);
+        buffer.put((byte) 9);
+        try {
+            CODEC.encode(Err.of("too long"), buffer);
+            Assertions.fail();
+        } catch (BufferOverflowException e) {
+            Assertions.assertEquals(1, buffer.position());
+        }
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(4);
+        direct.put((byte) 9);
+        ByteBuffer grown = CODEC.encodeGrowing(Err.of("too long"), direct);
+        Assertions.assertTrue(grown.isDirect());
+        Assertions.assertEquals(1 + CODEC.encodedSize(Err.of("too long")), grown.position());
+        grown.flip();
+        Assertions.assertEquals(9, grown.get());
+        Assertions.assertEquals(Err.of("too long"), CODEC.decode(grown));
+
+        ByteBuffer same = ByteBuffer.allocate(16);
+        Assertions.assertSame(same, CODEC.encodeGrowing(Ok.of(1), same));
+    }
+
+    @Test
+    void batch() {
+        List<Result<Integer, String>> results = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            results.add(i % 10 == 0 ? Err.of("error " + i) : Ok.of(i));
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(16 * 1024);
+        CODEC.encodeAll(results, buffer);
+        buffer.flip();
+        Assertions.assertEquals(results, CODEC.decodeAll(buffer));
+
+        ByteBuffer small = ByteBuffer.allocate(64);
+        try {
+            CODEC.encodeAll(results, small);
+            Assertions.fail();
+        } catch (BufferOverflowException e) {
+            Assertions.assertEquals(0, small.position());
+        }
+    }
+
+    @Test
+    void corrupted() {
+        try {
+            CODEC.decode(ByteBuffer.wrap(new byte[]{7}));
+            Assertions.fail();
+        } catch (IllegalArgumentException e) {
+            Assertions.assertEquals("Can't decode a Result with the tag 7.", e.getMessage());
+        }
+        try {
+            CODEC.decode(ByteBuffer.wrap(new byte[]{1, 0, 0, 0, 9, 'a'}));
+            Assertions.fail();
+        } catch (IllegalArgumentException e) {
+            Assertions.assertEquals("Can't decode a String of 9 bytes.", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package io.github.koory1st.util.result;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+
+class ResultFlowTest {
+
+    /**
+     * Synchronously publishes a list, only as far as requested.
+     */
+    private static final class ListPublisher<T> implements Flow.Publisher<T> {
+        private final List<T> items;
+        private int emitted;
+        private boolean cancelled;
+
+        private ListPublisher(List<T> items) {
+            this.items = items;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super T> subscriber) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                private long demand;
+                private boolean emitting;
+
+                @Override
+                public void request(long n) {
+                    demand += n;
+                    if (emitting) {
+                        return;
+                    }
+                    emitting = true;
+                    while (demand > 0 && emitted < items.size() && !cancelled) {
+                        demand--;
+                        subscriber.onNext(items.get(emitted++));
+                    }
+                    emitting = false;
+                    if (emitted == items.size() && !cancelled) {
+                        cancelled = true;
+                        subscriber.onComplete();
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled = true;
+                }
+            });
+        }
+    }
+
+    private static final class RecordingSubscriber<T> implements Flow.Subscriber<T> {
+        private final List<T> items = new ArrayList<>();
+        private boolean completed;
+        private Throwable error;
+        private Flow.Subscription subscription;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(T item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+
+    private static List<Result<Integer, String>> inputs() {
+        return List.of(Ok.of(1), Err.of("a"), Ok.of(2), Ok.of(3), Err.of("b"), Ok.of(4));
+    }
+
+    @Test
+    void mapOk() {
+        var subscriber = new RecordingSubscriber<Result<Integer, String>>();
+        ResultFlow.mapOk(new ListPublisher<>(inputs()), x -> x * 10).subscribe(subscriber);
+
+        subscriber.subscription.request(2);
+        Assertions.assertEquals(List.of(Ok.of(10), Err.of("a")), subscriber.items);
+        Assertions.assertFalse(subscriber.completed);
+
+        subscriber.subscription.request(10);
+        Assertions.assertEquals(List.of(Ok.of(10), Err.of("a"), Ok.of(20), Ok.of(30), Err.of("b"), Ok.of(40)), subscriber.items);
+        Assertions.assertTrue(subscriber.completed);
+    }
+
+    @Test
+    void mapOkError() {
+        var subscriber = new RecordingSubscriber<Result<Integer, String>>();
+        var publisher = new ListPublisher<>(inputs());
+        ResultFlow.mapOk(publisher, x -> {
+            if (x == 2) {
+                throw new IllegalStateException("boom");
+            }
+            return x;
+        }).subscribe(subscriber);
+
+        subscriber.subscription.request(10);
+        Assertions.assertEquals(List.of(Ok.of(1), Err.of("a")), subscriber.items);
+        Assertions.assertEquals("boom", subscriber.error.getMessage());
+        Assertions.assertTrue(publisher.cancelled);
+    }
+
+    @Test
+    void routeErrs() {
+        var errs = new ArrayList<String>();
+        var subscriber = new RecordingSubscriber<Integer>();
+        ResultFlow.routeErrs(new ListPublisher<>(inputs()), errs::add).subscribe(subscriber);
+
+        subscriber.subscription.request(2);
+        Assertions.assertEquals(List.of(1, 2), subscriber.items);
+        Assertions.assertEquals(List.of("a"), errs);
+
+        subscriber.subscription.request(2);
+        Assertions.assertEquals(List.of(1, 2, 3, 4), subscriber.items);
+        Assertions.assertEquals(List.of("a", "b"), errs);
+        Assertions.assertTrue(subscriber.completed);
+
+        // the empty Ok is dropped rather than emitted as null, and replaced by one more request
+        var oks = new RecordingSubscriber<Integer>();
+        ResultFlow.routeErrs(new ListPublisher<>(List.<Result<Integer, String>>of(Ok.of(), Ok.of(5))), errs::add)
+                .subscribe(oks);
+        oks.subscription.request(1);
+        Assertions.assertEquals(List.of(5), oks.items);
+    }
+
+    @Test
+    void takeUntilErrs() {
+        var publisher = new ListPublisher<>(inputs());
+        var subscriber = new RecordingSubscriber<Result<Integer, String>>();
+        ResultFlow.takeUntilErrs(publisher, 1).subscribe(subscriber);
+
+        subscriber.subscription.request(10);
+        Assertions.assertEquals(List.of(Ok.of(1), Err.of("a")), subscriber.items);
+        Assertions.assertTrue(subscriber.completed);
+        Assertions.assertTrue(publisher.cancelled);
+
+        var two = new RecordingSubscriber<Result<Integer, String>>();
+        ResultFlow.takeUntilErrs(new ListPublisher<>(inputs()), 2).subscribe(two);
+        two.subscription.request(10);
+        Assertions.assertEquals(5, two.items.size());
+        Assertions.assertTrue(two.completed);
+
+        try {
+            ResultFlow.takeUntilErrs(publisher, 0);
+            Assertions.fail();
+        } catch (IllegalArgumentException e) {
+            Assertions.assertEquals("The max number of Errs must be positive.", e.getMessage());
+        }
+    }
+
+    @Test
+    void batchOks() {
+        var errs = new ArrayList<String>();
+        var subscriber = new RecordingSubscriber<List<Integer>>();
+        ResultFlow.batchOks(new ListPublisher<>(inputs()), 3, errs::add).subscribe(subscriber);
+
+        subscriber.subscription.request(1);
+        Assertions.assertEquals(List.of(List.of(1, 2, 3)), subscriber.items);
+        Assertions.assertEquals(List.of("a"), errs);
+        Assertions.assertFalse(subscriber.completed);
+
+        subscriber.subscription.request(1);
+        Assertions.assertEquals(List.of(List.of(1, 2, 3), List.of(4)), subscriber.items);
+        Assertions.assertEquals(List.of("a", "b"), errs);
+        Assertions.assertTrue(subscriber.completed);
+    }
+
+    @Test
+    void submissionPublisher() throws Exception {
+        var deadLetters = new SubmissionPublisher<String>();
+        var deadLettersReceived = new ArrayList<String>();
+        var deadLettersDone = deadLetters.consume(deadLettersReceived::add);
+
+        var received = new ArrayList<List<Integer>>();
+        var done = new CompletableFuture<Void>();
+        try (var publisher = new SubmissionPublisher<Result<Integer, String>>()) {
+            ResultFlow.batchOks(ResultFlow.mapOk(publisher, x -> x + 1), 2, deadLetters::submit)
+                    .subscribe(new Flow.Subscriber<>() {
+                        private Flow.Subscription subscription;
+
+                        @Override
+                        public void onSubscribe(Flow.Subscription subscription) {
+                            this.subscription = subscription;
+                            subscription.request(1);
+                        }
+
+                        @Override
+                        public void onNext(List<Integer> item) {
+                            received.add(item);
+                            subscription.request(1);
+                        }
+
+                        @Override
+                        public void onError(Throwable throwable) {
+                            done.completeExceptionally(throwable);
+                        }
+
+                        @Override
+                        public void onComplete() {
+                            done.complete(null);
+                        }
+                    });
+            inputs().forEach(publisher::submit);
+        }
+
+        done.get(10, TimeUnit.SECONDS);
+        deadLetters.close();
+        deadLettersDone.get(10, TimeUnit.SECONDS);
+        Assertions.assertEquals(List.of(List.of(2, 3), List.of(4, 5)), received);
+        Assertions.assertEquals(List.of("a", "b"), deadLettersReceived);
+    }
+}
@@ -0,0 +1,68 @@
+package io.github.koory1st.util.result;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.ClassLayout;
+
+import java.lang.reflect.Modifier;
+import java.util.List;
+
+class ResultFootprintTest {
+
+    @SuppressWarnings("unused")
+    private static final class OneField {
+        private Object value;
+    }
+
+    @SuppressWarnings("unused")
+    private static final class OneInt {
+        private int value;
+    }
+
+    @SuppressWarnings("unused")
+    private static final class OneLong {
+        private long value;
+    }
+
+    @SuppressWarnings("unused")
+    private static final class ThreeFields {
+        private Object ok;
+        private Object err;
+        private boolean okFlg;
+    }
+
+    @Test
+    void variantsAreFinal() {
+        Assertions.assertTrue(Modifier.isFinal(Ok.class.getModifiers()));
+        Assertions.assertTrue(Modifier.isFinal(Err.class.getModifiers()));
+        for (Class<?> variant : List.of(IntOk.class, IntErr.class, LongOk.class, LongErr.class, DoubleOk.class,
+                DoubleErr.class)) {
+            Assertions.assertTrue(Modifier.isFinal(variant.getModifiers()), variant.getName());
+        }
+    }
+
+    @Test
+    void primitiveInstanceSize() {
+        long oneField = ClassLayout.parseClass(OneField.class).instanceSize();
+        Assertions.assertEquals(oneField, ClassLayout.parseInstance(IntErr.of("error")).instanceSize());
+        Assertions.assertEquals(oneField, ClassLayout.parseInstance(LongErr.of("error")).instanceSize());
+        Assertions.assertEquals(oneField, ClassLayout.parseInstance(DoubleErr.of("error")).instanceSize());
+        Assertions.assertEquals(ClassLayout.parseClass(OneInt.class).instanceSize(),
+                ClassLayout.parseInstance(IntOk.of(1)).instanceSize());
+        Assertions.assertEquals(ClassLayout.parseClass(OneLong.class).instanceSize(),
+                ClassLayout.parseInstance(LongOk.of(1)).instanceSize());
+        Assertions.assertEquals(ClassLayout.parseClass(OneLong.class).instanceSize(),
+                ClassLayout.parseInstance(DoubleOk.of(1)).instanceSize());
+    }
+
+    @Test
+    void instanceSize() {
+        long oneField = ClassLayout.parseClass(OneField.class).instanceSize();
+        Assertions.assertEquals(oneField, ClassLayout.parseInstance(Ok.of(1)).instanceSize());
+        Assertions.assertEquals(oneField, ClassLayout.parseInstance(Err.of("error")).instanceSize());
+        // the layout before, an Ok field, an Err field and a flag, takes at least one more 8-byte slot
+        long threeFields = ClassLayout.parseClass(ThreeFields.class).instanceSize();
+        Assertions.assertTrue(oneField < threeFields, oneField + " < " + threeFields);
+        Assertions.assertTrue(ClassLayout.parseInstance(Ok.of("ok")).instanceSize() < threeFields);
+    }
+}
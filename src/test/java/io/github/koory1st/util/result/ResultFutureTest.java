@@ -0,0 +1,97 @@
+package io.github.koory1st.util.result;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class ResultFutureTest {
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(2);
+
+    @AfterAll
+    static void shutdown() {
+        EXECUTOR.shutdown();
+    }
+
+    @Test
+    void map() {
+        Assertions.assertEquals(Ok.of(4), ResultFuture.<Integer, String>completed(Ok.of(2)).map(x -> x * 2).join());
+        Assertions.assertEquals(Ok.of(4), ResultFuture.<Integer, String>supplyAsync(() -> Ok.of(2), EXECUTOR)
+                .mapAsync(x -> x * 2, EXECUTOR).join());
+
+        Result<Integer, String> err = Err.of("an error");
+        Assertions.assertSame(err, ResultFuture.completed(err).map(x -> x * 2).join());
+    }
+
+    @Test
+    void andThen() {
+        var calls = new AtomicInteger();
+        ResultFuture<Integer, String> ok = ResultFuture.supplyAsync(() -> Ok.of(2));
+
+        Assertions.assertEquals(Ok.of(16), ok
+                .andThen(x -> Ok.of(x * x))
+                .andThenAsync(x -> ResultFuture.supplyAsync(() -> Ok.of(x * x), EXECUTOR))
+                .join());
+
+        Assertions.assertEquals(Err.of("4"), ok
+                .andThen(x -> Ok.of(x * x))
+                .andThenAsync(x -> ResultFuture.<Integer, String>completed(Err.of(String.valueOf(x))), EXECUTOR)
+                .andThenAsync(x -> {
+                    calls.incrementAndGet();
+                    return ResultFuture.completed(Ok.of(x));
+                })
+                .join());
+        Assertions.assertEquals(0, calls.get());
+    }
+
+    @Test
+    void mapErr() {
+        Assertions.assertEquals(Err.of(8), ResultFuture.<Integer, String>completed(Err.of("an error")).mapErr(String::length).join());
+        Assertions.assertEquals(Ok.of(2), ResultFuture.<Integer, String>completed(Ok.of(2)).mapErr(String::length).join());
+    }
+
+    @Test
+    void orElse() {
+        ResultFuture<Integer, Integer> err = ResultFuture.completed(Err.of(3));
+        Assertions.assertEquals(Ok.of(9), err.orElse(e -> Ok.of(e * e)).join());
+        Assertions.assertEquals(Ok.of(9), err.orElseAsync(e -> ResultFuture.supplyAsync(() -> Ok.of(e * e), EXECUTOR)).join());
+
+        ResultFuture<Integer, Integer> ok = ResultFuture.completed(Ok.of(2));
+        Assertions.assertEquals(Ok.of(2), ok.orElseAsync(e -> ResultFuture.completed(Err.of(e))).join());
+    }
+
+    @Test
+    void zip() {
+        ResultFuture<Integer, String> x = ResultFuture.supplyAsync(() -> Ok.of(2), EXECUTOR);
+        ResultFuture<String, String> y = ResultFuture.supplyAsync(() -> Ok.of("a"), EXECUTOR);
+        ResultFuture<String, String> z = ResultFuture.completed(Err.of("an error"));
+
+        Assertions.assertEquals(Ok.of("a2"), x.zip(y, (a, b) -> b + a).join());
+        Assertions.assertEquals(Err.of("an error"), x.zip(z, (a, b) -> b + a).join());
+        Assertions.assertEquals(Err.of("an error"), z.zip(x, (a, b) -> a + b).join());
+    }
+
+    @Test
+    void timeout() {
+        var never = ResultFuture.of(new CompletableFuture<Result<Integer, String>>());
+        Assertions.assertEquals(Err.of("timeout"), never.timeout(10, TimeUnit.MILLISECONDS, "timeout").join());
+        Assertions.assertFalse(never.toCompletableFuture().isDone());
+
+        var done = ResultFuture.<Integer, String>completed(Ok.of(1));
+        Assertions.assertEquals(Ok.of(1), done.timeout(1, TimeUnit.SECONDS, "timeout").join());
+
+        var failed = ResultFuture.of(CompletableFuture.<Result<Integer, String>>failedFuture(new IllegalStateException("boom")));
+        try {
+            failed.timeout(1, TimeUnit.SECONDS, "timeout").join();
+            Assertions.fail();
+        } catch (CompletionException e) {
+            Assertions.assertEquals("boom", e.getCause().getMessage());
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package io.github.koory1st.util.result;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+class ResultJsonTest {
+    private static final ResultJson<Integer, String> JSON = ResultJson.of(JsonAdapters.INTEGER, JsonAdapters.STRING);
+
+    @Test
+    void write() throws IOException {
+        Assertions.assertEquals("{\"ok\":42}", JSON.toJson(Ok.of(42)));
+        Assertions.assertEquals("{\"ok\":null}", JSON.toJson(Ok.of()));
+        Assertions.assertEquals("{\"err\":\"a\\\"b\\\\c\\n\\u0001\\u2028é\"}", JSON.toJson(Err.of("a\"b\\c\n\u0001 é")));
+
+        StringWriter writer = new StringWriter();
+        JSON.write(Err.of("error"), writer);
+        Assertions.assertEquals("{\"err\":\"error\"}", writer.toString());
+
+        var lists = ResultJson.of(JsonAdapters.DOUBLE, JsonAdapters.listOf(JsonAdapters.BOOLEAN));
+        Assertions.assertEquals("{\"ok\":0.5}", lists.toJson(Ok.of(0.5)));
+        Assertions.assertEquals("{\"err\":[true,false]}", lists.toJson(Err.of(List.of(true, false))));
+        try {
+            lists.toJson(Ok.of(Double.NaN));
+            Assertions.fail();
+        } catch (IllegalArgumentException e) {
+            Assertions.assertEquals("JSON can't represent NaN or infinite numbers.", e.getMessage());
+        }
+    }
+
+    @Test
+    void read() throws IOException {
+        Assertions.assertEquals(Ok.of(42), JSON.read(" { \"ok\" : 42 } "));
+        Assertions.assertEquals(Ok.of(), JSON.read("{\"ok\":null}"));
+        Assertions.assertEquals(Err.of("a\"b/\né"), JSON.read(new StringReader("{\"err\":\"a\\\"b\\/\\n\\u00E9\"}")));
+        Assertions.assertEquals(Ok.of(Long.MIN_VALUE),
+                ResultJson.of(JsonAdapters.LONG, JsonAdapters.STRING).read("{\"ok\":-9223372036854775808}"));
+        Assertions.assertEquals(Err.of(List.of("a", "b")),
+                ResultJson.of(JsonAdapters.INTEGER, JsonAdapters.listOf(JsonAdapters.STRING)).read("{\"err\":[\"a\",\"b\"]}"));
+
+        for (String result : List.of(JSON.toJson(Ok.of(-7)), JSON.toJson(Err.of("\u0000\t\"")))) {
+            Assertions.assertEquals(result, JSON.toJson(JSON.read(result)));
+        }
+    }
+
+    @Test
+    void malformed() {
+        for (String json : List.of("", "{}", "{\"ok\":1,\"err\":\"a\"}", "{\"value\":1}", "{\"ok\":1} x",
+                "{\"ok\":\"1\"}", "{\"ok\":1.5}", "{\"err\":\"a}", "{\"ok\" 1}", "[{\"ok\":1}]", "{\"ok\":nul}")) {
+            try {
+                JSON.read(json);
+                Assertions.fail(json);
+            } catch (IOException e) {
+                Assertions.assertTrue(e.getMessage().endsWith("."), e.getMessage());
+            }
+        }
+
+        try {
+            JSON.read("{\"ok\":1 ]");
+            Assertions.fail();
+        } catch (IOException e) {
+            Assertions.assertEquals("Expected ',' or '}' at character 9.", e.getMessage());
+        }
+    }
+
+    @Test
+    void writer() throws IOException {
+        StringBuilder builder = new StringBuilder();
+        JsonWriter writer = new JsonWriter(builder);
+        writer.beginObject().name("page").value(1).name("results");
+        JSON.writeArray(List.of(Ok.of(1), Err.of("e")), builder);
+        Assertions.assertEquals("{\"page\":1,\"results\":[{\"ok\":1},{\"err\":\"e\"}]", builder.toString());
+
+        try {
+            new JsonWriter(builder).beginObject().value(1);
+            Assertions.fail();
+        } catch (IllegalStateException e) {
+            Assertions.assertEquals("A value in an object needs a name first.", e.getMessage());
+        }
+        try {
+            new JsonWriter(builder).beginArray().endObject();
+            Assertions.fail();
+        } catch (IllegalStateException e) {
+            Assertions.assertEquals("There is no object to end here.", e.getMessage());
+        }
+    }
+
+    @Test
+    void nested() throws IOException {
+        JsonReader reader = new JsonReader("{\"meta\":{\"a\":[1,{\"b\":null}],\"c\":true},\"result\":{\"err\":\"e\"}}");
+        reader.beginObject();
+        Assertions.assertEquals("meta", reader.nextName());
+        reader.skipValue();
+        Assertions.assertEquals("result", reader.nextName());
+        Assertions.assertEquals(Err.of("e"), JSON.read(reader));
+        reader.endObject();
+        Assertions.assertEquals(JsonReader.Token.END_DOCUMENT, reader.peek());
+    }
+
+    @Test
+    void array() throws IOException {
+        StringWriter writer = new StringWriter();
+        JSON.writeArray(IntStream.range(0, 5000)
+                .<Result<Integer, String>>mapToObj(i -> i % 3 == 0 ? Err.of("e" + i) : Ok.of(i))::iterator, writer);
+
+        List<Result<Integer, String>> pushed = new ArrayList<>();
+        JSON.readArray(new StringReader(writer.toString()), pushed::add);
+        Assertions.assertEquals(5000, pushed.size());
+        Assertions.assertEquals(Err.of("e0"), pushed.get(0));
+        Assertions.assertEquals(Ok.of(4999), pushed.get(4999));
+
+        Iterator<Result<Integer, String>> pulled = JSON.iterateArray(new JsonReader(new StringReader(writer.toString())));
+        for (int i = 0; i < 5000; i++) {
+            Assertions.assertTrue(pulled.hasNext());
+            Assertions.assertEquals(pushed.get(i), pulled.next());
+        }
+        Assertions.assertFalse(pulled.hasNext());
+
+        Assertions.assertFalse(JSON.iterateArray(new JsonReader(" [ ] ")).hasNext());
+        try {
+            JSON.iterateArray(new JsonReader("[{\"ok\":1},")).forEachRemaining(result -> { });
+            Assertions.fail();
+        } catch (UncheckedIOException e) {
+            Assertions.assertEquals("Unexpected end of the document at character 11.", e.getCause().getMessage());
+        }
+    }
+
+    @Test
+    void incremental() throws IOException {
+        // a Reader that hands out one character at a time, and fails once the first Result is read
+        int[] reads = {0};
+        String json = "[{\"ok\":1},{\"ok\":2}]";
+        Reader reader = new Reader() {
+            @Override
+            public int read(char[] buffer, int offset, int length) {
+                if (reads[0] == json.length()) {
+                    return -1;
+                }
+                buffer[offset] = json.charAt(reads[0]++);
+                return 1;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        Iterator<Result<Integer, String>> results = JSON.iterateArray(new JsonReader(reader));
+        Assertions.assertEquals(Ok.of(1), results.next());
+        Assertions.assertTrue(reads[0] < json.length());
+        Assertions.assertEquals(Ok.of(2), results.next());
+        Assertions.assertFalse(results.hasNext());
+    }
+}
@@ -0,0 +1,92 @@
+package io.github.koory1st.util.result;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Run by the metricsTest task, in a JVM with {@link CountingResultMetrics} installed by the system property.
+ */
+class ResultMetricsTest {
+
+    private enum Code {
+        NOT_FOUND,
+        INVALID
+    }
+
+    private static CountingResultMetrics metrics() {
+        ResultMetrics installed = ResultMetrics.installed();
+        Assertions.assertTrue(installed instanceof CountingResultMetrics);
+        return (CountingResultMetrics) installed;
+    }
+
+    private static long count(CountingResultMetrics.Snapshot snapshot, String kind) {
+        return snapshot.errsByKind().getOrDefault(kind, 0L);
+    }
+
+    @Test
+    void counts() {
+        CountingResultMetrics metrics = metrics();
+        CountingResultMetrics.Snapshot before = metrics.snapshot();
+
+        Ok.of("a");
+        Ok.of(1);
+        Ok.of();
+        Err.of("error");
+        Err.of(Code.NOT_FOUND);
+        Err.ofCached(Code.NOT_FOUND);
+        Err.ofCached(Code.INVALID);
+        try {
+            Err.of("boom").unwrap();
+            Assertions.fail();
+        } catch (ResultPanicException ignored) {
+        }
+
+        CountingResultMetrics.Snapshot after = metrics.snapshot();
+        Assertions.assertEquals(3, after.oks() - before.oks());
+        Assertions.assertEquals(5, after.errs() - before.errs());
+        Assertions.assertEquals(1, after.panics() - before.panics());
+        Assertions.assertEquals(2, count(after, String.class.getName()) - count(before, String.class.getName()));
+        String notFound = Code.class.getName() + ".NOT_FOUND";
+        Assertions.assertEquals(2, count(after, notFound) - count(before, notFound));
+        String invalid = Code.class.getName() + ".INVALID";
+        Assertions.assertEquals(1, count(after, invalid) - count(before, invalid));
+
+        try {
+            after.errsByKind().put("x", 1L);
+            Assertions.fail();
+        } catch (UnsupportedOperationException ignored) {
+        }
+    }
+
+    @Test
+    void timeoutInTime() {
+        CountingResultMetrics metrics = metrics();
+        CountingResultMetrics.Snapshot before = metrics.snapshot();
+
+        ResultFuture<Integer, String> done = ResultFuture.completed(Ok.of(1));
+        Assertions.assertEquals(Ok.of(1), done.timeout(1, TimeUnit.SECONDS, "timeout").join());
+        Assertions.assertEquals(before.errs(), metrics.snapshot().errs());
+
+        ResultFuture<Integer, String> never = ResultFuture.of(new CompletableFuture<>());
+        Assertions.assertEquals(Err.of("timeout"), never.timeout(10, TimeUnit.MILLISECONDS, "timeout").join());
+        // the Err of the timeout, and the one compared against
+        Assertions.assertEquals(before.errs() + 2, metrics.snapshot().errs());
+    }
+
+    @Test
+    void okRatio() {
+        CountingResultMetrics metrics = new CountingResultMetrics();
+        Assertions.assertEquals(1.0, metrics.snapshot().okRatio());
+        metrics.onOk();
+        metrics.onOk();
+        metrics.onOk();
+        metrics.onErr("error");
+        Assertions.assertEquals(0.75, metrics.snapshot().okRatio());
+        Assertions.assertEquals(Map.of(String.class.getName(), 1L), metrics.snapshot().errsByKind());
+        Assertions.assertEquals("Snapshot(oks=3, errs={java.lang.String=1}, panics=0)", metrics.snapshot().toString());
+    }
+}
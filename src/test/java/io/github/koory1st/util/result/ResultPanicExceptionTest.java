@@ -0,0 +1,122 @@
+package io.github.koory1st.util.result;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+class ResultPanicExceptionTest {
+
+    @AfterEach
+    void resetPanicMode() {
+        ResultPanicException.setPanicMode(ResultPanicException.PanicMode.STACK_TRACE);
+    }
+
+    @Test
+    void payload() {
+        var x = Err.of("emergency failure");
+        try {
+            x.unwrap();
+            Assertions.fail();
+        } catch (ResultPanicException e) {
+            Assertions.assertEquals("emergency failure", e.getPayload());
+        }
+
+        var y = Ok.of(2);
+        try {
+            y.expectErr("Testing expectErr");
+            Assertions.fail();
+        } catch (ResultPanicException e) {
+            Assertions.assertEquals(2, e.getPayload());
+            Assertions.assertEquals("Testing expectErr: 2", e.getMessage());
+        }
+
+        var z = IntErr.of(7);
+        try {
+            z.expect("Testing expect");
+            Assertions.fail();
+        } catch (ResultPanicException e) {
+            Assertions.assertEquals(7, e.getPayload());
+        }
+
+        Assertions.assertNull(new ResultPanicException("message").getPayload());
+    }
+
+    @Test
+    void stackless() {
+        Assertions.assertEquals(ResultPanicException.PanicMode.STACK_TRACE, ResultPanicException.getPanicMode());
+        try {
+            Err.of("emergency failure").unwrap();
+            Assertions.fail();
+        } catch (ResultPanicException e) {
+            Assertions.assertNotEquals(0, e.getStackTrace().length);
+        }
+
+        ResultPanicException.setPanicMode(ResultPanicException.PanicMode.STACKLESS);
+        try {
+            Err.of("emergency failure").expect("Testing expect");
+            Assertions.fail();
+        } catch (ResultPanicException e) {
+            Assertions.assertEquals(0, e.getStackTrace().length);
+            Assertions.assertEquals("Testing expect: emergency failure", e.getMessage());
+            Assertions.assertEquals(ResultPanicException.class.getName() + ": Testing expect: emergency failure", e.toString());
+        }
+
+        try {
+            //noinspection ConstantConditions
+            ResultPanicException.setPanicMode(null);
+            Assertions.fail();
+        } catch (IllegalArgumentException e) {
+            Assertions.assertEquals("The panic mode can't be null.", e.getMessage());
+        }
+    }
+
+    @Test
+    void lazyMessage() {
+        var formatted = new int[1];
+        var payload = new Object() {
+            @Override
+            public String toString() {
+                formatted[0]++;
+                return "payload";
+            }
+        };
+
+        var e = new ResultPanicException(payload, Result.UNWRAP_PANIC_STR, payload);
+        Assertions.assertEquals(0, formatted[0]);
+        Assertions.assertEquals("called `Result.unwrap()` on an `Err` value: payload", e.getMessage());
+        Assertions.assertEquals("called `Result.unwrap()` on an `Err` value: payload", e.getMessage());
+        Assertions.assertEquals(1, formatted[0]);
+    }
+
+    @Test
+    void invalidPanicMode() {
+        Assertions.assertEquals(ResultPanicException.PanicMode.STACK_TRACE, ResultPanicException.parsePanicMode(null));
+        Assertions.assertEquals(ResultPanicException.PanicMode.STACKLESS,
+                ResultPanicException.parsePanicMode("STACKLESS"));
+        Assertions.assertEquals(ResultPanicException.PanicMode.STACK_TRACE, ResultPanicException.parsePanicMode("fast"));
+    }
+
+    @Test
+    void serializable() throws Exception {
+        var payload = new Object() {
+            @Override
+            public String toString() {
+                return "not serializable";
+            }
+        };
+        var bytes = new ByteArrayOutputStream();
+        try (var out = new ObjectOutputStream(bytes)) {
+            out.writeObject(new ResultPanicException(payload, Result.UNWRAP_PANIC_STR, payload));
+        }
+        try (var in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            var e = (ResultPanicException) in.readObject();
+            Assertions.assertEquals("called `Result.unwrap()` on an `Err` value: not serializable", e.getMessage());
+            Assertions.assertNull(e.getPayload());
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package io.github.koory1st.util.result;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class ResultPipelineTest {
+    private static final ResultPipeline<String, Integer, String> PARSE = ResultPipeline.<String, String>start()
+            .map(String::trim)
+            .andThen(s -> s.isEmpty() ? Err.of("empty") : Ok.of(s))
+            .map(Integer::parseInt)
+            .andThen(x -> x < 0 ? Err.of("negative: " + x) : Ok.of(x))
+            .map(x -> x * 2);
+
+    @Test
+    void apply() {
+        Assertions.assertEquals(Ok.of(4), PARSE.apply(" 2 "));
+        Assertions.assertEquals(Err.of("empty"), PARSE.apply("  "));
+        Assertions.assertEquals(Err.of("negative: -1"), PARSE.apply("-1"));
+
+        Assertions.assertEquals(Ok.of("x"), ResultPipeline.<String, String>start().apply("x"));
+    }
+
+    @Test
+    void sameAsChainedCalls() {
+        for (String input : List.of("1", " 7", "", "-3")) {
+            Result<String, String> start = Ok.of(input);
+            Result<Integer, String> chained = start
+                    .map(String::trim)
+                    .andThen(s -> s.isEmpty() ? Err.of("empty") : Ok.of(s))
+                    .map(Integer::parseInt)
+                    .andThen(x -> x < 0 ? Err.of("negative: " + x) : Ok.<Integer, String>of(x))
+                    .map(x -> x * 2);
+            Assertions.assertEquals(chained, PARSE.apply(input));
+        }
+    }
+
+    @Test
+    void errSteps() {
+        ResultPipeline<String, Integer, Integer> pipeline = PARSE
+                .mapErr(String::length)
+                .orElse(e -> e == 5 ? Ok.of(0) : Err.of(e))
+                .map(x -> x + 1);
+
+        Assertions.assertEquals(Ok.of(5), pipeline.apply("2"));
+        Assertions.assertEquals(Ok.of(1), pipeline.apply(""));
+        Assertions.assertEquals(Err.of(12), pipeline.apply("-1"));
+    }
+
+    @Test
+    void returnedResultReused() {
+        Result<Integer, String> err = Err.of("step");
+        Assertions.assertSame(err, ResultPipeline.<String, String>start().andThen(s -> err).apply("x"));
+        Assertions.assertSame(err, ResultPipeline.<String, String>start()
+                .andThen(s -> Err.<Integer, String>of("first"))
+                .map(x -> x + 1)
+                .orElse(e -> err)
+                .apply("x"));
+        Assertions.assertNotSame(err, ResultPipeline.<String, String>start()
+                .andThen(s -> err)
+                .mapErr(e -> e)
+                .apply("x"));
+    }
+
+    @Test
+    void sink() {
+        var oks = new ArrayList<Integer>();
+        var errs = new ArrayList<String>();
+        ResultPipeline.Sink<Integer, String> sink = new ResultPipeline.Sink<>() {
+            @Override
+            public void ok(Integer value) {
+                oks.add(value);
+            }
+
+            @Override
+            public void err(String err) {
+                errs.add(err);
+            }
+        };
+
+        PARSE.runAll(List.of("1", "", "2"), sink);
+        PARSE.runAll(new String[]{"-4", "3"}, sink);
+        Assertions.assertEquals(List.of(2, 4, 6), oks);
+        Assertions.assertEquals(List.of("empty", "negative: -4"), errs);
+    }
+
+    @Test
+    void applyAll() {
+        Assertions.assertEquals(List.of(Ok.of(2), Err.of("empty")), PARSE.applyAll(List.of("1", "")));
+        Assertions.assertEquals(List.of(Ok.of(2), Err.of("empty")), PARSE.applyAll(new String[]{"1", ""}));
+    }
+
+    @Test
+    void emptyOk() {
+        ResultPipeline<Integer, Integer, String> pipeline = ResultPipeline.<Integer, String>start().map(x -> x * 2);
+        try {
+            pipeline.apply(null);
+            Assertions.fail();
+        } catch (ResultPanicException e) {
+            Assertions.assertEquals("Can't applying a function to a Empty Ok.", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package io.github.koory1st.util.result;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Supplier;
+
+class ResultRetryTest {
+
+    private static Supplier<Result<Integer, String>> replay(List<Result<Integer, String>> results, List<Integer> calls) {
+        Iterator<Result<Integer, String>> iterator = results.iterator();
+        return () -> {
+            calls.add(calls.size() + 1);
+            return iterator.next();
+        };
+    }
+
+    @Test
+    void retriesRetryableErrs() {
+        var sleeps = new ArrayList<Long>();
+        ResultRetry<String> retry = ResultRetry.<String>builder()
+                .retryIf(e -> e.startsWith("transient"))
+                .maxAttempts(5)
+                .backoff(Duration.ofNanos(100), Duration.ofNanos(300))
+                .sleeper(sleeps::add)
+                .build();
+
+        var calls = new ArrayList<Integer>();
+        var results = List.<Result<Integer, String>>of(Err.of("transient 1"), Err.of("transient 2"),
+                Err.of("transient 3"), Ok.of(1));
+        Assertions.assertEquals(Ok.of(1), retry.call(replay(results, calls)));
+        Assertions.assertEquals(4, calls.size());
+        Assertions.assertEquals(List.of(100L, 200L, 300L), sleeps);
+
+        calls.clear();
+        var fatal = List.<Result<Integer, String>>of(Err.of("transient"), Err.of("fatal"), Ok.of(1));
+        Assertions.assertEquals(Err.of("fatal"), retry.wrap(replay(fatal, calls)).get());
+        Assertions.assertEquals(2, calls.size());
+    }
+
+    @Test
+    void maxAttempts() {
+        ResultRetry<String> retry = ResultRetry.<String>builder().maxAttempts(2).sleeper(nanos -> {
+        }).build();
+
+        var calls = new ArrayList<Integer>();
+        var results = List.<Result<Integer, String>>of(Err.of("a"), Err.of("b"), Ok.of(1));
+        Assertions.assertEquals(Err.of("b"), retry.call(replay(results, calls)));
+        Assertions.assertEquals(2, calls.size());
+
+        try {
+            ResultRetry.builder().maxAttempts(0);
+            Assertions.fail();
+        } catch (IllegalArgumentException e) {
+            Assertions.assertEquals("The max attempts must be positive.", e.getMessage());
+        }
+    }
+
+    @Test
+    void jitter() {
+        ResultRetry<String> retry = ResultRetry.<String>builder()
+                .backoff(Duration.ofNanos(1000), Duration.ofNanos(4000))
+                .jitter(0.5)
+                .build();
+
+        for (int i = 0; i < 100; i++) {
+            long backoff = retry.backoffNanos(3);
+            Assertions.assertTrue(backoff > 2000 && backoff <= 4000, String.valueOf(backoff));
+            Assertions.assertTrue(retry.backoffNanos(40) <= 4000);
+        }
+
+        try {
+            ResultRetry.builder().jitter(1.5);
+            Assertions.fail();
+        } catch (IllegalArgumentException e) {
+            Assertions.assertEquals("The jitter must be between 0 and 1.", e.getMessage());
+        }
+    }
+
+    @Test
+    void budget() {
+        ResultRetry<String> retry = ResultRetry.<String>builder()
+                .maxAttempts(3)
+                .budget(0.5, 2)
+                .sleeper(nanos -> {
+                })
+                .build();
+        Supplier<Result<Integer, String>> failing = () -> Err.of("down");
+
+        // the burst of 2 retries is spent by the first call
+        var calls = new ArrayList<Integer>();
+        retry.call(() -> {
+            calls.add(1);
+            return failing.get();
+        });
+        Assertions.assertEquals(3, calls.size());
+
+        // then each call earns half a retry
+        calls.clear();
+        for (int i = 0; i < 4; i++) {
+            retry.call(() -> {
+                calls.add(1);
+                return failing.get();
+            });
+        }
+        Assertions.assertEquals(6, calls.size());
+    }
+
+    @Test
+    void interrupted() {
+        ResultRetry<String> retry = ResultRetry.<String>builder().sleeper(nanos -> {
+            throw new InterruptedException();
+        }).build();
+
+        var calls = new ArrayList<Integer>();
+        var results = List.<Result<Integer, String>>of(Err.of("a"), Ok.of(1));
+        Assertions.assertEquals(Err.of("a"), retry.call(replay(results, calls)));
+        Assertions.assertTrue(Thread.interrupted());
+    }
+}
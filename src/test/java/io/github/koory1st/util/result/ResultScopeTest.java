@@ -0,0 +1,147 @@
+package io.github.koory1st.util.result;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+class ResultScopeTest {
+
+    private static Result<Integer, String> parse(String s) {
+        try {
+            return Ok.of(Integer.parseInt(s));
+        } catch (NumberFormatException e) {
+            return Err.of("not a number: " + s);
+        }
+    }
+
+    @Test
+    void bind() {
+        Result<Integer, String> sum = Result.scope(ctx -> {
+            int a = ctx.bind(parse("1"));
+            int b = ctx.bind(parse("2"));
+            return Ok.of(a + b);
+        });
+        Assertions.assertEquals(Ok.of(3), sum);
+
+        Result<Boolean, String> empty = Result.scope(ctx -> Ok.of(ctx.bind(Ok.of()) == null));
+        Assertions.assertEquals(Ok.of(true), empty);
+    }
+
+    @Test
+    void earlyReturn() {
+        Result<Integer, String> err = parse("x");
+        AtomicInteger after = new AtomicInteger();
+        Result<Integer, String> result = Result.scope(ctx -> {
+            int a = ctx.bind(parse("1"));
+            int b = ctx.bind(err);
+            after.incrementAndGet();
+            return Ok.of(a + b);
+        });
+        Assertions.assertSame(err, result);
+        Assertions.assertEquals(0, after.get());
+
+        // an Exception handler between the scope and bind doesn't swallow the exit
+        Result<Integer, String> caught = Result.scope(ctx -> {
+            try {
+                return Ok.of(ctx.bind(err));
+            } catch (Exception e) {
+                return Err.of("caught");
+            }
+        });
+        Assertions.assertSame(err, caught);
+        Assertions.assertSame(err, Result.scope(ctx -> Result.catching(() -> ctx.bind(err)).mapErr(e -> "caught")));
+    }
+
+    @Test
+    void nested() {
+        Result<Integer, String> err = Err.of("outer");
+        Result<Integer, String> result = Result.<Integer, String>scope(outer -> {
+            Result<Integer, String> inner = Result.scope(ctx -> {
+                // binds on the outer scope end it, not the inner one
+                outer.bind(err);
+                return Ok.of(1);
+            });
+            return Ok.of(inner.unwrap() + 1);
+        });
+        Assertions.assertSame(err, result);
+
+        Result<Integer, String> innerErr = Result.scope(outer -> {
+            Result<Integer, String> inner = Result.scope(ctx -> Ok.of(ctx.bind(parse("x"))));
+            int value = outer.bind(inner.isErr() ? Ok.of(41) : inner);
+            return Ok.of(value + 1);
+        });
+        Assertions.assertEquals(Ok.of(42), innerErr);
+    }
+
+    @Test
+    void exceptionsPassThrough() {
+        try {
+            Result.scope(ctx -> {
+                throw new IllegalArgumentException("boom");
+            });
+            Assertions.fail();
+        } catch (IllegalArgumentException e) {
+            Assertions.assertEquals("boom", e.getMessage());
+        }
+    }
+
+    @Test
+    void leakedScope() {
+        AtomicReference<ResultScope<String>> leaked = new AtomicReference<>();
+        Result.<Integer, String>scope(ctx -> {
+            leaked.set(ctx);
+            return Ok.of(1);
+        });
+
+        try {
+            leaked.get().bind(Ok.of(2));
+            Assertions.fail();
+        } catch (IllegalStateException e) {
+            Assertions.assertEquals("Can't bind a Result after its scope ended.", e.getMessage());
+        }
+        try {
+            leaked.get().bind(Err.of("late"));
+            Assertions.fail();
+        } catch (IllegalStateException e) {
+            Assertions.assertEquals("Can't bind a Result after its scope ended.", e.getMessage());
+        }
+    }
+
+    @Test
+    void swallowedEscape() {
+        Result<Integer, String> err = Err.of("outer");
+        Result<Integer, String> result = Result.<Integer, String>scope(outer -> {
+            Result<Integer, String> inner = Result.scope(ctx -> {
+                try {
+                    ctx.bind(Err.of("swallowed"));
+                } catch (Throwable t) {
+                    // user code that swallows the inner exit
+                }
+                outer.bind(err);
+                return Ok.of(1);
+            });
+            return Ok.of(inner.unwrap() + 1);
+        });
+        Assertions.assertSame(err, result);
+    }
+
+    @Test
+    void swallowedEscapeReleased() throws ReflectiveOperationException {
+        Result<Integer, String> result = Result.scope(ctx -> {
+            try {
+                ctx.bind(Err.of("swallowed"));
+            } catch (Throwable t) {
+                // user code that swallows the exit
+            }
+            return Ok.of(1);
+        });
+        Assertions.assertEquals(Ok.of(1), result);
+
+        Field escaping = ResultScope.class.getDeclaredField("ESCAPING");
+        escaping.setAccessible(true);
+        Assertions.assertNull(((ThreadLocal<?>) escaping.get(null)).get());
+    }
+}
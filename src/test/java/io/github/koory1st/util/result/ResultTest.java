@@ -3,6 +3,9 @@ package io.github.koory1st.util.result;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Function;
 
 class ResultTest {
@@ -154,6 +157,36 @@ class ResultTest {
         Assertions.assertNotEquals(Err.of(7), y.flatten());
     }
 
+    @Test
+    void fold() {
+        Result<Integer, String> x = Ok.of(2);
+        Assertions.assertEquals("4", x.fold(v -> String.valueOf(v * 2), e -> e));
+
+        Result<Integer, String> y = Err.of("error");
+        Assertions.assertEquals("error", y.fold(v -> String.valueOf(v * 2), e -> e));
+    }
+
+    @Test
+    void match() {
+        var seen = new ArrayList<Object>();
+        Result<Integer, String> x = Ok.of(2);
+        x.match(seen::add, e -> Assertions.fail());
+        Result<Integer, String> y = Err.of("error");
+        y.match(v -> Assertions.fail(), seen::add);
+        Assertions.assertEquals(List.of(2, "error"), seen);
+    }
+
+    @Test
+    void sealedSwitch() {
+        // no default branch: this only compiles because Result is sealed to Ok and Err
+        Function<Result<Integer, String>, String> describe = result -> switch (result) {
+            case Ok<Integer, String> ok -> "ok " + ok.unwrap();
+            case Err<Integer, String> err -> "err " + err.unwrapErr();
+        };
+        Assertions.assertEquals("ok 2", describe.apply(Ok.of(2)));
+        Assertions.assertEquals("err error", describe.apply(Err.of("error")));
+    }
+
     @Test
     void isErr() {
         var x = Ok.of(-3);
@@ -219,6 +252,17 @@ class ResultTest {
         }
     }
 
+    @Test
+    void mapOrGet() {
+        var x = Ok.of("Foo");
+        Assertions.assertEquals(3, x.mapOrGet(() -> {
+            throw new AssertionError("must not be called");
+        }, String::length));
+
+        Result<String, String> y = Err.of("Bar");
+        Assertions.assertEquals(42, y.mapOrGet(() -> 42, String::length));
+    }
+
     @Test
     void mapOrElse() {
         var k = 21;
@@ -249,6 +293,27 @@ class ResultTest {
         Assertions.assertTrue(z.isOk());
     }
 
+    @Test
+    void mapToPrimitive() {
+        Result<String, String> x = Ok.of("Foo");
+        Assertions.assertEquals(IntOk.of(3), x.mapToInt(String::length));
+        Assertions.assertEquals(LongOk.of(3L), x.mapToLong(String::length));
+        Assertions.assertEquals(DoubleOk.of(3.0), x.mapToDouble(String::length));
+
+        Result<String, String> y = Err.of("Bar");
+        Assertions.assertEquals(IntErr.of("Bar"), y.mapToInt(String::length));
+        Assertions.assertEquals(LongErr.of("Bar"), y.mapToLong(String::length));
+        Assertions.assertEquals(DoubleErr.of("Bar"), y.mapToDouble(String::length));
+
+        Ok<String, String> z = Ok.of();
+        try {
+            z.mapToInt(String::length);
+            Assertions.fail();
+        } catch (Exception e) {
+            Assertions.assertEquals("Can't applying a function to a Empty Ok.", e.getMessage());
+        }
+    }
+
     @Test
     void or() {
         Assertions.assertEquals(Ok.of(2), Ok.of(2).or(Err.of("late error")));
@@ -260,6 +325,17 @@ class ResultTest {
         Assertions.assertEquals(Ok.of(100), Ok.of(2).and(Ok.of(100)));
     }
 
+    @Test
+    void orLazy() {
+        Assertions.assertEquals(Ok.of(2), Ok.of(2).orLazy(() -> {
+            throw new AssertionError("must not be called");
+        }));
+
+        Assertions.assertEquals(Ok.of(2), Err.of("early error").orLazy(() -> Ok.of(2)));
+
+        Assertions.assertEquals(Err.of("late error"), Err.of("not a 2").orLazy(() -> Err.of("late error")));
+    }
+
     @Test
     void orElse() {
         Function<Integer, Result<Integer, Integer>> sq = x -> Ok.of(x * x);
@@ -292,6 +368,16 @@ class ResultTest {
 
     }
 
+    @Test
+    void testHashCode() {
+        Assertions.assertEquals(Ok.of(1).hashCode(), Ok.of(1).hashCode());
+        Assertions.assertEquals(Err.of("error").hashCode(), Err.of("error").hashCode());
+        Assertions.assertEquals(Ok.of().hashCode(), Ok.of().hashCode());
+        Assertions.assertNotEquals(Ok.of("x").hashCode(), Err.of("x").hashCode());
+        Assertions.assertEquals(Set.of(Ok.of(1000), Err.of("error")), Set.of(Ok.of(1000), Err.of("error")));
+        Assertions.assertEquals(IntResult.from(Ok.of(1000)).hashCode(), IntResult.from(Ok.of(1000)).hashCode());
+    }
+
     @Test
     void testToString() {
         Assertions.assertEquals("Ok(1)", Ok.of(1).toString());
@@ -355,6 +441,17 @@ class ResultTest {
         Assertions.assertEquals(defaultValue, y.unwrapOr(defaultValue));
     }
 
+    @Test
+    void unwrapOrGet() {
+        var x = Ok.of(9);
+        Assertions.assertEquals(9, x.unwrapOrGet(() -> {
+            throw new AssertionError("must not be called");
+        }));
+
+        Result<Integer, String> y = Err.of("error");
+        Assertions.assertEquals(2, y.unwrapOrGet(() -> 2));
+    }
+
     @Test
     void unwrapOrElse() {
         Function<String, Integer> count = String::length;
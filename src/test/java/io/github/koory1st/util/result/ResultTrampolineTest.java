@@ -0,0 +1,101 @@
+package io.github.koory1st.util.result;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+class ResultTrampolineTest {
+    private static final int DEEP = 1_000_000;
+
+    private static final class Node {
+        private final Node left;
+        private final Node right;
+        private final int value;
+
+        private Node(int value, Node left, Node right) {
+            this.value = value;
+            this.left = left;
+            this.right = right;
+        }
+    }
+
+    /**
+     * Not tail recursive: both children are validated before their sizes are added.
+     */
+    private static ResultTrampoline<Integer, String> size(Node node) {
+        if (node == null) {
+            return ResultTrampoline.ok(0);
+        }
+        if (node.value < 0) {
+            return ResultTrampoline.err("negative: " + node.value);
+        }
+        return Result.defer(() -> size(node.left))
+                .andThen(left -> ResultTrampoline.<Integer, String>defer(() -> size(node.right))
+                        .map(right -> left + right + 1));
+    }
+
+    private static Node degenerate(int depth, int badAt) {
+        Node node = null;
+        for (int i = depth - 1; i >= 0; i--) {
+            node = i % 2 == 0 ? new Node(i == badAt ? -i : i, node, null) : new Node(i == badAt ? -i : i, null, node);
+        }
+        return node;
+    }
+
+    @Test
+    void deepRecursion() {
+        Assertions.assertEquals(Ok.of(DEEP), size(degenerate(DEEP, -1)).run());
+        Assertions.assertEquals(Err.of("negative: -999999"), size(degenerate(DEEP, DEEP - 1)).run());
+
+        Node balanced = new Node(1, new Node(2, new Node(3, null, null), null), new Node(4, null, null));
+        Assertions.assertEquals(Ok.of(4), size(balanced).run());
+    }
+
+    @Test
+    void leftNested() {
+        ResultTrampoline<Integer, String> count = ResultTrampoline.ok(0);
+        for (int i = 0; i < DEEP; i++) {
+            count = count.map(x -> x + 1);
+        }
+        Assertions.assertEquals(Ok.of(DEEP), count.run());
+    }
+
+    @Test
+    void errSkipsContinuations() {
+        AtomicInteger calls = new AtomicInteger();
+        ResultTrampoline<Integer, String> trampoline = ResultTrampoline.<Integer, String>err("error")
+                .map(x -> calls.incrementAndGet())
+                .andThen(x -> ResultTrampoline.ok(calls.incrementAndGet()));
+        Assertions.assertEquals(Err.of("error"), trampoline.run());
+        Assertions.assertEquals(0, calls.get());
+
+        Result<Integer, String> err = Err.of("done");
+        Assertions.assertSame(err, ResultTrampoline.<Integer, String>ok(1)
+                .andThen(x -> ResultTrampoline.done(err)).map(x -> x + 1).run());
+        Assertions.assertSame(err, ResultTrampoline.done(err).map(x -> x + 1).run());
+        Assertions.assertEquals(Ok.of(1), ResultTrampoline.<Integer, String>ok(1).run());
+    }
+
+    @Test
+    void continuationsOfStepsAndValues() {
+        AtomicInteger calls = new AtomicInteger();
+        ResultTrampoline<Integer, String> trampoline = ResultTrampoline.<Integer, String>defer(() -> ResultTrampoline.ok(calls.incrementAndGet()))
+                .map(x -> x + 10)
+                .andThen(x -> ResultTrampoline.<Integer, String>done(Ok.of(x)).map(y -> y * 2))
+                .andThen(x -> ResultTrampoline.<Integer, String>ok(x).andThen(y -> ResultTrampoline.ok(y + 1)));
+        Assertions.assertEquals(0, calls.get());
+        Assertions.assertEquals(Ok.of(23), trampoline.run());
+        Assertions.assertEquals(Ok.of(25), trampoline.run());
+    }
+
+    @Test
+    void lazyAndRerunnable() {
+        AtomicInteger calls = new AtomicInteger();
+        ResultTrampoline<Integer, String> trampoline = Result.defer(() -> ResultTrampoline.ok(calls.incrementAndGet()));
+        Assertions.assertEquals(0, calls.get());
+        Assertions.assertEquals(Ok.of(1), trampoline.run());
+        Assertions.assertEquals(Ok.of(2), trampoline.run());
+        Assertions.assertEquals(Ok.of(), ResultTrampoline.<Integer, String>ok(1).map(x -> null).run());
+    }
+}
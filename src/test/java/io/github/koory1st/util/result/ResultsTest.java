@@ -0,0 +1,295 @@
+package io.github.koory1st.util.result;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+class ResultsTest {
+
+    private static Result<Integer, String> validate(int x) {
+        if (x < 0) {
+            return Err.of("negative: " + x);
+        }
+        return Ok.of(x);
+    }
+
+    @Test
+    void toList() {
+        Assertions.assertEquals(Ok.of(List.of(1, 2, 3)),
+                Stream.of(1, 2, 3).map(ResultsTest::validate).collect(Results.toList()));
+        Assertions.assertEquals(Err.of("negative: -2"),
+                Stream.of(1, -2, 3, -4).map(ResultsTest::validate).collect(Results.toList()));
+        Assertions.assertEquals(Ok.of(List.of()),
+                Stream.<Result<Integer, String>>empty().collect(Results.toList(0)));
+
+        Assertions.assertEquals(Err.of("negative: -500"),
+                IntStream.range(0, 10_000).parallel().map(x -> x == 500 || x == 9000 ? -x : x)
+                        .mapToObj(ResultsTest::validate).collect(Results.toList()));
+        Assertions.assertEquals(Ok.of(IntStream.range(0, 10_000).boxed().collect(Collectors.toList())),
+                IntStream.range(0, 10_000).parallel().mapToObj(ResultsTest::validate).collect(Results.toList(10_000)));
+    }
+
+    @Test
+    void accumulating() {
+        Assertions.assertEquals(Ok.of(List.of(1, 2, 3)),
+                Stream.of(1, 2, 3).map(ResultsTest::validate).collect(Results.accumulating()));
+        Assertions.assertEquals(Err.of(List.of("negative: -2", "negative: -4")),
+                Stream.of(1, -2, 3, -4).map(ResultsTest::validate).collect(Results.accumulating()));
+
+        var expected = IntStream.range(1, 100_000).filter(x -> x % 7 == 0).mapToObj(x -> "negative: " + -x)
+                .collect(Collectors.toList());
+        Assertions.assertEquals(Err.of(expected),
+                IntStream.range(1, 100_000).parallel().map(x -> x % 7 == 0 ? -x : x)
+                        .mapToObj(ResultsTest::validate).collect(Results.accumulating()));
+    }
+
+    @Test
+    void combineAll() {
+        Assertions.assertEquals(Ok.of(List.of()), Results.combineAll(List.<Result<Integer, String>>of()));
+        Assertions.assertEquals(Ok.of(List.of(1, 2)), Results.combineAll(List.of(validate(1), validate(2))));
+        Assertions.assertEquals(Err.of(List.of("negative: -1", "negative: -3")),
+                Results.combineAll(List.of(validate(-1), validate(2), validate(-3))));
+    }
+
+    @Test
+    void partitioning() {
+        var partition = Stream.of(1, -2, 3, -4).map(ResultsTest::validate).collect(Results.partitioning());
+        Assertions.assertEquals(List.of(1, 3), partition.oks());
+        Assertions.assertEquals(List.of("negative: -2", "negative: -4"), partition.errs());
+    }
+
+    @Test
+    void sequence() {
+        Assertions.assertEquals(Ok.of(List.of(1, 2, 3)), Results.sequence(Stream.of(1, 2, 3).map(ResultsTest::validate)));
+
+        var mapped = new AtomicInteger();
+        var result = Results.sequence(IntStream.range(0, 1_000_000)
+                .map(x -> x == 10 ? -x : x)
+                .peek(x -> mapped.incrementAndGet())
+                .mapToObj(ResultsTest::validate));
+        Assertions.assertEquals(Err.of("negative: -10"), result);
+        Assertions.assertEquals(11, mapped.get());
+    }
+
+    @Test
+    void takeUntilErr() {
+        var mapped = new AtomicInteger();
+        var results = Results.takeUntilErr(IntStream.range(0, 1_000_000)
+                        .map(x -> x == 3 ? -x : x)
+                        .peek(x -> mapped.incrementAndGet())
+                        .mapToObj(ResultsTest::validate))
+                .collect(Collectors.toList());
+        Assertions.assertEquals(List.of(Ok.of(0), Ok.of(1), Ok.of(2), Err.of("negative: -3")), results);
+        Assertions.assertEquals(4, mapped.get());
+
+        Assertions.assertEquals(List.of(Ok.of(1), Ok.of(2)),
+                Results.takeUntilErr(Stream.of(1, 2).map(ResultsTest::validate)).collect(Collectors.toList()));
+
+        var closed = new AtomicInteger();
+        Results.takeUntilErr(Stream.of(1).map(ResultsTest::validate).onClose(closed::incrementAndGet)).close();
+        Assertions.assertEquals(1, closed.get());
+    }
+
+    @Test
+    void traverseParallel() {
+        var inputs = IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+        var result = Results.traverseParallel(inputs, ResultsTest::validate);
+        Assertions.assertEquals(Ok.of(inputs), result);
+
+        var withErrs = IntStream.range(0, 100_000).map(x -> x == 30_000 || x == 70_000 || x == 99_999 ? -x : x)
+                .boxed().collect(Collectors.toList());
+        for (int i = 0; i < 20; i++) {
+            Assertions.assertEquals(Err.of("negative: -30000"), Results.traverseParallel(withErrs, ResultsTest::validate));
+        }
+        Assertions.assertEquals(Err.of("negative: -30000"),
+                Results.traverseParallel(withErrs, ResultsTest::validate, ForkJoinPool.commonPool(), 1));
+
+        Assertions.assertEquals(Ok.of(List.of(1, 2, 3)),
+                Results.traverseParallel(new LinkedList<>(List.of(1, 2, 3)), ResultsTest::validate, ForkJoinPool.commonPool(), 1));
+        Assertions.assertEquals(Ok.of(List.of(1, 2)), Results.traverseParallel(new Integer[]{1, 2}, ResultsTest::validate));
+        Assertions.assertEquals(Ok.of(List.of()), Results.traverseParallel(List.<Integer>of(), ResultsTest::validate));
+
+        try {
+            Results.traverseParallel(inputs, ResultsTest::validate, ForkJoinPool.commonPool(), 0);
+            Assertions.fail();
+        } catch (IllegalArgumentException e) {
+            Assertions.assertEquals("The chunk size must be positive.", e.getMessage());
+        }
+    }
+
+    private static Callable<Result<Integer, String>> sleeping(long millis, Result<Integer, String> result, CountDownLatch interrupted) {
+        return () -> {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+            return result;
+        };
+    }
+
+    @Test
+    void allOk() {
+        List<Callable<Result<Integer, String>>> tasks = List.of(
+                () -> Ok.of(Thread.currentThread().isVirtual() ? 1 : -1),
+                () -> Ok.of(2),
+                () -> Ok.of(3));
+        Assertions.assertEquals(Ok.of(List.of(1, 2, 3)), Results.allOk(tasks));
+        Assertions.assertEquals(Ok.of(List.of()), Results.allOk(List.<Callable<Result<Integer, String>>>of()));
+
+        var interrupted = new CountDownLatch(1);
+        var start = System.nanoTime();
+        var result = Results.allOk(List.of(
+                sleeping(60_000, Ok.of(1), interrupted),
+                () -> Err.of("an error")));
+        Assertions.assertEquals(Err.of("an error"), result);
+        Assertions.assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(30));
+        Assertions.assertDoesNotThrow(() -> Assertions.assertTrue(interrupted.await(10, TimeUnit.SECONDS)));
+
+        var timedOut = new CountDownLatch(1);
+        Assertions.assertEquals(Err.of("timeout"), Results.allOk(List.of(
+                sleeping(60_000, Ok.of(1), timedOut),
+                () -> Ok.of(2)), Duration.ofMillis(50), "timeout", 2));
+        Assertions.assertDoesNotThrow(() -> Assertions.assertTrue(timedOut.await(10, TimeUnit.SECONDS)));
+
+        try {
+            Results.allOk(List.<Callable<Result<Integer, String>>>of(() -> {
+                throw new IllegalStateException("boom");
+            }));
+            Assertions.fail();
+        } catch (IllegalStateException e) {
+            Assertions.assertEquals("boom", e.getMessage());
+        }
+    }
+
+    @Test
+    void fanOutWaitsForInterruptedTasks() {
+        var started = new CountDownLatch(1);
+        var finished = new AtomicBoolean();
+        Callable<Result<Integer, String>> ignoringInterrupts = () -> {
+            started.countDown();
+            long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(200);
+            while (System.nanoTime() < end) {
+                Thread.onSpinWait();
+            }
+            finished.set(true);
+            return Ok.of(1);
+        };
+        Callable<Result<Integer, String>> err = () -> {
+            started.await();
+            return Err.of("an error");
+        };
+
+        Assertions.assertEquals(Err.of("an error"), Results.allOk(List.of(ignoringInterrupts, err)));
+        Assertions.assertTrue(finished.get());
+
+        var release = new AtomicBoolean();
+        var exited = new CountDownLatch(1);
+        Assertions.assertEquals(Err.of("timeout"), Results.allOk(List.<Callable<Result<Integer, String>>>of(() -> {
+            while (!release.get()) {
+                Thread.onSpinWait();
+            }
+            exited.countDown();
+            return Ok.of(1);
+        }), Duration.ofMillis(50), "timeout", 1));
+        // past the timeout, a task ignoring the interruption outlives the call
+        Assertions.assertEquals(1, exited.getCount());
+        release.set(true);
+        Assertions.assertDoesNotThrow(() -> Assertions.assertTrue(exited.await(10, TimeUnit.SECONDS)));
+    }
+
+    @Test
+    void allOkMaxConcurrency() {
+        var running = new AtomicInteger();
+        var maxRunning = new AtomicInteger();
+        var tasks = IntStream.range(0, 50).<Callable<Result<Integer, String>>>mapToObj(i -> () -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(2);
+            running.decrementAndGet();
+            return Ok.of(i);
+        }).collect(Collectors.toList());
+
+        var result = Results.allOk(tasks, Duration.ofSeconds(30), "timeout", 3);
+        Assertions.assertEquals(Ok.of(IntStream.range(0, 50).boxed().collect(Collectors.toList())), result);
+        Assertions.assertTrue(maxRunning.get() <= 3);
+
+        try {
+            Results.allOk(tasks, Duration.ofSeconds(1), "timeout", 0);
+            Assertions.fail();
+        } catch (IllegalArgumentException e) {
+            Assertions.assertEquals("The max concurrency must be positive.", e.getMessage());
+        }
+    }
+
+    @Test
+    void firstOk() {
+        var interrupted = new CountDownLatch(1);
+        var result = Results.firstOk(List.of(
+                sleeping(60_000, Ok.of(1), interrupted),
+                () -> Err.of("an error"),
+                sleeping(10, Ok.of(3), new CountDownLatch(1))));
+        Assertions.assertEquals(Ok.of(3), result);
+        Assertions.assertDoesNotThrow(() -> Assertions.assertTrue(interrupted.await(10, TimeUnit.SECONDS)));
+
+        Assertions.assertEquals(Err.of(List.of("a", "b")), Results.firstOk(List.<Callable<Result<Integer, String>>>of(
+                () -> Err.of("a"),
+                () -> Err.of("b"))));
+
+        Assertions.assertEquals(Err.of(List.of("timeout", "b")), Results.firstOk(List.of(
+                sleeping(60_000, Ok.of(1), new CountDownLatch(1)),
+                () -> Err.of("b")), Duration.ofMillis(50), "timeout", 2));
+
+        Result<Integer, String> empty = Ok.of();
+        Assertions.assertSame(empty, Results.firstOk(List.<Callable<Result<Integer, String>>>of(() -> empty)));
+    }
+
+    @Test
+    void fanOutReturnsTheDecidingResult() {
+        Result<Integer, String> err = Err.of("an error");
+        Assertions.assertSame(err, Results.allOk(List.<Callable<Result<Integer, String>>>of(() -> Ok.of(1), () -> err)));
+        Result<Integer, String> ok = Ok.of(1);
+        Assertions.assertSame(ok, Results.firstOk(List.<Callable<Result<Integer, String>>>of(() -> ok)));
+    }
+
+    @Test
+    void zipAndCombine() {
+        Result<Integer, String> one = Ok.of(1);
+        Result<Integer, String> two = Ok.of(2);
+        Result<Integer, String> err1 = Err.of("err1");
+        Result<Integer, String> err2 = Err.of("err2");
+
+        Assertions.assertEquals(Ok.of(Map.entry(1, 2)), Results.zip(one, two));
+        Assertions.assertSame(err1, Results.zip(one, err1));
+        Assertions.assertEquals(Ok.of(3), Results.combine(one, two, Integer::sum));
+        Assertions.assertEquals(Ok.of(), Results.combine(one, two, (a, b) -> null));
+        Assertions.assertEquals(Ok.of("1,2,1"), Results.combine(one, two, one, (a, b, c) -> a + "," + b + "," + c));
+        Assertions.assertEquals(Ok.of(12), Results.combine(one, two, one, two, one, two, one, two,
+                (a, b, c, d, e, f, g, h) -> a + b + c + d + e + f + g + h));
+        Assertions.assertEquals(Ok.of(List.of(1, 2, 1, 2, 1, 2)), Results.combine(one, two, one, two, one, two,
+                List::of));
+
+        AtomicInteger calls = new AtomicInteger();
+        Assertions.assertSame(err1, Results.combine(one, err1, two, err2, (a, b, c, d) -> calls.incrementAndGet()));
+        Assertions.assertSame(err2, Results.combine(one, two, one, two, err2, err1, one,
+                (a, b, c, d, e, f, g) -> calls.incrementAndGet()));
+        Assertions.assertSame(err1, Results.combine(one, two, one, two, one, err1,
+                (a, b, c, d, e, f) -> calls.incrementAndGet()));
+        Assertions.assertSame(err2, Results.combine(one, two, one, two, err2,
+                (a, b, c, d, e) -> calls.incrementAndGet()));
+        Assertions.assertEquals(0, calls.get());
+    }
+}
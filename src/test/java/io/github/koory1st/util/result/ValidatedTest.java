@@ -0,0 +1,80 @@
+package io.github.koory1st.util.result;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class ValidatedTest {
+
+    private static Result<String, String> notBlank(String s) {
+        return s.isBlank() ? Err.of("blank") : Ok.of(s);
+    }
+
+    private static Result<String, String> shorterThan(String s, int length) {
+        return s.length() < length ? Ok.of(s) : Err.of("longer than " + length);
+    }
+
+    @Test
+    void collectsEveryErr() {
+        Validated<String, String> valid = Validated.<String, String>of("foo")
+                .check(ValidatedTest::notBlank)
+                .check(s -> shorterThan(s, 5));
+        Assertions.assertTrue(valid.isValid());
+        Assertions.assertEquals(Ok.of("foo"), valid.toResult());
+        Assertions.assertEquals("Valid(foo)", valid.toString());
+
+        Validated<String, String> invalid = Validated.<String, String>of("     ")
+                .check(ValidatedTest::notBlank)
+                .check(s -> shorterThan(s, 5))
+                .check(Ok.of(1))
+                .check(Err.of("other"));
+        Assertions.assertFalse(invalid.isValid());
+        Assertions.assertEquals(List.of("blank", "longer than 5", "other"), invalid.errs());
+        Assertions.assertEquals(Err.of(List.of("blank", "longer than 5", "other")), invalid.toResult());
+        Assertions.assertEquals("Invalid([blank, longer than 5, other])", invalid.toString());
+
+        try {
+            invalid.errs().add("nope");
+            Assertions.fail();
+        } catch (UnsupportedOperationException ignored) {
+        }
+    }
+
+    @Test
+    void toResultIsASnapshot() {
+        Validated<String, String> validated = Validated.<String, String>of("").check(ValidatedTest::notBlank);
+        Result<String, List<String>> result = validated.toResult();
+        validated.check(Err.of("later"));
+        Assertions.assertEquals(Err.of(List.of("blank")), result);
+        Assertions.assertEquals(Err.of(List.of("blank", "later")), validated.toResult());
+        try {
+            result.err().get(1);
+            Assertions.fail();
+        } catch (IndexOutOfBoundsException ignored) {
+        }
+
+        // appending to itself doubles the Errs, once
+        validated.checkAll(validated);
+        Assertions.assertEquals(List.of("blank", "later", "blank", "later"), validated.errs());
+    }
+
+    @Test
+    void importOfManyRows() {
+        Validated<String, String> all = Validated.of("import");
+        var expected = new ArrayList<String>();
+        for (int row = 0; row < 100_000; row++) {
+            String name = row % 3 == 0 ? "" : "row" + row;
+            Validated<String, String> validated = Validated.<String, String>of(name)
+                    .check(ValidatedTest::notBlank)
+                    .check(s -> shorterThan(s, 8));
+            all.checkAll(validated);
+            expected.addAll(validated.errs());
+        }
+
+        Assertions.assertEquals(33_334 + 90_000 - 30_000, all.errs().size());
+        Assertions.assertEquals(expected, all.errs());
+        Assertions.assertEquals("blank", all.errs().get(0));
+    }
+}